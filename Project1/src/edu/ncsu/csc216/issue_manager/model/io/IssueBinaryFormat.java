@@ -0,0 +1,311 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Compact binary encoding of Issue lists. A file starts with a magic number and
+ * a format version, followed by the number of issues and then each issue. IDs
+ * and lengths are varints, the state, type, and resolution are single byte
+ * codes, and Strings are length prefixed UTF-8, so loading needs no text
+ * parsing.
+ *
+ * @author yash
+ *
+ */
+public class IssueBinaryFormat {
+
+	/** File name extension that selects the binary format when saving */
+	public static final String EXTENSION = ".bin";
+	/** First bytes of every binary issue file */
+	public static final byte[] MAGIC = { 'I', 'S', 'S', 'B' };
+	/** Version of the format written by this class */
+	public static final int VERSION = 1;
+
+	/**
+	 * State names in the order of their codes, which is the order of the state
+	 * codes of Issue's constructor
+	 */
+	private static final String[] STATES = { Issue.NEW_NAME, Issue.WORKING_NAME, Issue.CONFIRMED_NAME,
+			Issue.VERIFYING_NAME, Issue.CLOSED_NAME };
+	/** Issue types in the order of their codes */
+	private static final String[] TYPES = { Issue.I_ENHANCEMENT, Issue.I_BUG };
+	/** Resolutions in the order of their codes, where code 0 is no resolution */
+	private static final String[] RESOLUTIONS = { null, Command.R_FIXED, Command.R_DUPLICATE, Command.R_WONTFIX,
+			Command.R_WORKSFORME };
+	/** Issue types of each code of TYPES */
+	private static final IssueType[] ISSUE_TYPES = { IssueType.ENHANCEMENT, IssueType.BUG };
+	/** Resolutions of each code of RESOLUTIONS */
+	private static final Resolution[] RESOLUTION_VALUES = { null, Resolution.FIXED, Resolution.DUPLICATE,
+			Resolution.WONTFIX, Resolution.WORKSFORME };
+
+	/**
+	 * Checks if a file name selects the binary format
+	 *
+	 * @param fileName String name of the file
+	 * @return true if the name ends in EXTENSION, before any
+	 *         IssueCompression.EXTENSION
+	 */
+	public static boolean hasBinaryExtension(String fileName) {
+		return IssueCompression.stripExtension(fileName).endsWith(EXTENSION);
+	}
+
+	/**
+	 * Writes the magic number, version, and issue count that start a file
+	 *
+	 * @param out   stream the header is written to
+	 * @param count number of issues in the file
+	 * @throws IOException if the stream cannot be written
+	 */
+	static void writeHeader(DataOutputStream out, int count) throws IOException {
+		out.write(MAGIC);
+		writeVarint(out, VERSION);
+		writeVarint(out, count);
+	}
+
+	/**
+	 * Writes one Issue
+	 *
+	 * @param out   stream the Issue is written to
+	 * @param issue Issue to write
+	 * @throws IOException if the stream cannot be written
+	 */
+	static void writeIssue(DataOutputStream out, Issue issue) throws IOException {
+		writeVarint(out, issue.getIssueId());
+		out.writeByte(indexOf(STATES, issue.getStateName()));
+		out.writeByte(indexOf(TYPES, issue.getIssueType()));
+		out.writeByte(indexOf(RESOLUTIONS, issue.getResolution()));
+		out.writeBoolean(issue.isConfirmed());
+		writeString(out, issue.getSummary());
+		writeString(out, issue.getOwner());
+		ArrayList<String> notes = issue.readNotes();
+		writeVarint(out, notes.size());
+		for (int i = 0; i < notes.size(); i++) {
+			writeString(out, notes.get(i));
+		}
+	}
+
+	/**
+	 * Reads one Issue from the record of an index entry
+	 *
+	 * @param bytes  array holding the record
+	 * @param offset start of the record in the array
+	 * @param length length of the record
+	 * @return issue the Issue that was read
+	 * @throws IllegalArgumentException if the record is not a valid Issue
+	 */
+	static Issue readIssue(byte[] bytes, int offset, int length) {
+		return readIssue(new Decoder(bytes, offset, offset + length));
+	}
+
+	/**
+	 * Reads every Issue of a whole binary issue file held in an array. Decoding
+	 * from the array instead of through a DataInputStream saves a stream call for
+	 * every byte, and each String is decoded straight out of the array.
+	 *
+	 * @param bytes contents of the file
+	 * @return issues ArrayList of the Issues in the file
+	 * @throws IllegalArgumentException if the bytes are not a valid binary issue
+	 *                                  file of a supported version
+	 */
+	static ArrayList<Issue> readIssues(byte[] bytes) {
+		Decoder in = new Decoder(bytes, 0, bytes.length);
+		for (int i = 0; i < MAGIC.length; i++) {
+			if (in.readByte() != MAGIC[i]) {
+				throw new IllegalArgumentException("Unable to load file.");
+			}
+		}
+		if (in.readVarint() != VERSION) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+		int count = in.readVarint();
+		ArrayList<Issue> issues = new ArrayList<Issue>(count);
+		for (int i = 0; i < count; i++) {
+			issues.add(readIssue(in));
+		}
+		return issues;
+	}
+
+	/**
+	 * Decodes one Issue. The Issue is built from the codes without parsing names,
+	 * and the constructor still checks the fields as the text format's
+	 * constructor does, since the file may have been damaged or written by
+	 * another program.
+	 *
+	 * @param in Decoder at the start of the Issue
+	 * @return issue the Issue that was read
+	 * @throws IllegalArgumentException if a code is out of range, the record is
+	 *                                  cut off, or the Issue is not valid
+	 */
+	private static Issue readIssue(Decoder in) {
+		int id = in.readVarint();
+		int state = checkCode(STATES, in.readByte());
+		IssueType type = ISSUE_TYPES[checkCode(TYPES, in.readByte())];
+		Resolution resolution = RESOLUTION_VALUES[checkCode(RESOLUTIONS, in.readByte())];
+		boolean confirmed = in.readByte() != 0;
+		String summary = in.readString();
+		String owner = in.readString();
+		int noteCount = in.readVarint();
+		ArrayList<String> notes = new ArrayList<String>(Math.min(noteCount, 16));
+		for (int i = 0; i < noteCount; i++) {
+			notes.add(in.readString());
+		}
+		try {
+			return new Issue(id, state, type, summary, owner, confirmed, resolution, notes);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+	}
+
+	/**
+	 * Writes a non-negative int as a varint, seven bits per byte with the high bit
+	 * set on every byte but the last
+	 *
+	 * @param out   stream the value is written to
+	 * @param value int value to write
+	 * @throws IOException if the stream cannot be written
+	 */
+	static void writeVarint(DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	/**
+	 * Writes a String, which may be null, as a varint of its UTF-8 length plus one
+	 * followed by its bytes, with 0 standing for null
+	 *
+	 * @param out    stream the String is written to
+	 * @param string String to write
+	 * @throws IOException if the stream cannot be written
+	 */
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		if (string == null) {
+			writeVarint(out, 0);
+		} else {
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			writeVarint(out, bytes.length + 1);
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * Finds the code of a value
+	 *
+	 * @param values values in the order of their codes
+	 * @param value  value to find
+	 * @return code of the value
+	 * @throws IllegalArgumentException if the value has no code
+	 */
+	private static int indexOf(String[] values, String value) {
+		for (int i = 0; i < values.length; i++) {
+			if (value == null ? values[i] == null : value.equals(values[i])) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Unable to save file.");
+	}
+
+	/**
+	 * Checks that a code is in range
+	 *
+	 * @param values values in the order of their codes
+	 * @param code   code to check
+	 * @return code the code that was checked
+	 * @throws IllegalArgumentException if the code is out of range
+	 */
+	private static int checkCode(String[] values, byte code) {
+		if (code < 0 || code >= values.length) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+		return code;
+	}
+
+	/**
+	 * Position in an array of binary issue data that values are decoded from
+	 *
+	 * @author yash
+	 *
+	 */
+	static class Decoder {
+
+		/** Bytes being decoded */
+		private final byte[] bytes;
+		/** Index of the next byte to decode */
+		private int position;
+		/** Index after the last byte that may be decoded */
+		private final int end;
+
+		/**
+		 * Creates a Decoder over part of an array
+		 *
+		 * @param bytes bytes to decode
+		 * @param start index of the first byte to decode
+		 * @param end   index after the last byte to decode
+		 */
+		Decoder(byte[] bytes, int start, int end) {
+			this.bytes = bytes;
+			this.position = start;
+			this.end = end;
+		}
+
+		/**
+		 * Decodes one byte
+		 *
+		 * @return value of the byte
+		 * @throws IllegalArgumentException if there are no bytes left
+		 */
+		byte readByte() {
+			if (position >= end) {
+				throw new IllegalArgumentException("Unable to load file.");
+			}
+			return bytes[position++];
+		}
+
+		/**
+		 * Decodes a varint written by writeVarint()
+		 *
+		 * @return value int value that was written
+		 * @throws IllegalArgumentException if the varint is too long or cut off
+		 */
+		int readVarint() {
+			int value = 0;
+			for (int shift = 0; shift < 32; shift += 7) {
+				int b = readByte();
+				value |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+
+		/**
+		 * Decodes a String written by writeString()
+		 *
+		 * @return string String that was written, or null
+		 * @throws IllegalArgumentException if the String is cut off
+		 */
+		String readString() {
+			int length = readVarint() - 1;
+			if (length < 0) {
+				return null;
+			}
+			if (length > end - position) {
+				throw new IllegalArgumentException("Unable to load file.");
+			}
+			String string = new String(bytes, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return string;
+		}
+	}
+}
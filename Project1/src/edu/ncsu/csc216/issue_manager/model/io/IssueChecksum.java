@@ -0,0 +1,137 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Per-record checksums for text issue files. A checksummed file starts with the
+ * line FILE_MARKER, and every record is followed by a trailer line of '#' and
+ * the eight hex digits of the CRC32C of the record's bytes, from its '*' through
+ * the line terminator of its last note. Readers that do not check the
+ * checksums skip both kinds of line.
+ *
+ * @author yash
+ *
+ */
+public class IssueChecksum {
+
+	/** First line of every checksummed file */
+	public static final String FILE_MARKER = "#crc32c";
+	/** Bytes of the first line of every checksummed file, with its terminator */
+	static final byte[] FILE_MARKER_LINE = (FILE_MARKER + "\n").getBytes(StandardCharsets.US_ASCII);
+	/** Number of characters in a trailer line without its terminator */
+	static final int TRAILER_LENGTH = 9;
+	/** Hex digits in the order of their values */
+	private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Computes the CRC32C of bytes
+	 *
+	 * @param bytes  bytes to check
+	 * @param length number of bytes to check from the start of the array
+	 * @return crc the checksum
+	 */
+	static int checksum(byte[] bytes, int length) {
+		CRC32C crc = new CRC32C();
+		crc.update(bytes, 0, length);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Creates the trailer line of a record
+	 *
+	 * @param record bytes of the record
+	 * @return trailer bytes of the trailer line, with its terminator
+	 */
+	static byte[] trailer(byte[] record) {
+		return trailer(record, record.length);
+	}
+
+	/**
+	 * Creates the trailer line of a record at the start of an array
+	 *
+	 * @param record bytes that start with the record
+	 * @param length number of bytes in the record
+	 * @return trailer bytes of the trailer line, with its terminator
+	 */
+	static byte[] trailer(byte[] record, int length) {
+		int crc = checksum(record, length);
+		byte[] trailer = new byte[TRAILER_LENGTH + 1];
+		trailer[0] = '#';
+		for (int i = 0; i < 8; i++) {
+			trailer[8 - i] = HEX[(crc >>> (4 * i)) & 0xF];
+		}
+		trailer[TRAILER_LENGTH] = '\n';
+		return trailer;
+	}
+
+	/**
+	 * Checks if a line is a trailer line
+	 *
+	 * @param line line without its terminator
+	 * @return true if the line is '#' and eight hex digits
+	 */
+	static boolean isTrailer(CharSequence line) {
+		if (line.length() != TRAILER_LENGTH || line.charAt(0) != '#') {
+			return false;
+		}
+		for (int i = 1; i < TRAILER_LENGTH; i++) {
+			if (Character.digit(line.charAt(i), 16) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the checksum in a trailer line
+	 *
+	 * @param line   bytes of the line
+	 * @param length number of bytes in the line without its terminator
+	 * @return checksum the checksum as a long from 0 to 0xFFFFFFFF, or -1 if the
+	 *         line is not a trailer line
+	 */
+	static long parseTrailer(byte[] line, int length) {
+		if (length != TRAILER_LENGTH || line[0] != '#') {
+			return -1;
+		}
+		long crc = 0;
+		for (int i = 1; i < TRAILER_LENGTH; i++) {
+			int digit = Character.digit(line[i], 16);
+			if (digit < 0) {
+				return -1;
+			}
+			crc = (crc << 4) | digit;
+		}
+		return crc;
+	}
+
+	/**
+	 * Checks if a line is the line that starts a checksummed file
+	 *
+	 * @param line line without its terminator
+	 * @return true if the line is FILE_MARKER
+	 */
+	static boolean isFileMarker(CharSequence line) {
+		return FILE_MARKER.contentEquals(line);
+	}
+
+	/**
+	 * Checks if a line is the line that starts a checksummed file
+	 *
+	 * @param line   bytes of the line
+	 * @param length number of bytes in the line without its terminator
+	 * @return true if the line is FILE_MARKER
+	 */
+	static boolean isFileMarker(byte[] line, int length) {
+		if (length != FILE_MARKER.length()) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (line[i] != FILE_MARKER.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,111 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Opens issue files through GZIP compression. Files are compressed when they are
+ * saved under a name ending in EXTENSION and are recognized by the GZIP magic
+ * number when they are read, whatever their name. Both directions hand the
+ * compressor large blocks, since deflating and inflating in small pieces costs
+ * more than the I/O that compression saves.
+ *
+ * @author yash
+ *
+ */
+public class IssueCompression {
+
+	/** File name extension that selects compression when saving */
+	public static final String EXTENSION = ".gz";
+	/** Number of bytes buffered on each side of the compressor */
+	static final int BUFFER_SIZE = 256 * 1024;
+	/** First two bytes of every GZIP stream */
+	private static final int[] MAGIC = { 0x1F, 0x8B };
+
+	/**
+	 * Checks if a file name selects compression
+	 *
+	 * @param fileName String name of the file
+	 * @return true if the name ends in EXTENSION
+	 */
+	public static boolean hasCompressedExtension(String fileName) {
+		return fileName.endsWith(EXTENSION);
+	}
+
+	/**
+	 * Removes EXTENSION from the end of a file name
+	 *
+	 * @param fileName String name of the file
+	 * @return the name without EXTENSION, or the name itself if it does not end in
+	 *         EXTENSION
+	 */
+	static String stripExtension(String fileName) {
+		if (hasCompressedExtension(fileName)) {
+			return fileName.substring(0, fileName.length() - EXTENSION.length());
+		}
+		return fileName;
+	}
+
+	/**
+	 * Opens a file for writing
+	 *
+	 * @param file     file to write
+	 * @param compress true if the file should be compressed
+	 * @return stream the file is written through
+	 * @throws IOException if the file cannot be opened
+	 */
+	static OutputStream openOutput(File file, boolean compress) throws IOException {
+		FileOutputStream out = new FileOutputStream(file);
+		if (!compress) {
+			return out;
+		}
+		return new BufferedOutputStream(new GZIPOutputStream(out, BUFFER_SIZE), BUFFER_SIZE);
+	}
+
+	/**
+	 * Opens a file for reading, decompressing it if it starts with the GZIP magic
+	 * number
+	 *
+	 * @param fileName   String name of the file to read
+	 * @param bufferSize number of bytes to buffer from an uncompressed file
+	 * @return stream of the file's uncompressed bytes, which supports mark()
+	 * @throws IOException if the file cannot be opened
+	 */
+	static BufferedInputStream openInput(String fileName, int bufferSize) throws IOException {
+		BufferedInputStream in = new BufferedInputStream(new FileInputStream(fileName), bufferSize);
+		try {
+			if (isCompressed(in)) {
+				return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+			}
+			return in;
+		} catch (IOException e) {
+			in.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Checks if a stream starts with the GZIP magic number without consuming any
+	 * bytes
+	 *
+	 * @param in stream to check
+	 * @return true if the stream is compressed
+	 * @throws IOException if the stream cannot be read
+	 */
+	static boolean isCompressed(BufferedInputStream in) throws IOException {
+		in.mark(MAGIC.length);
+		boolean matches = true;
+		for (int i = 0; i < MAGIC.length && matches; i++) {
+			matches = in.read() == MAGIC[i];
+		}
+		in.reset();
+		return matches;
+	}
+}
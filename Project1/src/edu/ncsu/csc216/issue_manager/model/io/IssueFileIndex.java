@@ -0,0 +1,174 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+/**
+ * Sidecar index of an issue file that maps each issue ID to the byte offset and
+ * length of its record. The index file starts with a magic number, the length
+ * of the issue file it was written for, and the number of entries, followed by
+ * fixed size entries sorted by ID, so an ID can be found with a binary search
+ * over the file without reading the whole index.
+ *
+ * @author yash
+ *
+ */
+public class IssueFileIndex {
+
+	/** Suffix added to the name of an issue file to get the name of its index */
+	public static final String EXTENSION = ".idx";
+	/** First bytes of every index file */
+	public static final byte[] MAGIC = { 'I', 'S', 'S', 'X' };
+	/** Number of bytes before the first entry */
+	static final int HEADER_SIZE = 4 + 8 + 4;
+	/** Number of bytes in each entry: an int ID, a long offset, and an int length */
+	static final int ENTRY_SIZE = 4 + 8 + 4;
+
+	/** IDs of the entries in the order they were added */
+	private int[] ids;
+	/** Offsets of the records in the order they were added */
+	private long[] offsets;
+	/** Lengths of the records in the order they were added */
+	private int[] lengths;
+	/** Number of entries */
+	private int size;
+
+	/**
+	 * Constructs an empty IssueFileIndex
+	 *
+	 * @param capacity number of entries expected
+	 */
+	IssueFileIndex(int capacity) {
+		ids = new int[Math.max(capacity, 1)];
+		offsets = new long[ids.length];
+		lengths = new int[ids.length];
+	}
+
+	/**
+	 * Gets the name of the index file of an issue file
+	 *
+	 * @param fileName String name of the issue file
+	 * @return name of its index file
+	 */
+	public static String getIndexFileName(String fileName) {
+		return fileName + EXTENSION;
+	}
+
+	/**
+	 * Adds the record of an Issue
+	 *
+	 * @param id     ID of the Issue
+	 * @param offset byte offset of the record in the issue file
+	 * @param length number of bytes in the record
+	 */
+	void add(int id, long offset, int length) {
+		if (size == ids.length) {
+			ids = Arrays.copyOf(ids, size * 2);
+			offsets = Arrays.copyOf(offsets, size * 2);
+			lengths = Arrays.copyOf(lengths, size * 2);
+		}
+		ids[size] = id;
+		offsets[size] = offset;
+		lengths[size] = length;
+		size++;
+	}
+
+	/**
+	 * Writes the index of an issue file. Entries are sorted by ID first if they
+	 * were not added in order.
+	 *
+	 * @param fileName   String name of the issue file
+	 * @param dataLength length of the issue file in bytes
+	 * @throws IOException if the index file cannot be written
+	 */
+	void write(String fileName, long dataLength) throws IOException {
+		int[] order = sortedOrder();
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(getIndexFileName(fileName))))) {
+			out.write(MAGIC);
+			out.writeLong(dataLength);
+			out.writeInt(size);
+			for (int i = 0; i < size; i++) {
+				int entry = order == null ? i : order[i];
+				out.writeInt(ids[entry]);
+				out.writeLong(offsets[entry]);
+				out.writeInt(lengths[entry]);
+			}
+		}
+	}
+
+	/**
+	 * Reads the header of an index file and checks that it matches its issue file
+	 *
+	 * @param index      open index file
+	 * @param dataLength current length of the issue file in bytes
+	 * @return count number of entries in the index
+	 * @throws IOException              if the index file cannot be read
+	 * @throws IllegalArgumentException if the file is not an index or was written
+	 *                                  for a different version of the issue file
+	 */
+	static int readHeader(RandomAccessFile index, long dataLength) throws IOException {
+		byte[] magic = new byte[MAGIC.length];
+		index.seek(0);
+		index.readFully(magic);
+		if (!Arrays.equals(magic, MAGIC) || index.readLong() != dataLength) {
+			throw new IllegalArgumentException("Issue file index is out of date.");
+		}
+		return index.readInt();
+	}
+
+	/**
+	 * Finds the first entry whose ID is at least the given ID
+	 *
+	 * @param index open index file
+	 * @param count number of entries in the index
+	 * @param id    ID to search for
+	 * @return position of the entry, or count if every ID is smaller
+	 * @throws IOException if the index file cannot be read
+	 */
+	static int search(RandomAccessFile index, int count, int id) throws IOException {
+		int low = 0;
+		int high = count;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			index.seek(HEADER_SIZE + (long) mid * ENTRY_SIZE);
+			if (index.readInt() < id) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Finds the order that sorts the entries by ID
+	 *
+	 * @return positions of the entries in ID order, or null if they are already
+	 *         in order
+	 */
+	private int[] sortedOrder() {
+		boolean sorted = true;
+		for (int i = 1; i < size && sorted; i++) {
+			sorted = ids[i - 1] <= ids[i];
+		}
+		if (sorted) {
+			return null;
+		}
+		// IDs are positive, so packing each ID above its position sorts by ID
+		long[] keys = new long[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = (long) ids[i] << 32 | i;
+		}
+		Arrays.sort(keys);
+		int[] order = new int[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = (int) keys[i];
+		}
+		return order;
+	}
+}
@@ -0,0 +1,224 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Objects;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Keeps track of how much of a text issue file has been read, so records other
+ * tools append to it can be read without reading the whole file again. The last
+ * record read is read again along with the appended bytes, since notes may be
+ * appended to it, and is only returned again if it grew. A record at the end of
+ * the file is only read once it has a note and a whole last line, since it may
+ * still be being written.
+ *
+ * @author yash
+ *
+ */
+public class IssueFileTail {
+
+	/** Number of bytes read at a time while looking for the last record */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** File being followed */
+	private Path path;
+	/** Identity of the file when it was last read, or null if the system has none */
+	private Object fileKey;
+	/** Position in the file of the last record read, where the next read starts */
+	private long recordStart;
+	/** Position in the file just after the last whole record read */
+	private long readEnd;
+	/** Size of the file when it was last read */
+	private long size;
+
+	/**
+	 * Starts following a text issue file from its current end. Create the tail
+	 * before reading the file, so records appended while it is read are read by
+	 * the first call to readAppended().
+	 *
+	 * @param fileName String name of the file
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	public IssueFileTail(String fileName) {
+		path = Paths.get(fileName);
+		reset();
+	}
+
+	/**
+	 * Gets the name of the file being followed
+	 *
+	 * @return fileName String name of the file
+	 */
+	public String getFileName() {
+		return path.toString();
+	}
+
+	/**
+	 * Checks if a file name names the file being followed
+	 *
+	 * @param fileName String name of a file
+	 * @return true if the name resolves to the same path
+	 */
+	public boolean follows(String fileName) {
+		return path.toAbsolutePath().normalize().equals(Paths.get(fileName).toAbsolutePath().normalize());
+	}
+
+	/**
+	 * Starts following the file from its current end again, such as after it was
+	 * written over with a whole list
+	 *
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	public synchronized void reset() {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+			size = channel.size();
+			readEnd = size;
+			recordStart = findLastRecord(channel, size);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+	}
+
+	/**
+	 * Reads the records appended to the file since it was last read. The last
+	 * record read before is included again, with any notes appended to it.
+	 *
+	 * @return issues ArrayList of the Issues appended or changed, in file order,
+	 *         or null if the file was replaced or shortened and has to be read
+	 *         again from the start
+	 * @throws IllegalArgumentException if the file cannot be read or an appended
+	 *                                  record is not a valid Issue
+	 */
+	public synchronized ArrayList<Issue> readAppended() {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			Object key = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+			long end = channel.size();
+			if (!Objects.equals(key, fileKey) || end < size || end - recordStart > Integer.MAX_VALUE) {
+				return null;
+			}
+			size = end;
+			if (end == readEnd) {
+				return new ArrayList<Issue>();
+			}
+			byte[] bytes = new byte[(int) (end - recordStart)];
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, recordStart + buffer.position()) < 0) {
+					return null;
+				}
+			}
+			int complete = findCompleteEnd(bytes);
+			int lastRecord = findLastRecord(bytes, complete);
+			ArrayList<Issue> issues = IssueReader.readIssues(
+					new StringReader(new String(bytes, 0, complete, StandardCharsets.UTF_8)));
+			int previous = (int) (readEnd - recordStart);
+			if (previous > 0 && !issues.isEmpty() && findNextRecord(bytes, complete) == previous) {
+				// Nothing was appended to the last record read, so it is left as it is
+				issues.remove(0);
+			}
+			readEnd = recordStart + complete;
+			recordStart += lastRecord;
+			return issues;
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+	}
+
+	/**
+	 * Finds where the records that have been fully written end. Bytes after the
+	 * last line terminator are a line still being written, and a last record
+	 * without a note is a record still being written.
+	 *
+	 * @param bytes bytes from the start of a record to the end of the file
+	 * @return number of bytes holding whole records
+	 */
+	private static int findCompleteEnd(byte[] bytes) {
+		int end = bytes.length;
+		while (end > 0 && bytes[end - 1] != '\n' && bytes[end - 1] != '\r') {
+			end--;
+		}
+		int lastRecord = findLastRecord(bytes, end);
+		for (int i = lastRecord; i < end - 1; i++) {
+			if ((bytes[i] == '\n' || bytes[i] == '\r') && bytes[i + 1] == '-') {
+				return end;
+			}
+		}
+		return lastRecord;
+	}
+
+	/**
+	 * Finds the start of the second record header in the first bytes of an array
+	 *
+	 * @param bytes  bytes to search, starting with a record
+	 * @param length number of bytes to search
+	 * @return position of the first line after the first one starting with '*',
+	 *         or length if there is none
+	 */
+	private static int findNextRecord(byte[] bytes, int length) {
+		for (int i = 1; i < length; i++) {
+			if (bytes[i] == '*' && (bytes[i - 1] == '\n' || bytes[i - 1] == '\r')) {
+				return i;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * Finds the start of the last record header in the first bytes of an array
+	 *
+	 * @param bytes  bytes to search
+	 * @param length number of bytes to search
+	 * @return position of the last line starting with '*', or 0 if there is none
+	 */
+	private static int findLastRecord(byte[] bytes, int length) {
+		for (int i = length - 1; i > 0; i--) {
+			if (bytes[i] == '*' && (bytes[i - 1] == '\n' || bytes[i - 1] == '\r')) {
+				return i;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Finds the start of the last record header in the first bytes of a file,
+	 * reading backwards from the end
+	 *
+	 * @param channel channel of the file
+	 * @param length  number of bytes to search
+	 * @return position of the last line starting with '*', or 0 if there is none
+	 * @throws IOException if the file cannot be read
+	 */
+	private static long findLastRecord(FileChannel channel, long length) throws IOException {
+		byte[] bytes = new byte[BUFFER_SIZE + 1];
+		long end = length;
+		while (end > 0) {
+			long start = Math.max(0, end - BUFFER_SIZE);
+			// One byte before the block shows if the block's first byte starts a line
+			long from = Math.max(0, start - 1);
+			ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, (int) (end - from));
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, from + buffer.position()) < 0) {
+					return 0;
+				}
+			}
+			int found = findLastRecord(bytes, (int) (end - from));
+			if (found > 0) {
+				return from + found;
+			}
+			end = start;
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,85 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Watches an issue file for changes made by other programs with a
+ * WatchService, and runs a callback on a background thread whenever the file is
+ * written or replaced. Several changes reported together run the callback once.
+ *
+ * @author yash
+ *
+ */
+public class IssueFileWatcher implements Closeable {
+
+	/** Service the file's directory is registered with */
+	private WatchService service;
+
+	/**
+	 * Starts watching a file
+	 *
+	 * @param fileName String name of the file to watch
+	 * @param onChange callback run on the watching thread after the file changes
+	 * @throws IOException if the file's directory cannot be watched
+	 */
+	public IssueFileWatcher(String fileName, Runnable onChange) throws IOException {
+		Path file = Paths.get(fileName).toAbsolutePath();
+		Path name = file.getFileName();
+		service = FileSystems.getDefault().newWatchService();
+		try {
+			file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException | RuntimeException e) {
+			service.close();
+			throw e;
+		}
+		Thread thread = new Thread(() -> watch(name, onChange), "IssueFileWatcher " + name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stops watching the file. The callback is not run again once this returns,
+	 * unless it is running now.
+	 *
+	 * @throws IOException if the watch service cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		service.close();
+	}
+
+	/**
+	 * Waits for changes to the file until the watcher is closed
+	 *
+	 * @param name     name of the file within its directory
+	 * @param onChange callback run after the file changes
+	 */
+	private void watch(Path name, Runnable onChange) {
+		try {
+			while (true) {
+				WatchKey key = service.take();
+				boolean changed = false;
+				for (WatchEvent<?> event : key.pollEvents()) {
+					// An overflow may have dropped an event for the file
+					changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || name.equals(event.context());
+				}
+				key.reset();
+				if (changed) {
+					onChange.run();
+				}
+			}
+		} catch (ClosedWatchServiceException | InterruptedException e) {
+			// The watcher was closed
+		}
+	}
+}
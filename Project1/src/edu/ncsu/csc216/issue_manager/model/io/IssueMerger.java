@@ -0,0 +1,124 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Merges several lists of Issues that are each sorted by ID into one sorted
+ * list with a k-way merge. The next Issue of every source is kept in a heap, so
+ * merging n Issues from k sources takes O(n log k) comparisons and never sorts
+ * the combined list.
+ *
+ * @author yash
+ *
+ */
+public class IssueMerger {
+
+	/**
+	 * Merges sources of Issues, each sorted by ID. Issues are read from each
+	 * source only as they are merged, and when several Issues have the same ID,
+	 * policy decides which one is kept.
+	 *
+	 * @param sources Iterators over the sources, in the order policy refers to
+	 * @param policy  DuplicatePolicy for Issues with the same ID
+	 * @return issues ArrayList of the merged Issues, sorted by ID with no
+	 *         duplicate IDs
+	 * @throws IllegalArgumentException if a source is not sorted by ID, or the
+	 *                                  policy is REJECT and an ID is duplicated
+	 */
+	public static ArrayList<Issue> merge(List<Iterator<Issue>> sources, DuplicatePolicy policy) {
+		// Issues with the same ID come out of the heap in source order
+		PriorityQueue<Cursor> heap = new PriorityQueue<Cursor>(Math.max(1, sources.size()),
+				(a, b) -> a.issue.getIssueId() != b.issue.getIssueId()
+						? Integer.compare(a.issue.getIssueId(), b.issue.getIssueId())
+						: Integer.compare(a.source, b.source));
+		for (int i = 0; i < sources.size(); i++) {
+			Cursor cursor = new Cursor(i, sources.get(i));
+			if (cursor.advance()) {
+				heap.add(cursor);
+			}
+		}
+		ArrayList<Issue> issues = new ArrayList<Issue>();
+		while (!heap.isEmpty()) {
+			Cursor cursor = heap.poll();
+			Issue issue = cursor.issue;
+			int last = issues.size() - 1;
+			if (last < 0 || issues.get(last).getIssueId() != issue.getIssueId()) {
+				issues.add(issue);
+			} else if (policy == DuplicatePolicy.KEEP_LAST) {
+				issues.set(last, issue);
+			} else if (policy == DuplicatePolicy.REJECT) {
+				throw new IllegalArgumentException("Duplicate issue ID: " + issue.getIssueId());
+			}
+			if (cursor.advance()) {
+				heap.add(cursor);
+			}
+		}
+		return issues;
+	}
+
+	/**
+	 * Decides which Issue is kept when sources have Issues with the same ID
+	 *
+	 * @author yash
+	 *
+	 */
+	public enum DuplicatePolicy {
+		/** Keep the Issue from the earliest source, or the earliest in that source */
+		KEEP_FIRST,
+		/** Keep the Issue from the latest source, or the latest in that source */
+		KEEP_LAST,
+		/** Fail the merge */
+		REJECT
+	}
+
+	/**
+	 * Position in one source of a merge
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class Cursor {
+
+		/** Index of the source in the merge */
+		private final int source;
+		/** Issues of the source that have not been merged yet */
+		private final Iterator<Issue> issues;
+		/** Next Issue of the source to merge */
+		private Issue issue;
+
+		/**
+		 * Creates a Cursor before the first Issue of a source
+		 *
+		 * @param source index of the source in the merge
+		 * @param issues Iterator over the source
+		 */
+		Cursor(int source, Iterator<Issue> issues) {
+			this.source = source;
+			this.issues = issues;
+		}
+
+		/**
+		 * Moves to the next Issue of the source
+		 *
+		 * @return true if there is another Issue, false at the end of the source
+		 * @throws IllegalArgumentException if the next Issue has a smaller ID than
+		 *                                  the current one
+		 */
+		boolean advance() {
+			if (!issues.hasNext()) {
+				return false;
+			}
+			Issue next = issues.next();
+			if (issue != null && next.getIssueId() < issue.getIssueId()) {
+				throw new IllegalArgumentException("Issues are not sorted by ID: " + next.getIssueId());
+			}
+			issue = next;
+			return true;
+		}
+	}
+}
@@ -1,104 +1,592 @@
 package edu.ncsu.csc216.issue_manager.model.io;
 
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.Scanner;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
 
 import edu.ncsu.csc216.issue_manager.model.issue.Issue;
 
 /**
  * Reads a file to see the Issue objects to store them into an ArrayList of
  * Issues
- * 
+ *
  * @author yash
  *
  */
 public class IssueReader {
+
+	/** Number of bytes read from a file at a time */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	/**
-	 * Reads Issues from a file and stores them in an ArrayList of Issues
-	 * 
+	 * Reads Issues from a file and stores them in an ArrayList of Issues. The file
+	 * is parsed one record at a time as it is streamed in. Binary issue files are
+	 * recognized by their magic number and decoded without text parsing, and
+	 * GZIP compressed files are decompressed as they are read.
+	 *
 	 * @param fileName String name of the file that is being read
 	 * @return issues ArrayList of the Issues read from the file
 	 * @throws IllegalArgumentException If the file cannot be found or there is an
 	 *                                  error during processing
 	 */
 	public static ArrayList<Issue> readIssuesFromFile(String fileName) {
-		Scanner fileReader;
+		try (BufferedInputStream in = IssueCompression.openInput(fileName, BUFFER_SIZE)) {
+			if (startsWithMagic(in)) {
+				return readBinaryIssues(in);
+			}
+			return readIssues(new InputStreamReader(in, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+	}
+
+	/**
+	 * Reads the Issues of a damaged text issue file, skipping records that fail
+	 * their checksum or cannot be parsed instead of failing the whole file. The
+	 * file is read in one pass, and compressed files are decompressed as they are
+	 * read, up to where their data is cut off. Files written with checksums also
+	 * drop records that have lost their checksum, such as the last record of an
+	 * interrupted save.
+	 *
+	 * @param fileName String name of the file that is being read
+	 * @return recovery the Issues that were read and the records that were dropped
+	 * @throws IllegalArgumentException If the file cannot be found or is a binary
+	 *                                  issue file
+	 */
+	public static IssueRecovery recoverIssuesFromFile(String fileName) {
+		if (isBinaryFile(fileName)) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+		try (BufferedInputStream file = new BufferedInputStream(new FileInputStream(fileName), BUFFER_SIZE)) {
+			if (IssueCompression.isCompressed(file)) {
+				// No buffer in front of the decompressor, since filling one would throw
+				// away what was decompressed before the data is cut off
+				try (InputStream in = new GZIPInputStream(file, IssueCompression.BUFFER_SIZE)) {
+					return IssueRecovery.read(in);
+				}
+			}
+			return IssueRecovery.read(file);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+	}
+
+	/**
+	 * Reads Issues from a file in the binary format written by
+	 * IssueWriter.writeIssuesToBinaryFile(), decompressing it if it is compressed
+	 *
+	 * @param fileName String name of the file that is being read
+	 * @return issues ArrayList of the Issues read from the file
+	 * @throws IllegalArgumentException If the file cannot be found, is not a binary
+	 *                                  issue file, or there is an error during
+	 *                                  processing
+	 */
+	public static ArrayList<Issue> readIssuesFromBinaryFile(String fileName) {
+		try (BufferedInputStream in = IssueCompression.openInput(fileName, BUFFER_SIZE)) {
+			return readBinaryIssues(in);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+	}
+
+	/**
+	 * Checks if a file is GZIP compressed
+	 *
+	 * @param fileName String name of the file
+	 * @return true if the file starts with the GZIP magic number
+	 * @throws IllegalArgumentException If the file cannot be read
+	 */
+	public static boolean isCompressedFile(String fileName) {
+		try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(fileName), 2)) {
+			return IssueCompression.isCompressed(in);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+	}
+
+	/**
+	 * Checks if a file is a binary issue file, compressed or not
+	 *
+	 * @param fileName String name of the file
+	 * @return true if the file starts with the binary format's magic number
+	 * @throws IllegalArgumentException If the file cannot be read
+	 */
+	public static boolean isBinaryFile(String fileName) {
+		try (BufferedInputStream in = IssueCompression.openInput(fileName, IssueBinaryFormat.MAGIC.length)) {
+			return startsWithMagic(in);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+	}
+
+	/**
+	 * Reads one Issue from a file using the index written next to it by
+	 * IssueWriter.writeIssuesToFile(fileName, list, true). Only the index entries
+	 * visited by a binary search and the record itself are read.
+	 *
+	 * @param fileName String name of the file that is being read
+	 * @param id       ID of the Issue to read
+	 * @return issue the Issue with the ID, or null if the file has no such Issue
+	 * @throws IllegalArgumentException If the file or its index cannot be read, the
+	 *                                  index is out of date, or the record is not
+	 *                                  valid
+	 */
+	public static Issue readIssueById(String fileName, int id) {
+		ArrayList<Issue> issues = readIssuesInRange(fileName, id, id);
+		return issues.isEmpty() ? null : issues.get(0);
+	}
+
+	/**
+	 * Reads the Issues with IDs in a range from a file using the index written
+	 * next to it by IssueWriter.writeIssuesToFile(fileName, list, true)
+	 *
+	 * @param fileName String name of the file that is being read
+	 * @param fromId   lowest ID to read
+	 * @param toId     highest ID to read
+	 * @return issues ArrayList of the Issues in the range, in ID order
+	 * @throws IllegalArgumentException If the file or its index cannot be read, the
+	 *                                  index is out of date, or a record is not
+	 *                                  valid
+	 */
+	public static ArrayList<Issue> readIssuesInRange(String fileName, int fromId, int toId) {
+		ArrayList<Issue> issues = new ArrayList<Issue>();
+		try (RandomAccessFile data = new RandomAccessFile(fileName, "r");
+				RandomAccessFile index = new RandomAccessFile(IssueFileIndex.getIndexFileName(fileName), "r")) {
+			int count = IssueFileIndex.readHeader(index, data.length());
+			boolean binary = startsWithMagic(data);
+			int first = IssueFileIndex.search(index, count, fromId);
+			index.seek(IssueFileIndex.HEADER_SIZE + (long) first * IssueFileIndex.ENTRY_SIZE);
+			byte[] record = new byte[0];
+			for (int i = first; i < count; i++) {
+				int id = index.readInt();
+				long offset = index.readLong();
+				int length = index.readInt();
+				if (id > toId) {
+					break;
+				}
+				if (record.length < length) {
+					record = new byte[length];
+				}
+				data.seek(offset);
+				data.readFully(record, 0, length);
+				if (binary) {
+					issues.add(IssueBinaryFormat.readIssue(record, 0, length));
+				} else {
+					issues.add(new IssueRecordReader(
+							new StringReader(new String(record, 0, length, StandardCharsets.UTF_8))).next());
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+		return issues;
+	}
+
+	/**
+	 * Opens a lazy Stream over the Issues in a file. Records are parsed one at a
+	 * time as the Stream is consumed, so only the record being parsed is held in
+	 * memory and a caller that stops early never reads the rest of the file. The
+	 * Stream must be closed to close the file, for example with
+	 * try-with-resources.
+	 *
+	 * @param fileName String name of the file that is being read
+	 * @return issues Stream of the Issues in the file, in file order
+	 * @throws IllegalArgumentException If the file cannot be found. Invalid
+	 *                                  records throw IllegalArgumentException and
+	 *                                  read errors throw UncheckedIOException as
+	 *                                  the Stream is consumed
+	 */
+	public static Stream<Issue> stream(String fileName) {
+		IssueRecordReader reader;
 		try {
-			fileReader = new Scanner(new FileInputStream(fileName));
-		} catch (FileNotFoundException e) {
+			reader = new IssueRecordReader(
+					new InputStreamReader(IssueCompression.openInput(fileName, BUFFER_SIZE), StandardCharsets.UTF_8));
+		} catch (IOException e) {
 			throw new IllegalArgumentException("Unable to load file.");
+		}
+		Spliterator<Issue> issues = Spliterators.spliteratorUnknownSize(new IssueIterator(reader),
+				Spliterator.ORDERED | Spliterator.NONNULL);
+		return StreamSupport.stream(issues, false).onClose(() -> {
+			try {
+				reader.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
 
+	/**
+	 * Reads Issues from a file by memory mapping it and parsing the records
+	 * straight out of the mapped bytes, so the file is never copied into a heap
+	 * buffer. Meant for very large files.
+	 *
+	 * @param fileName String name of the file that is being read
+	 * @return issues ArrayList of the Issues read from the file
+	 * @throws IllegalArgumentException If the file cannot be found or there is an
+	 *                                  error during processing
+	 */
+	public static ArrayList<Issue> readIssuesFromMappedFile(String fileName) {
+		try {
+			return readIssues(new MappedFileReader(fileName));
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
 		}
+	}
+
+	/**
+	 * Reads Issues from a file by splitting it into byte ranges that start at
+	 * record boundaries and parsing the ranges in parallel on the common
+	 * ForkJoinPool. The Issues are returned in ID order, with Issues that share an
+	 * ID kept in file order. If the file has invalid records, the error names the
+	 * first one in the file, as readIssuesFromFile() does.
+	 *
+	 * @param fileName String name of the file that is being read
+	 * @return issues ArrayList of the Issues read from the file, sorted by ID
+	 * @throws IllegalArgumentException If the file cannot be found or there is an
+	 *                                  error during processing
+	 */
+	public static ArrayList<Issue> readIssuesInParallel(String fileName) {
+		return readIssuesInParallel(fileName, ChunkTask.CHUNK_SIZE);
+	}
+
+	/**
+	 * Reads Issues from a file in parallel, splitting it into ranges of about the
+	 * given size
+	 *
+	 * @param fileName  String name of the file that is being read
+	 * @param chunkSize ranges with fewer bytes than this are parsed without
+	 *                  splitting
+	 * @return issues ArrayList of the Issues read from the file, sorted by ID
+	 * @throws IllegalArgumentException If the file cannot be found or there is an
+	 *                                  error during processing
+	 */
+	static ArrayList<Issue> readIssuesInParallel(String fileName, long chunkSize) {
+		ChunkResult result;
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+			ChunkTask task = new ChunkTask(fileName, channel, chunkSize, 0, channel.size());
+			result = ForkJoinPool.commonPool().invoke(task);
+		} catch (IOException | UncheckedIOException e) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+		if (result.error != null) {
+			throw new IllegalArgumentException(result.error.getMessage(), result.error);
+		}
+		return result.issues;
+	}
+
+	/**
+	 * Checks if a stream starts with the binary format's magic number without
+	 * consuming any bytes
+	 *
+	 * @param in stream to check
+	 * @return true if the stream starts with the magic number
+	 * @throws IOException if the stream cannot be read
+	 */
+	private static boolean startsWithMagic(BufferedInputStream in) throws IOException {
+		byte[] magic = IssueBinaryFormat.MAGIC;
+		in.mark(magic.length);
+		boolean matches = true;
+		for (int i = 0; i < magic.length && matches; i++) {
+			matches = in.read() == magic[i];
+		}
+		in.reset();
+		return matches;
+	}
+
+	/**
+	 * Checks if a file starts with the binary format's magic number
+	 *
+	 * @param in open file to check
+	 * @return true if the file starts with the magic number
+	 * @throws IOException if the file cannot be read
+	 */
+	private static boolean startsWithMagic(RandomAccessFile in) throws IOException {
+		byte[] magic = IssueBinaryFormat.MAGIC;
+		if (in.length() < magic.length) {
+			return false;
+		}
+		byte[] start = new byte[magic.length];
+		in.seek(0);
+		in.readFully(start);
+		return Arrays.equals(start, magic);
+	}
+
+	/**
+	 * Decodes every Issue in a binary issue stream. The stream is read into memory
+	 * first, which is smaller than the Issues decoded from it, so the Issues are
+	 * decoded from an array instead of a byte at a time from the stream.
+	 *
+	 * @param in stream the Issues are read from
+	 * @return issues ArrayList of the Issues read from the stream
+	 * @throws IOException              if the stream cannot be read
+	 * @throws IllegalArgumentException if the stream is not a valid binary issue
+	 *                                  file
+	 */
+	private static ArrayList<Issue> readBinaryIssues(InputStream in) throws IOException {
+		return IssueBinaryFormat.readIssues(in.readAllBytes());
+	}
+
+	/**
+	 * Reads every Issue record from a character stream and closes it
+	 *
+	 * @param in Reader the records are read from
+	 * @return issues ArrayList of the Issues read from the stream
+	 * @throws IOException              if the stream cannot be read
+	 * @throws IllegalArgumentException if there is an error during processing
+	 */
+	static ArrayList<Issue> readIssues(Reader in) throws IOException {
 		ArrayList<Issue> issues = new ArrayList<Issue>();
-		String fileString = "";
-		while (fileReader.hasNextLine()) {
-			fileString = fileString + fileReader.nextLine() + "\n";
-		}
-		Scanner fileStringReader = new Scanner(fileString);
-		fileStringReader.useDelimiter("\\r?\\n?[*]");
-			try{
-				while (fileStringReader.hasNext()) {
-				Issue issue = processIssue(fileStringReader.next());
+		try (IssueRecordReader reader = new IssueRecordReader(in)) {
+			Issue issue = reader.next();
+			while (issue != null) {
 				issues.add(issue);
+				issue = reader.next();
+			}
+		}
+		return issues;
+	}
+
+	/**
+	 * Iterates over the records of an IssueRecordReader, parsing each one when it
+	 * is asked for
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class IssueIterator implements Iterator<Issue> {
+		/** Reader the records are parsed from */
+		private IssueRecordReader reader;
+		/** Issue parsed but not yet returned, or null if it has not been parsed */
+		private Issue next;
+		/** True once the reader has no more records */
+		private boolean done;
+
+		/**
+		 * Constructs an IssueIterator over a reader
+		 *
+		 * @param reader IssueRecordReader the records are parsed from
+		 */
+		IssueIterator(IssueRecordReader reader) {
+			this.reader = reader;
+		}
+
+		/**
+		 * Checks if there is another Issue, parsing it if needed
+		 *
+		 * @return true if there is another Issue
+		 * @throws UncheckedIOException if the file cannot be read
+		 */
+		@Override
+		public boolean hasNext() {
+			if (next == null && !done) {
+				try {
+					next = reader.next();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
 				}
-			} catch(IllegalArgumentException e) {
-				fileReader.close();
-				fileStringReader.close();
-				throw new IllegalArgumentException();
+				done = next == null;
 			}
-				
+			return next != null;
+		}
 
-		fileReader.close();
-		fileStringReader.close();
-			return issues;
-		
+		/**
+		 * Returns the next Issue
+		 *
+		 * @return issue the next Issue
+		 * @throws NoSuchElementException if there are no more Issues
+		 */
+		@Override
+		public Issue next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Issue issue = next;
+			next = null;
+			return issue;
+		}
 	}
 
 	/**
-	 * Process passed in issue to check for any problems or throw and exception if
-	 * needed
-	 * 
-	 * @param issueString String name of the issue passed in
-	 * @return issue the Issue if there are no Issues with the object that is passed in as a string
-	 * @throws IllegalArgumentException if there is an problem with the Issue parameters
+	 * Issues parsed from a byte range of a file, or the first error found in it
+	 *
+	 * @author yash
+	 *
 	 */
-	private static Issue processIssue(String issueString) {
-		Scanner scnr = new Scanner(issueString);
-		scnr.useDelimiter(",");
-		Issue issue = null;
-		try {
-			int id = scnr.nextInt();
-			String state = scnr.next();
-			String issueType = scnr.next();
-			String summary = scnr.next();
-			String owner = scnr.next();
-			boolean confirmed = scnr.nextBoolean();
-			String temp = scnr.next();
+	private static class ChunkResult {
+		/** Issues parsed from the range, sorted by ID */
+		private ArrayList<Issue> issues;
+		/** First invalid record error in the range, or null if there was none */
+		private IllegalArgumentException error;
+	}
+
+	/**
+	 * Parses a byte range of an issue file, splitting it in half at a record
+	 * boundary and parsing the halves in parallel while it is large
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class ChunkTask extends RecursiveTask<ChunkResult> {
 
-			Scanner tempScnr = new Scanner(temp);
+		/** ID for serialization */
+		private static final long serialVersionUID = 1L;
+		/** Default size of the ranges that are parsed without splitting */
+		private static final long CHUNK_SIZE = 4L * 1024 * 1024;
+		/** Number of bytes read at a time while looking for a record boundary */
+		private static final int SCAN_SIZE = 8 * 1024;
 
-			String resolution = tempScnr.nextLine();
-			tempScnr.useDelimiter("\\r?\\n?[-]");
+		/** Name of the file being read */
+		private String fileName;
+		/** Channel shared by all tasks to look for record boundaries */
+		private transient FileChannel channel;
+		/** Ranges with fewer bytes than this are parsed without splitting */
+		private long chunkSize;
+		/** Position of the first byte of the range */
+		private long start;
+		/** Position just after the last byte of the range */
+		private long end;
 
-			ArrayList<String> notes = new ArrayList<String>();
+		/**
+		 * Constructs a ChunkTask for a byte range that starts at a record boundary
+		 *
+		 * @param fileName  String name of the file being read
+		 * @param channel   FileChannel of the file
+		 * @param chunkSize ranges with fewer bytes than this are parsed without
+		 *                  splitting
+		 * @param start     position of the first byte of the range
+		 * @param end       position just after the last byte of the range
+		 */
+		ChunkTask(String fileName, FileChannel channel, long chunkSize, long start, long end) {
+			this.fileName = fileName;
+			this.channel = channel;
+			this.chunkSize = chunkSize;
+			this.start = start;
+			this.end = end;
+		}
 
-			while (tempScnr.hasNext()) {
-				String note = tempScnr.next();
-				notes.add(note.replace("\r\n", ""));
+		/**
+		 * Parses the range, or splits it and merges the results of the halves
+		 *
+		 * @return result Issues of the range sorted by ID, or its first error
+		 */
+		@Override
+		protected ChunkResult compute() {
+			try {
+				if (end - start > chunkSize) {
+					long split = findRecordStart(start + (end - start) / 2);
+					if (split < end) {
+						ChunkTask right = new ChunkTask(fileName, channel, chunkSize, split, end);
+						right.fork();
+						ChunkResult left = new ChunkTask(fileName, channel, chunkSize, start, split).compute();
+						return merge(left, right.join());
+					}
+				}
+				return parse();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
 			}
+		}
 
-			issue = new Issue(id, state, issueType, summary, owner, confirmed, resolution, notes);
+		/**
+		 * Parses every record in the range
+		 *
+		 * @return result Issues of the range sorted by ID, or its first error
+		 * @throws IOException if the file cannot be read
+		 */
+		private ChunkResult parse() throws IOException {
+			ChunkResult result = new ChunkResult();
+			try {
+				result.issues = readIssues(new MappedFileReader(fileName, start, end));
+				// The sort is stable, so issues that share an ID stay in file order
+				result.issues.sort(Comparator.comparingInt(Issue::getIssueId));
+			} catch (IllegalArgumentException e) {
+				result.error = e;
+			}
+			return result;
+		}
 
-			tempScnr.close();
+		/**
+		 * Merges the results of two adjacent ranges, keeping ID order and, for equal
+		 * IDs, the left range first
+		 *
+		 * @param left  result of the range that comes first in the file
+		 * @param right result of the range that comes next in the file
+		 * @return result merged Issues, or the first error in file order
+		 */
+		private static ChunkResult merge(ChunkResult left, ChunkResult right) {
+			if (left.error != null) {
+				return left;
+			} else if (right.error != null) {
+				return right;
+			}
+			ChunkResult result = new ChunkResult();
+			result.issues = new ArrayList<Issue>(left.issues.size() + right.issues.size());
+			int i = 0;
+			int j = 0;
+			while (i < left.issues.size() && j < right.issues.size()) {
+				if (right.issues.get(j).getIssueId() < left.issues.get(i).getIssueId()) {
+					result.issues.add(right.issues.get(j++));
+				} else {
+					result.issues.add(left.issues.get(i++));
+				}
+			}
+			result.issues.addAll(left.issues.subList(i, left.issues.size()));
+			result.issues.addAll(right.issues.subList(j, right.issues.size()));
+			return result;
+		}
 
-		} catch (NoSuchElementException e) {
-			scnr.close();
-			throw new IllegalArgumentException();
+		/**
+		 * Finds the first record start at or after a position, which is a '*' that
+		 * follows a line break. Line breaks and '*' are ASCII, so they can never be
+		 * part of a multi-byte UTF-8 character.
+		 *
+		 * @param from position to start looking at
+		 * @return position of the '*' of the record, or end if there is none
+		 * @throws IOException if the file cannot be read
+		 */
+		private long findRecordStart(long from) throws IOException {
+			ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+			long position = from - 1;
+			byte previous = 0;
+			while (position < end) {
+				scan.clear();
+				int count = channel.read(scan, position);
+				if (count <= 0) {
+					break;
+				}
+				for (int i = 0; i < count && position + i < end; i++) {
+					byte b = scan.get(i);
+					if (b == '*' && (previous == '\n' || previous == '\r')) {
+						return position + i;
+					}
+					previous = b;
+				}
+				position += count;
+			}
+			return end;
 		}
-		scnr.close();
-		return issue;
 	}
 }
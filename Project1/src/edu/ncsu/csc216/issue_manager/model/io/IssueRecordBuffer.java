@@ -0,0 +1,194 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Reusable buffer that holds the record of one Issue at a time while a list is
+ * saved. Text records are encoded to UTF-8 as Issue.writeTo() appends each
+ * character, so encoding an Issue creates no Strings, and the buffer only grows
+ * when a record is longer than every record before it. The record may also be
+ * one kept by an IssueRecordCache, which is read in place of the buffer.
+ *
+ * @author yash
+ *
+ */
+public class IssueRecordBuffer extends OutputStream implements Appendable {
+
+	/** Bytes encoded into the buffer */
+	private byte[] buffer;
+	/** Number of bytes encoded into the buffer */
+	private int count;
+	/** High surrogate waiting for the low surrogate that follows it, or 0 */
+	private char highSurrogate;
+	/** Bytes of the current record, which are the buffer or a cached record */
+	private byte[] record;
+	/** Number of bytes in the current record */
+	private int length;
+	/** Stream the binary format is written through into the buffer */
+	private DataOutputStream data;
+
+	/**
+	 * Creates an empty buffer
+	 */
+	public IssueRecordBuffer() {
+		buffer = new byte[256];
+		record = buffer;
+		data = new DataOutputStream(this);
+	}
+
+	/**
+	 * Encodes an Issue into the buffer, making it the current record
+	 *
+	 * @param issue  Issue to encode
+	 * @param binary true for the binary format, false for the text format
+	 *               followed by a line terminator
+	 * @throws IOException if the Issue cannot be encoded
+	 */
+	public void encode(Issue issue, boolean binary) throws IOException {
+		count = 0;
+		highSurrogate = 0;
+		if (binary) {
+			IssueBinaryFormat.writeIssue(data, issue);
+		} else {
+			issue.writeTo(this);
+			append('\n');
+		}
+		record = buffer;
+		length = count;
+	}
+
+	/**
+	 * Makes an encoded record the current record without copying it
+	 *
+	 * @param bytes bytes of the record, which must not be changed
+	 */
+	public void setRecord(byte[] bytes) {
+		record = bytes;
+		length = bytes.length;
+	}
+
+	/**
+	 * Gets the bytes of the current record. The array may be longer than the
+	 * record and is reused by the next encode().
+	 *
+	 * @return bytes array that starts with the record
+	 */
+	public byte[] getBytes() {
+		return record;
+	}
+
+	/**
+	 * Gets the length of the current record
+	 *
+	 * @return length number of bytes in the record
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * Copies the current record into an array of its own
+	 *
+	 * @return bytes a new array with the bytes of the record
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(record, length);
+	}
+
+	/**
+	 * Writes the current record to a stream
+	 *
+	 * @param out stream the record is written to
+	 * @throws IOException if the stream cannot be written
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(record, 0, length);
+	}
+
+	@Override
+	public void write(int b) {
+		ensureCapacity(1);
+		buffer[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int len) {
+		ensureCapacity(len);
+		System.arraycopy(bytes, offset, buffer, count, len);
+		count += len;
+	}
+
+	@Override
+	public Appendable append(CharSequence csq) {
+		return append(csq == null ? "null" : csq, 0, csq == null ? 4 : csq.length());
+	}
+
+	@Override
+	public Appendable append(CharSequence csq, int start, int end) {
+		if (csq == null) {
+			return append("null", start, end);
+		}
+		for (int i = start; i < end; i++) {
+			append(csq.charAt(i));
+		}
+		return this;
+	}
+
+	/**
+	 * Appends a character encoded as UTF-8. A surrogate that is not part of a
+	 * pair is written as '?', as String.getBytes() writes it.
+	 *
+	 * @param c character to append
+	 * @return this buffer
+	 */
+	@Override
+	public Appendable append(char c) {
+		if (highSurrogate != 0) {
+			char high = highSurrogate;
+			highSurrogate = 0;
+			if (Character.isLowSurrogate(c)) {
+				int codePoint = Character.toCodePoint(high, c);
+				ensureCapacity(4);
+				buffer[count++] = (byte) (0xF0 | codePoint >> 18);
+				buffer[count++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+				buffer[count++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+				buffer[count++] = (byte) (0x80 | codePoint & 0x3F);
+				return this;
+			}
+			write('?');
+		}
+		if (c < 0x80) {
+			write(c);
+		} else if (c < 0x800) {
+			ensureCapacity(2);
+			buffer[count++] = (byte) (0xC0 | c >> 6);
+			buffer[count++] = (byte) (0x80 | c & 0x3F);
+		} else if (Character.isHighSurrogate(c)) {
+			highSurrogate = c;
+		} else if (Character.isLowSurrogate(c)) {
+			write('?');
+		} else {
+			ensureCapacity(3);
+			buffer[count++] = (byte) (0xE0 | c >> 12);
+			buffer[count++] = (byte) (0x80 | c >> 6 & 0x3F);
+			buffer[count++] = (byte) (0x80 | c & 0x3F);
+		}
+		return this;
+	}
+
+	/**
+	 * Grows the buffer if it cannot hold more bytes
+	 *
+	 * @param more number of bytes about to be added
+	 */
+	private void ensureCapacity(int more) {
+		if (count + more > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + more));
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Keeps the encoded record of each Issue of one list written to a file, so
+ * saving the list again only encodes the Issues that were updated since the
+ * last save. A cache belongs to the owner of the list, such as IssueManager,
+ * and is dropped with the list. A record is reused while the Issue's version
+ * and the file format are the ones it was encoded for. Issues whose notes have
+ * not been loaded yet are not cached, so saving a list with lazy notes does not
+ * keep a copy of every note. Records are held weakly by Issue, so an Issue that
+ * is deleted takes its record with it.
+ *
+ * @author yash
+ *
+ */
+public class IssueRecordCache {
+
+	/** Last record encoded for each Issue */
+	private Map<Issue, Record> records;
+
+	/**
+	 * Creates an empty cache
+	 */
+	public IssueRecordCache() {
+		records = new WeakHashMap<Issue, Record>();
+	}
+
+	/**
+	 * Makes the record of an Issue the current record of a buffer, encoding it
+	 * into the buffer only if the Issue has been updated since its record was
+	 * last encoded in the same format. The caller should hold the lock of the
+	 * Issue if other threads may update it.
+	 *
+	 * @param issue  Issue to get the record of
+	 * @param binary true for the binary format, false for the text format
+	 * @param buffer IssueRecordBuffer the record is put in
+	 * @throws IOException if the Issue cannot be encoded
+	 */
+	public void loadRecord(Issue issue, boolean binary, IssueRecordBuffer buffer) throws IOException {
+		int version = issue.getVersion();
+		Record record;
+		synchronized (this) {
+			record = records.get(issue);
+		}
+		if (record != null && record.version == version && record.binary == binary) {
+			buffer.setRecord(record.bytes);
+			return;
+		}
+		buffer.encode(issue, binary);
+		synchronized (this) {
+			if (issue.isNotesLoaded()) {
+				records.put(issue, new Record(version, binary, buffer.toByteArray()));
+			} else {
+				records.remove(issue);
+			}
+		}
+	}
+
+	/**
+	 * Counts the Issues that have a record
+	 *
+	 * @return size number of records in the cache
+	 */
+	public synchronized int size() {
+		return records.size();
+	}
+
+	/**
+	 * Record of an Issue and the version and format it was encoded in
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class Record {
+
+		/** Version of the Issue when it was encoded */
+		private final int version;
+		/** True if the record is in the binary format */
+		private final boolean binary;
+		/** Bytes of the record */
+		private final byte[] bytes;
+
+		/**
+		 * Creates a Record
+		 *
+		 * @param version version of the Issue when it was encoded
+		 * @param binary  true if the record is in the binary format
+		 * @param bytes   bytes of the record
+		 */
+		Record(int version, boolean binary, byte[] bytes) {
+			this.version = version;
+			this.binary = binary;
+			this.bytes = bytes;
+		}
+	}
+}
@@ -0,0 +1,304 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Parses Issue records one at a time from a character stream in a single pass.
+ * A record starts with a line beginning with '*' and each of its notes starts
+ * with a line beginning with '-'. Lines that follow a note line without either
+ * marker continue that note. Only the record being parsed is held in memory.
+ * The marker line and checksum trailer lines of a checksummed file are skipped
+ * without checking the checksums; IssueRecovery checks them.
+ *
+ * @author yash
+ *
+ */
+public class IssueRecordReader implements Closeable {
+
+	/** Number of characters read from the stream at a time */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	/** Number of comma separated fields in a record header line */
+	private static final int HEADER_FIELDS = 7;
+
+	/** Stream the records are read from */
+	private Reader in;
+	/** Characters read from the stream but not yet parsed */
+	private char[] buffer;
+	/** Position of the next character to parse in the buffer */
+	private int position;
+	/** Number of valid characters in the buffer */
+	private int limit;
+	/** True if the last line ended in a carriage return, so a following line feed is skipped */
+	private boolean skipLineFeed;
+	/** Line currently being parsed */
+	private StringBuilder line;
+	/** Note currently being parsed */
+	private StringBuilder note;
+	/** Header line of the next record without its '*', or null if it has not been read */
+	private String nextHeader;
+
+	/**
+	 * Constructs an IssueRecordReader over a character stream
+	 *
+	 * @param in Reader the records are read from
+	 */
+	public IssueRecordReader(Reader in) {
+		this(in, BUFFER_SIZE);
+	}
+
+	/**
+	 * Constructs an IssueRecordReader over a character stream with a buffer of a
+	 * given size, for streams known to be short
+	 *
+	 * @param in         Reader the records are read from
+	 * @param bufferSize number of characters read from the stream at a time
+	 */
+	IssueRecordReader(Reader in, int bufferSize) {
+		this.in = in;
+		buffer = new char[Math.max(1, bufferSize)];
+		line = new StringBuilder();
+		note = new StringBuilder();
+	}
+
+	/**
+	 * Reads the next Issue record from the stream
+	 *
+	 * @return issue the next Issue, or null if there are no more records
+	 * @throws IOException              if the stream cannot be read
+	 * @throws IllegalArgumentException if the record is not a valid Issue
+	 */
+	public Issue next() throws IOException {
+		if (nextHeader == null) {
+			while (readLine()) {
+				if (line.length() > 0 && line.charAt(0) == '*') {
+					nextHeader = line.substring(1);
+					break;
+				} else if (!isBlank(line) && !IssueChecksum.isFileMarker(line) && !IssueChecksum.isTrailer(line)) {
+					throw new IllegalArgumentException("Invalid issue record: " + line);
+				}
+			}
+			if (nextHeader == null) {
+				return null;
+			}
+		}
+
+		String header = nextHeader;
+		nextHeader = null;
+		ArrayList<String> notes = readNotes();
+		if (notes == null) {
+			throw new IllegalArgumentException("Invalid issue record: *" + header);
+		}
+		return processIssue(header, notes);
+	}
+
+	/**
+	 * Reads the note lines that follow a record header, up to the next header or
+	 * the end of the stream
+	 *
+	 * @return notes ArrayList of the notes, or null if a line that is not part of a
+	 *         note comes before the first note
+	 * @throws IOException if the stream cannot be read
+	 */
+	ArrayList<String> readNotes() throws IOException {
+		ArrayList<String> notes = new ArrayList<String>();
+		boolean inNote = false;
+		int blankLines = 0;
+		while (readLine()) {
+			if (line.length() > 0 && line.charAt(0) == '*') {
+				nextHeader = line.substring(1);
+				break;
+			} else if (line.length() > 0 && line.charAt(0) == '-') {
+				if (inNote) {
+					notes.add(note.toString());
+				}
+				note.setLength(0);
+				note.append(line, 1, line.length());
+				inNote = true;
+				blankLines = 0;
+			} else if (IssueChecksum.isTrailer(line)) {
+				// The checksum ends the record, so nothing after it continues a note
+				if (inNote) {
+					notes.add(note.toString());
+				}
+				inNote = false;
+				blankLines = 0;
+			} else if (isBlank(line)) {
+				// Blank lines are only part of a note if more note text follows them
+				blankLines++;
+			} else if (inNote) {
+				for (int i = 0; i < blankLines; i++) {
+					note.append('\n');
+				}
+				note.append('\n').append(line);
+				blankLines = 0;
+			} else {
+				return null;
+			}
+		}
+		if (inNote) {
+			notes.add(note.toString());
+		}
+		return notes;
+	}
+
+	/**
+	 * Closes the underlying stream
+	 *
+	 * @throws IOException if the stream cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	/**
+	 * Creates an Issue from the header line of a record and its notes
+	 *
+	 * @param header String header line of the record without its leading '*'
+	 * @param notes  ArrayList of the notes of the record
+	 * @return issue the Issue described by the record
+	 * @throws IllegalArgumentException if there is a problem with the Issue
+	 *                                  parameters
+	 */
+	static Issue processIssue(String header, ArrayList<String> notes) {
+		if (notes.isEmpty()) {
+			throw new IllegalArgumentException("Invalid issue record: *" + header);
+		}
+		return processIssue(header, notes, null);
+	}
+
+	/**
+	 * Creates an Issue from the header line of a record whose notes are loaded
+	 * when they are first needed
+	 *
+	 * @param header     String header line of the record without its leading '*'
+	 * @param noteLoader Supplier that loads the notes of the record
+	 * @return issue the Issue described by the record
+	 * @throws IllegalArgumentException if there is a problem with the Issue
+	 *                                  parameters
+	 */
+	static Issue processIssue(String header, Supplier<ArrayList<String>> noteLoader) {
+		return processIssue(header, null, noteLoader);
+	}
+
+	/**
+	 * Creates an Issue from the header line of a record and either its notes or a
+	 * loader for them
+	 *
+	 * @param header     String header line of the record without its leading '*'
+	 * @param notes      ArrayList of the notes of the record, or null
+	 * @param noteLoader Supplier that loads the notes of the record, used if notes
+	 *                   is null
+	 * @return issue the Issue described by the record
+	 * @throws IllegalArgumentException if there is a problem with the Issue
+	 *                                  parameters
+	 */
+	private static Issue processIssue(String header, ArrayList<String> notes,
+			Supplier<ArrayList<String>> noteLoader) {
+		String[] fields = new String[HEADER_FIELDS];
+		int start = 0;
+		for (int i = 0; i < HEADER_FIELDS - 1; i++) {
+			int comma = header.indexOf(',', start);
+			if (comma < 0) {
+				throw new IllegalArgumentException("Invalid issue record: *" + header);
+			}
+			fields[i] = header.substring(start, comma);
+			start = comma + 1;
+		}
+		// The resolution is the rest of the line
+		fields[HEADER_FIELDS - 1] = header.substring(start);
+
+		boolean confirmed;
+		if ("true".equalsIgnoreCase(fields[5])) {
+			confirmed = true;
+		} else if ("false".equalsIgnoreCase(fields[5])) {
+			confirmed = false;
+		} else {
+			throw new IllegalArgumentException("Invalid issue record: *" + header);
+		}
+
+		try {
+			if (notes == null) {
+				return new Issue(Integer.parseInt(fields[0]), fields[1], fields[2], fields[3], fields[4], confirmed,
+						fields[6], noteLoader);
+			}
+			return new Issue(Integer.parseInt(fields[0]), fields[1], fields[2], fields[3], fields[4], confirmed,
+					fields[6], notes);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid issue record: *" + header, e);
+		}
+	}
+
+	/**
+	 * Reads the next line of the stream into line, without its line terminator
+	 *
+	 * @return true if a line was read, false if the end of the stream was reached
+	 * @throws IOException if the stream cannot be read
+	 */
+	private boolean readLine() throws IOException {
+		line.setLength(0);
+		boolean read = false;
+		while (true) {
+			if (position >= limit && !fill()) {
+				return read;
+			}
+			if (skipLineFeed) {
+				skipLineFeed = false;
+				if (buffer[position] == '\n') {
+					position++;
+					continue;
+				}
+			}
+			int start = position;
+			while (position < limit) {
+				char c = buffer[position];
+				if (c == '\n' || c == '\r') {
+					line.append(buffer, start, position - start);
+					position++;
+					skipLineFeed = c == '\r';
+					return true;
+				}
+				position++;
+			}
+			line.append(buffer, start, position - start);
+			read = true;
+		}
+	}
+
+	/**
+	 * Refills the buffer from the stream
+	 *
+	 * @return true if characters were read, false at the end of the stream
+	 * @throws IOException if the stream cannot be read
+	 */
+	private boolean fill() throws IOException {
+		int count = in.read(buffer, 0, buffer.length);
+		if (count <= 0) {
+			return false;
+		}
+		position = 0;
+		limit = count;
+		return true;
+	}
+
+	/**
+	 * Checks if a line contains only whitespace
+	 *
+	 * @param text line to check
+	 * @return true if the line is empty or whitespace
+	 */
+	private static boolean isBlank(CharSequence text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (!Character.isWhitespace(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,312 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipException;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Issues recovered from a damaged text issue file, and the records that had to
+ * be dropped. The file is read in one pass over its bytes: each record is kept
+ * as it was read, checked against its IssueChecksum trailer if it has one, and
+ * only parsed if it passes. In a checksummed file a record without a trailer,
+ * such as the last record of an interrupted save, is dropped too, and in other
+ * files every record that parses is kept.
+ *
+ * @author yash
+ *
+ */
+public class IssueRecovery {
+
+	/** Number of bytes read from the stream at a time */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** Issues that were recovered, in file order */
+	private ArrayList<Issue> issues;
+	/** IDs of the dropped records that still had a readable ID, in file order */
+	private ArrayList<Integer> droppedIds;
+	/** Number of records dropped, including those without a readable ID */
+	private int droppedCount;
+
+	/** Stream the file is read from */
+	private InputStream in;
+	/** Bytes read from the stream but not yet scanned */
+	private byte[] buffer;
+	/** Position of the next byte to scan in the buffer */
+	private int position;
+	/** Number of valid bytes in the buffer */
+	private int limit;
+	/** Bytes of the line being scanned, with its terminator */
+	private byte[] line;
+	/** Number of bytes in line, with its terminator */
+	private int lineLength;
+	/** Number of bytes in line, without its terminator */
+	private int contentLength;
+	/** Bytes of the record being read */
+	private byte[] record;
+	/** Number of bytes in record */
+	private int recordLength;
+	/** True while a record has been started and not yet finished */
+	private boolean inRecord;
+	/** True while lines that belong to no record are being skipped */
+	private boolean inGarbage;
+
+	/**
+	 * Creates an IssueRecovery over a stream
+	 *
+	 * @param in stream the file is read from
+	 */
+	private IssueRecovery(InputStream in) {
+		this.in = in;
+		issues = new ArrayList<Issue>();
+		droppedIds = new ArrayList<Integer>();
+		buffer = new byte[BUFFER_SIZE];
+		line = new byte[256];
+		record = new byte[1024];
+	}
+
+	/**
+	 * Recovers the Issues of a text issue file from a stream. A stream that ends
+	 * early, such as a truncated compressed file, ends the file.
+	 *
+	 * @param in stream the file is read from
+	 * @return recovery the Issues recovered and the records dropped
+	 * @throws IOException if the stream cannot be read
+	 */
+	static IssueRecovery read(InputStream in) throws IOException {
+		IssueRecovery recovery = new IssueRecovery(in);
+		recovery.scan();
+		recovery.in = null;
+		recovery.buffer = null;
+		recovery.line = null;
+		recovery.record = null;
+		return recovery;
+	}
+
+	/**
+	 * Gets the Issues that were recovered
+	 *
+	 * @return issues ArrayList of the Issues, in file order
+	 */
+	public ArrayList<Issue> getIssues() {
+		return issues;
+	}
+
+	/**
+	 * Gets the IDs of the dropped records whose IDs could still be read
+	 *
+	 * @return droppedIds List of the IDs, in file order
+	 */
+	public List<Integer> getDroppedIds() {
+		return droppedIds;
+	}
+
+	/**
+	 * Gets the number of records that were dropped, including records whose IDs
+	 * could not be read and runs of lines that belong to no record
+	 *
+	 * @return droppedCount number of dropped records
+	 */
+	public int getDroppedCount() {
+		return droppedCount;
+	}
+
+	/**
+	 * Scans the stream, sorting each record into issues or the dropped records
+	 *
+	 * @throws IOException if the stream cannot be read
+	 */
+	private void scan() throws IOException {
+		boolean checksummed = false;
+		boolean first = true;
+		while (readLine()) {
+			if (first) {
+				first = false;
+				if (IssueChecksum.isFileMarker(line, contentLength)) {
+					checksummed = true;
+					continue;
+				}
+			}
+			long crc = IssueChecksum.parseTrailer(line, contentLength);
+			if (contentLength > 0 && line[0] == '*') {
+				if (inRecord) {
+					finishRecord(checksummed, -1);
+				}
+				inRecord = true;
+				inGarbage = false;
+				recordLength = 0;
+				appendLine();
+			} else if (crc >= 0) {
+				if (inRecord) {
+					finishRecord(checksummed, crc);
+				}
+			} else if (inRecord) {
+				appendLine();
+			} else if (!inGarbage && !isBlank()) {
+				// Lines outside a record are what is left of a record whose header was damaged
+				inGarbage = true;
+				droppedCount++;
+			}
+		}
+		if (inRecord) {
+			finishRecord(checksummed, -1);
+		}
+	}
+
+	/**
+	 * Keeps or drops the record that has been read
+	 *
+	 * @param checksummed true if every record of the file should have a trailer
+	 * @param crc         checksum from the record's trailer, or -1 if it has none
+	 */
+	private void finishRecord(boolean checksummed, long crc) {
+		inRecord = false;
+		boolean valid;
+		if (crc < 0) {
+			valid = !checksummed;
+		} else {
+			valid = (IssueChecksum.checksum(record, recordLength) & 0xFFFFFFFFL) == crc;
+		}
+		if (valid) {
+			try {
+				String text = new String(record, 0, recordLength, StandardCharsets.UTF_8);
+				Issue issue = new IssueRecordReader(new StringReader(text), text.length()).next();
+				if (issue != null) {
+					issues.add(issue);
+					return;
+				}
+			} catch (IOException | IllegalArgumentException e) {
+				// The record passed its checksum, or had none, but is not a valid Issue
+			}
+		}
+		droppedCount++;
+		int id = readId();
+		if (id > 0) {
+			droppedIds.add(id);
+		}
+	}
+
+	/**
+	 * Reads the ID at the start of the record's header
+	 *
+	 * @return id the ID, or -1 if the header does not start with one
+	 */
+	private int readId() {
+		long id = 0;
+		int i = 1;
+		while (i < recordLength && i < 11 && record[i] >= '0' && record[i] <= '9') {
+			id = id * 10 + (record[i] - '0');
+			i++;
+		}
+		if (i == 1 || i >= recordLength || record[i] != ',' || id > Integer.MAX_VALUE) {
+			return -1;
+		}
+		return (int) id;
+	}
+
+	/**
+	 * Adds the line being scanned, with its terminator, to the record
+	 */
+	private void appendLine() {
+		if (recordLength + lineLength > record.length) {
+			record = Arrays.copyOf(record, Math.max(record.length * 2, recordLength + lineLength));
+		}
+		System.arraycopy(line, 0, record, recordLength, lineLength);
+		recordLength += lineLength;
+	}
+
+	/**
+	 * Reads the next line of the stream into line, with its terminator
+	 *
+	 * @return true if a line was read, false at the end of the stream
+	 * @throws IOException if the stream cannot be read
+	 */
+	private boolean readLine() throws IOException {
+		lineLength = 0;
+		contentLength = -1;
+		while (true) {
+			if (position >= limit && !fill()) {
+				if (contentLength < 0) {
+					contentLength = lineLength;
+				}
+				return lineLength > 0;
+			}
+			byte b = buffer[position];
+			if (contentLength >= 0) {
+				// Only a line feed can follow a carriage return in the same terminator
+				if (b == '\n') {
+					position++;
+					addToLine(b);
+				}
+				return true;
+			}
+			position++;
+			if (b == '\n' || b == '\r') {
+				contentLength = lineLength;
+				addToLine(b);
+				if (b == '\n') {
+					return true;
+				}
+			} else {
+				addToLine(b);
+			}
+		}
+	}
+
+	/**
+	 * Adds a byte to the end of line
+	 *
+	 * @param b byte to add
+	 */
+	private void addToLine(byte b) {
+		if (lineLength == line.length) {
+			line = Arrays.copyOf(line, lineLength * 2);
+		}
+		line[lineLength++] = b;
+	}
+
+	/**
+	 * Refills the buffer from the stream
+	 *
+	 * @return true if bytes were read, false at the end of the stream
+	 * @throws IOException if the stream cannot be read
+	 */
+	private boolean fill() throws IOException {
+		position = 0;
+		limit = 0;
+		int count;
+		try {
+			count = in.read(buffer, 0, buffer.length);
+		} catch (EOFException | ZipException e) {
+			// A compressed file that was cut off ends where its data ends
+			return false;
+		}
+		if (count <= 0) {
+			return false;
+		}
+		limit = count;
+		return true;
+	}
+
+	/**
+	 * Checks if the line being scanned contains only whitespace
+	 *
+	 * @return true if the line is empty or whitespace
+	 */
+	private boolean isBlank() {
+		for (int i = 0; i < contentLength; i++) {
+			// Bytes of multi-byte characters are negative and never whitespace here
+			if (line[i] < 0 || !Character.isWhitespace((char) line[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
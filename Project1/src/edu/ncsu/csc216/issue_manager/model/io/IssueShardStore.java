@@ -0,0 +1,328 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Stores an issue list in a directory of shard files, each holding the Issues
+ * of one range of IDs. Shard i holds IDs i * idsPerShard + 1 through
+ * (i + 1) * idsPerShard in the text format, and a manifest records idsPerShard
+ * so a directory is always read with the ranges it was written with. Shards are
+ * read in parallel, and the store keeps track of which shards have changed so
+ * only those are rewritten.
+ *
+ * @author yash
+ *
+ */
+public class IssueShardStore {
+
+	/** Number of IDs in each shard of a new directory */
+	public static final int IDS_PER_SHARD = 10000;
+	/** Name of the manifest file in a shard directory */
+	public static final String MANIFEST = "shards.properties";
+	/** Start of the name of every shard file */
+	private static final String SHARD_PREFIX = "shard-";
+	/** End of the name of every shard file */
+	private static final String SHARD_SUFFIX = ".txt";
+	/** Manifest property holding the number of IDs in each shard */
+	private static final String IDS_PER_SHARD_PROPERTY = "idsPerShard";
+
+	/** Directory the shards are stored in */
+	private File directory;
+	/** Number of IDs in each shard */
+	private int idsPerShard;
+	/** Shards changed since they were last read or written */
+	private BitSet dirty;
+	/** True if every shard has to be written, such as for a new directory */
+	private boolean allDirty;
+	/** True if shards are written with a checksum after each record */
+	private boolean checksums;
+	/** Cache of the records of the list being stored, or null */
+	private IssueRecordCache records;
+
+	/**
+	 * Opens a shard directory, reading its manifest if it has one. A directory
+	 * without a manifest must be empty, so shards are only ever written to a new
+	 * store and never into a directory that holds other files.
+	 *
+	 * @param directoryName String name of the directory
+	 * @throws IllegalArgumentException if the directory does not exist, its
+	 *                                  manifest cannot be read, or it has no
+	 *                                  manifest and is not empty
+	 */
+	public IssueShardStore(String directoryName) {
+		directory = new File(directoryName);
+		if (!directory.isDirectory()) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+		dirty = new BitSet();
+		idsPerShard = IDS_PER_SHARD;
+		File manifest = new File(directory, MANIFEST);
+		if (manifest.exists()) {
+			Properties properties = new Properties();
+			try (InputStream in = new FileInputStream(manifest)) {
+				properties.load(in);
+				idsPerShard = Integer.parseInt(properties.getProperty(IDS_PER_SHARD_PROPERTY));
+			} catch (IOException | RuntimeException e) {
+				throw new IllegalArgumentException("Unable to load file.");
+			}
+			if (idsPerShard < 1) {
+				throw new IllegalArgumentException("Unable to load file.");
+			}
+		} else {
+			String[] files = directory.list();
+			if (files == null || files.length > 0) {
+				throw new IllegalArgumentException("Unable to load file.");
+			}
+			// Nothing has been written here yet, so every shard is new
+			allDirty = true;
+		}
+	}
+
+	/**
+	 * Checks if a file name names a shard directory that can be loaded
+	 *
+	 * @param fileName String name of the file
+	 * @return true if the name is of an existing directory with a manifest
+	 */
+	public static boolean isShardDirectory(String fileName) {
+		return new File(fileName, MANIFEST).isFile();
+	}
+
+	/**
+	 * Gets the name of the directory the shards are stored in
+	 *
+	 * @return directoryName String name of the directory
+	 */
+	public String getDirectoryName() {
+		return directory.getPath();
+	}
+
+	/**
+	 * Reads every shard in parallel
+	 *
+	 * @return issues ArrayList of the Issues in every shard, sorted by ID
+	 * @throws IllegalArgumentException if a shard cannot be read or holds an Issue
+	 *                                  outside of its ID range
+	 */
+	public ArrayList<Issue> readIssues() {
+		List<ArrayList<Issue>> contents = Arrays.stream(listShards()).parallel()
+				.mapToObj(this::readShard).collect(Collectors.toList());
+		int size = 0;
+		for (int i = 0; i < contents.size(); i++) {
+			size += contents.get(i).size();
+		}
+		// Shards are in ID order, so joining them keeps the Issues sorted
+		ArrayList<Issue> issues = new ArrayList<Issue>(size);
+		for (int i = 0; i < contents.size(); i++) {
+			issues.addAll(contents.get(i));
+		}
+		synchronized (this) {
+			dirty.clear();
+			allDirty = false;
+		}
+		return issues;
+	}
+
+	/**
+	 * Sets whether shards written from now on follow each record with its
+	 * IssueChecksum trailer
+	 *
+	 * @param checksums true to write checksums
+	 */
+	public void setChecksums(boolean checksums) {
+		this.checksums = checksums;
+	}
+
+	/**
+	 * Sets the cache of records that shards written from now on take their
+	 * records from, so unchanged Issues in a changed shard are not encoded again
+	 *
+	 * @param records IssueRecordCache of the list being stored, or null
+	 */
+	public void setRecordCache(IssueRecordCache records) {
+		this.records = records;
+	}
+
+	/**
+	 * Records that the Issue with an ID was added, changed, or deleted, so its
+	 * shard is rewritten by the next write
+	 *
+	 * @param id ID of the Issue
+	 */
+	public synchronized void markDirty(int id) {
+		dirty.set(getShard(id));
+	}
+
+	/**
+	 * Records that every shard has to be rewritten by the next write
+	 */
+	public synchronized void markAllDirty() {
+		allDirty = true;
+	}
+
+	/**
+	 * Takes the shards that have changed, so changes made after this call are
+	 * written by a later write
+	 *
+	 * @return changes the shards to write, to pass to writeIssues()
+	 */
+	public synchronized BitSet takeDirty() {
+		BitSet changes = allDirty ? null : (BitSet) dirty.clone();
+		dirty.clear();
+		allDirty = false;
+		return changes;
+	}
+
+	/**
+	 * Writes every shard that has changed
+	 *
+	 * @param issues list of every Issue, sorted by ID
+	 * @throws IllegalArgumentException if a shard cannot be written
+	 */
+	public void writeIssues(List<Issue> issues) {
+		writeIssues(issues, takeDirty());
+	}
+
+	/**
+	 * Writes the given shards. Each shard is written as a snapshot, so other
+	 * threads may keep updating the Issues, and shards left with no Issues are
+	 * deleted. If a shard cannot be written, the shards are marked as changed
+	 * again so a later write retries them.
+	 *
+	 * @param issues  list of every Issue, sorted by ID
+	 * @param changes shards to write from takeDirty(), or null for every shard
+	 * @throws IllegalArgumentException if a shard cannot be written
+	 */
+	public void writeIssues(List<Issue> issues, BitSet changes) {
+		try {
+			writeManifest();
+			BitSet written = new BitSet();
+			int start = 0;
+			while (start < issues.size()) {
+				int shard = getShard(issues.get(start).getIssueId());
+				int end = start + 1;
+				while (end < issues.size() && getShard(issues.get(end).getIssueId()) == shard) {
+					end++;
+				}
+				if (changes == null || changes.get(shard)) {
+					IssueWriter.writeSnapshotToFile(getShardFile(shard).getPath(), issues.subList(start, end),
+								checksums, records);
+				}
+				written.set(shard);
+				start = end;
+			}
+			int[] existing = listShards();
+			for (int i = 0; i < existing.length; i++) {
+				if (!written.get(existing[i]) && (changes == null || changes.get(existing[i]))) {
+					Files.deleteIfExists(getShardFile(existing[i]).toPath());
+				}
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			synchronized (this) {
+				if (changes == null) {
+					allDirty = true;
+				} else {
+					dirty.or(changes);
+				}
+			}
+			throw new IllegalArgumentException("Unable to save file.");
+		}
+	}
+
+	/**
+	 * Reads one shard
+	 *
+	 * @param shard number of the shard
+	 * @return issues ArrayList of the Issues in the shard
+	 * @throws IllegalArgumentException if the shard cannot be read or holds an
+	 *                                  Issue outside of its ID range
+	 */
+	private ArrayList<Issue> readShard(int shard) {
+		ArrayList<Issue> issues = IssueReader.readIssuesFromFile(getShardFile(shard).getPath());
+		for (int i = 0; i < issues.size(); i++) {
+			if (getShard(issues.get(i).getIssueId()) != shard) {
+				throw new IllegalArgumentException("Unable to load file.");
+			}
+		}
+		return issues;
+	}
+
+	/**
+	 * Writes the manifest if the directory does not have one yet
+	 *
+	 * @throws IOException if the manifest cannot be written
+	 */
+	private void writeManifest() throws IOException {
+		File manifest = new File(directory, MANIFEST);
+		if (!manifest.exists()) {
+			Properties properties = new Properties();
+			properties.setProperty(IDS_PER_SHARD_PROPERTY, Integer.toString(idsPerShard));
+			try (OutputStream out = new FileOutputStream(manifest)) {
+				properties.store(out, "Issue shard directory");
+			}
+		}
+	}
+
+	/**
+	 * Finds the shard holding an ID
+	 *
+	 * @param id ID of an Issue
+	 * @return shard number of the shard
+	 */
+	private int getShard(int id) {
+		return (id - 1) / idsPerShard;
+	}
+
+	/**
+	 * Gets the file of a shard
+	 *
+	 * @param shard number of the shard
+	 * @return file of the shard
+	 */
+	private File getShardFile(int shard) {
+		return new File(directory, SHARD_PREFIX + shard + SHARD_SUFFIX);
+	}
+
+	/**
+	 * Lists the shards that have files in the directory
+	 *
+	 * @return shards sorted numbers of the shards
+	 */
+	private int[] listShards() {
+		String[] names = directory.list();
+		if (names == null) {
+			throw new IllegalArgumentException("Unable to load file.");
+		}
+		int[] shards = new int[names.length];
+		int count = 0;
+		for (int i = 0; i < names.length; i++) {
+			String name = names[i];
+			if (name.startsWith(SHARD_PREFIX) && name.endsWith(SHARD_SUFFIX)) {
+				try {
+					shards[count] = Integer.parseInt(
+							name.substring(SHARD_PREFIX.length(), name.length() - SHARD_SUFFIX.length()));
+					count++;
+				} catch (NumberFormatException e) {
+					// Not a shard file
+				}
+			}
+		}
+		shards = Arrays.copyOf(shards, count);
+		Arrays.sort(shards);
+		return shards;
+	}
+}
@@ -1,7 +1,12 @@
 package edu.ncsu.csc216.issue_manager.model.io;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.PrintStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import edu.ncsu.csc216.issue_manager.model.issue.Issue;
 
@@ -11,25 +16,335 @@ import edu.ncsu.csc216.issue_manager.model.issue.Issue;
  *
  */
 public class IssueWriter {
+
+	/** Number of bytes buffered before they are written to the file */
+	private static final int BUFFER_SIZE = 64 * 1024;
 	
 	/**
-	 * Creates a list of Issues with a passed in String file name
+	 * Creates a list of Issues with a passed in String file name. Every record is
+	 * encoded into one IssueRecordBuffer that is reused for the whole file. A file
+	 * name ending in IssueBinaryFormat.EXTENSION is written in the binary format
+	 * instead, and a file name ending in IssueCompression.EXTENSION is compressed
+	 * with GZIP.
 	 * 
 	 * @param fileName name of the file that is going to be written
 	 * @param list list of the Issues that are going to be put into a file
 	 * @throws IllegalArgumentException if the file is unable to be saved due to any errors
 	 */
 	public static void writeIssuesToFile(String fileName, List<Issue> list) throws IllegalArgumentException {
+		writeIssuesToFile(fileName, list, false);
+	}
+
+	/**
+	 * Creates a list of Issues with a passed in String file name, optionally
+	 * writing an IssueFileIndex next to it that maps each Issue's ID to the byte
+	 * offset and length of its record. The index lets
+	 * IssueReader.readIssueById() and IssueReader.readIssuesInRange() read
+	 * records without parsing the rest of the file. Compressed files cannot be
+	 * indexed since their records cannot be read by seeking.
+	 * 
+	 * @param fileName name of the file that is going to be written
+	 * @param list list of the Issues that are going to be put into a file
+	 * @param writeIndex true if the index file should be written
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any
+	 *                                  errors, or an index is requested for a
+	 *                                  compressed file
+	 */
+	public static void writeIssuesToFile(String fileName, List<Issue> list, boolean writeIndex)
+			throws IllegalArgumentException {
+		writeIssuesToFile(fileName, list, writeIndex, false);
+	}
+
+	/**
+	 * Creates a list of Issues with a passed in String file name, optionally
+	 * writing an IssueFileIndex next to it and optionally following each record
+	 * with an IssueChecksum trailer, so IssueReader.recoverIssuesFromFile() can
+	 * skip records that were damaged. Indexed records include their trailers.
+	 * Checksums are only written in the text format; binary files are written
+	 * without them.
+	 * 
+	 * @param fileName name of the file that is going to be written
+	 * @param list list of the Issues that are going to be put into a file
+	 * @param writeIndex true if the index file should be written
+	 * @param checksums true if each record should be followed by its checksum
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any
+	 *                                  errors, or an index is requested for a
+	 *                                  compressed file
+	 */
+	public static void writeIssuesToFile(String fileName, List<Issue> list, boolean writeIndex, boolean checksums)
+			throws IllegalArgumentException {
+		writeIssuesToFile(fileName, list, writeIndex, checksums, null);
+	}
+
+	/**
+	 * Creates a list of Issues as writeIssuesToFile(String, List, boolean,
+	 * boolean) does, taking the records from the IssueRecordCache of the list, so
+	 * an Issue is only encoded again after Issue.update() changes its version.
+	 * 
+	 * @param fileName name of the file that is going to be written
+	 * @param list list of the Issues that are going to be put into a file
+	 * @param writeIndex true if the index file should be written
+	 * @param checksums true if each record should be followed by its checksum
+	 * @param records IssueRecordCache of the list, or null to encode every Issue
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any
+	 *                                  errors, or an index is requested for a
+	 *                                  compressed file
+	 */
+	public static void writeIssuesToFile(String fileName, List<Issue> list, boolean writeIndex, boolean checksums,
+			IssueRecordCache records) throws IllegalArgumentException {
+		if (writeIndex && IssueCompression.hasCompressedExtension(fileName)) {
+			throw new IllegalArgumentException("Unable to save file.");
+		}
+		IssueFileIndex index = writeIndex ? new IssueFileIndex(list.size()) : null;
+		long dataLength;
+		if (IssueBinaryFormat.hasBinaryExtension(fileName)) {
+			dataLength = writeBinaryFile(fileName, list, index, records);
+		} else {
+			dataLength = writeTextFile(fileName, list, index, checksums, records);
+		}
+		if (index != null) {
+			try {
+				index.write(fileName, dataLength);
+			} catch(IOException e) {
+				throw new IllegalArgumentException("Unable to save file.");
+			}
+		}
+	}
+
+	/**
+	 * Writes a list of Issues in the binary format read by
+	 * IssueReader.readIssuesFromBinaryFile()
+	 * 
+	 * @param fileName name of the file that is going to be written
+	 * @param list list of the Issues that are going to be put into a file
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any errors
+	 */
+	public static void writeIssuesToBinaryFile(String fileName, List<Issue> list) throws IllegalArgumentException {
+		writeBinaryFile(fileName, list, null, null);
+	}
+
+	/**
+	 * Writes a list of Issues in the text format
+	 * 
+	 * @param fileName name of the file that is going to be written
+	 * @param list list of the Issues that are going to be put into a file
+	 * @param index index the records are added to, or null
+	 * @param checksums true if each record should be followed by its checksum
+	 * @param records IssueRecordCache the records come from, or null
+	 * @return length of the file in bytes
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any errors
+	 */
+	private static long writeTextFile(String fileName, List<Issue> list, IssueFileIndex index, boolean checksums,
+			IssueRecordCache records) {
+		long offset = 0;
+		IssueRecordBuffer buffer = new IssueRecordBuffer();
+		try (OutputStream out = new BufferedOutputStream(openOutput(new File(fileName), fileName), BUFFER_SIZE)) {
+			if (checksums) {
+				out.write(IssueChecksum.FILE_MARKER_LINE);
+				offset += IssueChecksum.FILE_MARKER_LINE.length;
+			}
+			for (int i = 0; i < list.size(); i++) {
+				Issue issue = list.get(i);
+				loadRecord(records, issue, false, buffer);
+				buffer.writeTo(out);
+				int length = buffer.getLength();
+				if (checksums) {
+					byte[] trailer = IssueChecksum.trailer(buffer.getBytes(), length);
+					out.write(trailer);
+					length += trailer.length;
+				}
+				if (index != null) {
+					index.add(issue.getIssueId(), offset, length);
+				}
+				offset += length;
+			}
+		} catch(Exception e) {
+			throw new IllegalArgumentException("Unable to save file.");
+		}
+		return offset;
+	}
+
+	/**
+	 * Writes a list of Issues in the binary format
+	 * 
+	 * @param fileName name of the file that is going to be written
+	 * @param list list of the Issues that are going to be put into a file
+	 * @param index index the records are added to, or null
+	 * @param records IssueRecordCache the records come from, or null
+	 * @return length of the file in bytes
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any errors
+	 */
+	private static long writeBinaryFile(String fileName, List<Issue> list, IssueFileIndex index,
+			IssueRecordCache records) {
+		IssueRecordBuffer buffer = new IssueRecordBuffer();
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(openOutput(new File(fileName), fileName), BUFFER_SIZE))) {
+			IssueBinaryFormat.writeHeader(out, list.size());
+			long offset = out.size();
+			for (int i = 0; i < list.size(); i++) {
+				Issue issue = list.get(i);
+				loadRecord(records, issue, true, buffer);
+				buffer.writeTo(out);
+				if (index != null) {
+					index.add(issue.getIssueId(), offset, buffer.getLength());
+				}
+				offset += buffer.getLength();
+			}
+			return offset;
+		} catch(Exception e) {
+			throw new IllegalArgumentException("Unable to save file.");
+		}
+	}
+
+	/**
+	 * Writes a snapshot of a list of Issues that other threads may still be
+	 * updating. Each Issue is locked while it is encoded, the same lock
+	 * IssueList.executeCommand() holds while it updates an Issue, so every record
+	 * is consistent. The list may have an Issue replaced by a copy of it while the
+	 * Issue's lock is held, and the copy is written instead. The snapshot is written to a temporary file and then moved
+	 * over fileName, so fileName always holds a whole snapshot. File names select
+	 * the binary format and compression as they do for writeIssuesToFile().
+	 * 
+	 * @param fileName name of the file that is going to be written
+	 * @param list list of the Issues that are going to be put into a file
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any errors
+	 */
+	public static void writeSnapshotToFile(String fileName, List<Issue> list) throws IllegalArgumentException {
+		writeSnapshotToFile(fileName, list, false);
+	}
+
+	/**
+	 * Writes a snapshot of a list of Issues as writeSnapshotToFile(String, List)
+	 * does, optionally following each text record with its IssueChecksum trailer
+	 * 
+	 * @param fileName name of the file that is going to be written
+	 * @param list list of the Issues that are going to be put into a file
+	 * @param checksums true if each record should be followed by its checksum
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any errors
+	 */
+	public static void writeSnapshotToFile(String fileName, List<Issue> list, boolean checksums)
+			throws IllegalArgumentException {
+		writeSnapshotToFile(fileName, list, checksums, null);
+	}
+
+	/**
+	 * Writes a snapshot of a list of Issues as writeSnapshotToFile(String, List,
+	 * boolean) does, taking the records from the IssueRecordCache of the list
+	 * 
+	 * @param fileName name of the file that is going to be written
+	 * @param list list of the Issues that are going to be put into a file
+	 * @param checksums true if each record should be followed by its checksum
+	 * @param records IssueRecordCache of the list, or null to encode every Issue
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any errors
+	 */
+	public static void writeSnapshotToFile(String fileName, List<Issue> list, boolean checksums,
+			IssueRecordCache records) throws IllegalArgumentException {
+		File file = new File(fileName);
+		File temp = new File(fileName + ".tmp");
+		if (IssueBinaryFormat.hasBinaryExtension(fileName)) {
+			writeBinarySnapshot(temp, fileName, list, records);
+		} else {
+			writeTextSnapshot(temp, fileName, list, checksums, records);
+		}
 		try {
-			PrintStream fileWriter = new PrintStream(new File(fileName));
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch(IOException e) {
+			throw new IllegalArgumentException("Unable to save file.");
+		}
+	}
 
+	/**
+	 * Writes a snapshot of a list of Issues in the text format, locking each Issue
+	 * while it is encoded
+	 * 
+	 * @param temp file that is going to be written
+	 * @param fileName name of the file the snapshot replaces
+	 * @param list list of the Issues that are going to be put into the file
+	 * @param checksums true if each record should be followed by its checksum
+	 * @param records IssueRecordCache the records come from, or null
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any errors
+	 */
+	private static void writeTextSnapshot(File temp, String fileName, List<Issue> list, boolean checksums,
+			IssueRecordCache records) {
+		IssueRecordBuffer buffer = new IssueRecordBuffer();
+		try (OutputStream out = new BufferedOutputStream(openOutput(temp, fileName), BUFFER_SIZE)) {
+			if (checksums) {
+				out.write(IssueChecksum.FILE_MARKER_LINE);
+			}
 			for (int i = 0; i < list.size(); i++) {
-			    fileWriter.println(list.get(i).toString());
+				Issue issue = list.get(i);
+				synchronized (issue) {
+					// Read again under the lock in case the Issue was replaced by a copy
+					loadRecord(records, list.get(i), false, buffer);
+				}
+				buffer.writeTo(out);
+				if (checksums) {
+					out.write(IssueChecksum.trailer(buffer.getBytes(), buffer.getLength()));
+				}
 			}
+		} catch(Exception e) {
+			throw new IllegalArgumentException("Unable to save file.");
+		}
+	}
 
-			fileWriter.close();
+	/**
+	 * Writes a snapshot of a list of Issues in the binary format, locking each
+	 * Issue while it is encoded
+	 * 
+	 * @param temp file that is going to be written
+	 * @param fileName name of the file the snapshot replaces
+	 * @param list list of the Issues that are going to be put into the file
+	 * @param records IssueRecordCache the records come from, or null
+	 * @throws IllegalArgumentException if the file is unable to be saved due to any errors
+	 */
+	private static void writeBinarySnapshot(File temp, String fileName, List<Issue> list,
+			IssueRecordCache records) {
+		IssueRecordBuffer buffer = new IssueRecordBuffer();
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(openOutput(temp, fileName), BUFFER_SIZE))) {
+			IssueBinaryFormat.writeHeader(out, list.size());
+			for (int i = 0; i < list.size(); i++) {
+				Issue issue = list.get(i);
+				synchronized (issue) {
+					// Read again under the lock in case the Issue was replaced by a copy
+					loadRecord(records, list.get(i), true, buffer);
+				}
+				buffer.writeTo(out);
+			}
 		} catch(Exception e) {
 			throw new IllegalArgumentException("Unable to save file.");
 		}
 	}
+
+	/**
+	 * Puts the record of an Issue in a buffer, from a cache if there is one
+	 * 
+	 * @param records IssueRecordCache the record comes from, or null to encode it
+	 * @param issue Issue to get the record of
+	 * @param binary true for the binary format, false for the text format
+	 * @param buffer IssueRecordBuffer the record is put in
+	 * @throws IOException if the Issue cannot be encoded
+	 */
+	private static void loadRecord(IssueRecordCache records, Issue issue, boolean binary, IssueRecordBuffer buffer)
+			throws IOException {
+		if (records == null) {
+			buffer.encode(issue, binary);
+		} else {
+			records.loadRecord(issue, binary, buffer);
+		}
+	}
+
+	/**
+	 * Opens a file for writing, compressing it if the name it is saved under ends
+	 * in IssueCompression.EXTENSION
+	 * 
+	 * @param file file that is going to be written
+	 * @param fileName name the file is saved under
+	 * @return stream the file is written through
+	 * @throws IOException if the file cannot be opened
+	 */
+	private static OutputStream openOutput(File file, String fileName) throws IOException {
+		return IssueCompression.openOutput(file, IssueCompression.hasCompressedExtension(fileName));
+	}
 }
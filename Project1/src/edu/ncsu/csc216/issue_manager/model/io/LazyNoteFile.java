@@ -0,0 +1,236 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Reads the Issues of a text issue file without their notes. Only the header of
+ * each record is parsed, and each Issue keeps the byte offset and length of its
+ * note block, which is read from the file the first time the notes are needed.
+ * The file stays open until this LazyNoteFile is closed, and since a save that
+ * replaces the file with a new one leaves the open file untouched, notes can
+ * still be loaded after the list is saved over the same name.
+ *
+ * @author yash
+ *
+ */
+public class LazyNoteFile implements Closeable {
+
+	/** Number of bytes read from the file at a time while scanning */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** Channel of the file being read */
+	private FileChannel channel;
+	/** Bytes read from the file but not yet scanned */
+	private byte[] buffer;
+	/** Position of the next byte to scan in the buffer */
+	private int position;
+	/** Number of valid bytes in the buffer */
+	private int limit;
+	/** Position in the file of the first byte in the buffer */
+	private long bufferStart;
+	/** Bytes of the line being scanned */
+	private byte[] line;
+	/** Number of bytes in line */
+	private int lineLength;
+	/** Position in the file just after the line being scanned and its terminator */
+	private long lineEnd;
+
+	/**
+	 * Opens an issue file
+	 *
+	 * @param fileName String name of the file to read
+	 * @throws IOException if the file cannot be opened
+	 */
+	public LazyNoteFile(String fileName) throws IOException {
+		channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+		buffer = new byte[BUFFER_SIZE];
+		line = new byte[256];
+	}
+
+	/**
+	 * Reads the Issues in the file without their notes. The file is checked by the
+	 * same rules IssueReader.readIssuesFromFile() uses, so loading the notes later
+	 * cannot fail unless the file cannot be read.
+	 *
+	 * @return issues ArrayList of the Issues in the file, in file order
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if a record is not a valid Issue
+	 */
+	public ArrayList<Issue> readIssues() throws IOException {
+		ArrayList<Issue> issues = new ArrayList<Issue>();
+		position = 0;
+		limit = 0;
+		bufferStart = 0;
+		lineEnd = 0;
+		String header = null;
+		long notesStart = 0;
+		boolean hasNote = false;
+		while (true) {
+			long lineStart = lineEnd;
+			boolean read = readLine();
+			if (!read || lineLength > 0 && line[0] == '*') {
+				if (header != null) {
+					if (!hasNote) {
+						throw new IllegalArgumentException("Invalid issue record: *" + header);
+					}
+					issues.add(lazyIssue(header, notesStart, lineStart - notesStart));
+				}
+				if (!read) {
+					return issues;
+				}
+				header = new String(line, 1, lineLength - 1, StandardCharsets.UTF_8);
+				notesStart = lineEnd;
+				hasNote = false;
+			} else if (lineLength > 0 && line[0] == '-') {
+				if (header == null) {
+					throw new IllegalArgumentException(
+							"Invalid issue record: " + new String(line, 0, lineLength, StandardCharsets.UTF_8));
+				}
+				hasNote = true;
+			} else if (!isBlank() && !(header == null && IssueChecksum.isFileMarker(line, lineLength))) {
+				if (header == null) {
+					throw new IllegalArgumentException(
+							"Invalid issue record: " + new String(line, 0, lineLength, StandardCharsets.UTF_8));
+				} else if (!hasNote) {
+					throw new IllegalArgumentException("Invalid issue record: *" + header);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the notes in a note block of the file
+	 *
+	 * @param offset position of the note block in the file
+	 * @param length number of bytes in the note block
+	 * @return notes ArrayList of the notes in the block
+	 * @throws UncheckedIOException  if the file cannot be read
+	 * @throws IllegalStateException if the block no longer holds notes
+	 */
+	ArrayList<String> readNotes(long offset, int length) {
+		ByteBuffer block = ByteBuffer.allocate(length);
+		try {
+			while (block.hasRemaining()) {
+				if (channel.read(block, offset + block.position()) < 0) {
+					throw new IllegalStateException("Issue notes could not be loaded.");
+				}
+			}
+			ArrayList<String> notes = new IssueRecordReader(
+					new StringReader(new String(block.array(), StandardCharsets.UTF_8))).readNotes();
+			if (notes == null || notes.isEmpty()) {
+				throw new IllegalStateException("Issue notes could not be loaded.");
+			}
+			return notes;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Closes the file. Notes that have not been loaded can no longer be loaded.
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Creates an Issue whose notes are read from a note block of the file
+	 *
+	 * @param header String header line of the record without its leading '*'
+	 * @param offset position of the note block in the file
+	 * @param length number of bytes in the note block
+	 * @return issue the Issue described by the record
+	 * @throws IllegalArgumentException if the record is not a valid Issue
+	 */
+	private Issue lazyIssue(String header, long offset, long length) {
+		if (length > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Invalid issue record: *" + header);
+		}
+		int blockLength = (int) length;
+		return IssueRecordReader.processIssue(header, () -> readNotes(offset, blockLength));
+	}
+
+	/**
+	 * Reads the next line of the file into line, without its line terminator
+	 *
+	 * @return true if a line was read, false at the end of the file
+	 * @throws IOException if the file cannot be read
+	 */
+	private boolean readLine() throws IOException {
+		lineLength = 0;
+		if (position >= limit && !fill()) {
+			return false;
+		}
+		while (true) {
+			if (position >= limit && !fill()) {
+				lineEnd = bufferStart + position;
+				return true;
+			}
+			byte b = buffer[position++];
+			if (b == '\n') {
+				lineEnd = bufferStart + position;
+				return true;
+			} else if (b == '\r') {
+				if (position < limit || fill()) {
+					if (buffer[position] == '\n') {
+						position++;
+					}
+				}
+				lineEnd = bufferStart + position;
+				return true;
+			}
+			if (lineLength == line.length) {
+				line = Arrays.copyOf(line, lineLength * 2);
+			}
+			line[lineLength++] = b;
+		}
+	}
+
+	/**
+	 * Refills the buffer from the file
+	 *
+	 * @return true if bytes were read, false at the end of the file
+	 * @throws IOException if the file cannot be read
+	 */
+	private boolean fill() throws IOException {
+		bufferStart += limit;
+		position = 0;
+		limit = 0;
+		int count = channel.read(ByteBuffer.wrap(buffer), bufferStart);
+		if (count <= 0) {
+			return false;
+		}
+		limit = count;
+		return true;
+	}
+
+	/**
+	 * Checks if the line being scanned contains only whitespace
+	 *
+	 * @return true if the line is empty or whitespace
+	 */
+	private boolean isBlank() {
+		for (int i = 0; i < lineLength; i++) {
+			// Bytes of multi-byte characters are negative and never whitespace here
+			if (line[i] < 0 || !Character.isWhitespace((char) line[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,184 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the characters of a UTF-8 file straight out of memory mapped regions of
+ * the file. ASCII bytes are copied to characters directly and only multi-byte
+ * sequences go through the UTF-8 decoding path. Files larger than one mapping
+ * can hold are mapped one region at a time.
+ *
+ * @author yash
+ *
+ */
+public class MappedFileReader extends Reader {
+
+	/** Largest number of bytes mapped at once */
+	private static final long REGION_SIZE = 1L << 30;
+	/** Character used in place of a malformed UTF-8 sequence */
+	private static final char REPLACEMENT = '\uFFFD';
+
+	/** Channel of the file being read */
+	private FileChannel channel;
+	/** Position in the file just after the last byte to read */
+	private long end;
+	/** Position in the file just after the mapped region */
+	private long regionEnd;
+	/** Mapped region being read */
+	private MappedByteBuffer region;
+	/** Low surrogate still to be returned after its high surrogate, or 0 if none */
+	private char pendingLowSurrogate;
+
+	/**
+	 * Constructs a MappedFileReader for a file
+	 *
+	 * @param fileName String name of the file to read
+	 * @throws IOException if the file cannot be opened
+	 */
+	public MappedFileReader(String fileName) throws IOException {
+		this(fileName, 0, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Constructs a MappedFileReader for a byte range of a file. The range must
+	 * start and end on character boundaries.
+	 *
+	 * @param fileName String name of the file to read
+	 * @param start    position of the first byte to read
+	 * @param end      position just after the last byte to read
+	 * @throws IOException if the file cannot be opened
+	 */
+	public MappedFileReader(String fileName, long start, long end) throws IOException {
+		channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+		this.end = Math.min(end, channel.size());
+		regionEnd = start;
+	}
+
+	/**
+	 * Reads characters into a portion of an array
+	 *
+	 * @param cbuf destination array
+	 * @param off  offset to start storing characters at
+	 * @param len  maximum number of characters to read
+	 * @return number of characters read, or -1 at the end of the file
+	 * @throws IOException if the file cannot be read
+	 */
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		int count = 0;
+		while (count < len) {
+			if (pendingLowSurrogate != 0) {
+				cbuf[off + count++] = pendingLowSurrogate;
+				pendingLowSurrogate = 0;
+				continue;
+			}
+			if ((region == null || !region.hasRemaining()) && !nextRegion()) {
+				break;
+			}
+			// ASCII fast path over the rest of the region
+			int limit = Math.min(len - count, region.remaining());
+			int b = 0;
+			int i = 0;
+			while (i < limit) {
+				b = region.get();
+				if (b < 0) {
+					break;
+				}
+				cbuf[off + count++] = (char) b;
+				i++;
+			}
+			if (b < 0) {
+				count = decode(b, cbuf, off, count);
+			}
+		}
+		return count == 0 && len > 0 ? -1 : count;
+	}
+
+	/**
+	 * Closes the file
+	 *
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		region = null;
+		channel.close();
+	}
+
+	/**
+	 * Decodes a multi-byte UTF-8 sequence that starts with the given byte
+	 *
+	 * @param lead  first byte of the sequence
+	 * @param cbuf  destination array
+	 * @param off   offset the caller started storing characters at
+	 * @param count number of characters already stored
+	 * @return number of characters stored after decoding
+	 * @throws IOException if the file cannot be read
+	 */
+	private int decode(int lead, char[] cbuf, int off, int count) throws IOException {
+		int extra;
+		int codePoint;
+		if ((lead & 0xE0) == 0xC0) {
+			extra = 1;
+			codePoint = lead & 0x1F;
+		} else if ((lead & 0xF0) == 0xE0) {
+			extra = 2;
+			codePoint = lead & 0x0F;
+		} else if ((lead & 0xF8) == 0xF0) {
+			extra = 3;
+			codePoint = lead & 0x07;
+		} else {
+			cbuf[off + count] = REPLACEMENT;
+			return count + 1;
+		}
+		for (int i = 0; i < extra; i++) {
+			int next = nextByte();
+			if (next < 0 || (next & 0xC0) != 0x80) {
+				cbuf[off + count] = REPLACEMENT;
+				return count + 1;
+			}
+			codePoint = (codePoint << 6) | (next & 0x3F);
+		}
+		if (Character.isBmpCodePoint(codePoint)) {
+			cbuf[off + count] = (char) codePoint;
+		} else {
+			cbuf[off + count] = Character.highSurrogate(codePoint);
+			pendingLowSurrogate = Character.lowSurrogate(codePoint);
+		}
+		return count + 1;
+	}
+
+	/**
+	 * Reads the next byte of the file, mapping the next region if needed
+	 *
+	 * @return next byte as an unsigned value, or -1 at the end of the file
+	 * @throws IOException if the file cannot be read
+	 */
+	private int nextByte() throws IOException {
+		if (!region.hasRemaining() && !nextRegion()) {
+			return -1;
+		}
+		return region.get() & 0xFF;
+	}
+
+	/**
+	 * Maps the next region of the file
+	 *
+	 * @return true if a region was mapped, false at the end of the file
+	 * @throws IOException if the file cannot be mapped
+	 */
+	private boolean nextRegion() throws IOException {
+		if (regionEnd >= end) {
+			return false;
+		}
+		long size = Math.min(REGION_SIZE, end - regionEnd);
+		region = channel.map(FileChannel.MapMode.READ_ONLY, regionEnd, size);
+		regionEnd += size;
+		return true;
+	}
+}
@@ -1,6 +1,9 @@
 package edu.ncsu.csc216.issue_manager.model.issue;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.function.Supplier;
 
 import edu.ncsu.csc216.issue_manager.model.command.Command;
 import edu.ncsu.csc216.issue_manager.model.command.Command.CommandValue;
@@ -45,8 +48,12 @@ public class Issue {
 	private boolean confirmed;
 	/** Type of resolution */
 	private Resolution resolution;
-	/** ArrayList of notes */
+	/** ArrayList of notes, or null until noteLoader has loaded them */
 	private ArrayList<String> notes;
+	/** Loads the notes on first access, or null if the notes are loaded */
+	private Supplier<ArrayList<String>> noteLoader;
+	/** Number of times the issue has been updated, so cached copies of its text can tell they are stale */
+	private int version;
 
 	/** Final instance of the NewState inner class */
 	private IssueState newState = new NewState();
@@ -110,6 +117,102 @@ public class Issue {
 		setState(state);
 	}
 
+	/**
+	 * Constructs an Issue object whose notes are not loaded until they are first
+	 * needed, so Issues with long histories only hold their notes while they are
+	 * being worked on
+	 * 
+	 * @param id         int id of the issue
+	 * @param state      String state of the issue
+	 * @param issueType  String type of string
+	 * @param summary    String summary of issue
+	 * @param owner      String owner of the issue
+	 * @param confirmed  boolean if the issue is confirmed or not
+	 * @param resolution String resolution state of the issue
+	 * @param noteLoader Supplier that loads the notes of the issue
+	 */
+	public Issue(int id, String state, String issueType, String summary, String owner, boolean confirmed,
+			String resolution, Supplier<ArrayList<String>> noteLoader) {
+		this(id, state, issueType, summary, owner, confirmed, resolution, (ArrayList<String>) null);
+		this.noteLoader = noteLoader;
+	}
+
+	/**
+	 * Constructs an Issue from the codes of its state, type, and resolution, such
+	 * as those of a binary issue file, without parsing their names. The fields are
+	 * checked as the constructor that takes names checks them.
+	 *
+	 * @param id         int id of the issue
+	 * @param stateCode  int position of the state in NEW_NAME, WORKING_NAME,
+	 *                   CONFIRMED_NAME, VERIFYING_NAME, and CLOSED_NAME
+	 * @param issueType  IssueType type of the issue
+	 * @param summary    String summary of issue
+	 * @param owner      String owner of the issue
+	 * @param confirmed  boolean if the issue is confirmed or not
+	 * @param resolution Resolution of the issue, or null
+	 * @param notes      ArrayList of Strings notes of the issue
+	 * @throws IllegalArgumentException if id is less than 1, issueType or notes
+	 *                                  is null, summary is null or empty, the
+	 *                                  state code is out of range, or an
+	 *                                  Enhancement is confirmed
+	 */
+	public Issue(int id, int stateCode, IssueType issueType, String summary, String owner, boolean confirmed,
+			Resolution resolution, ArrayList<String> notes) {
+		if (issueType == null || notes == null || issueType == IssueType.ENHANCEMENT && confirmed) {
+			throw new IllegalArgumentException("Issue cannot be created.");
+		}
+		setIssueId(id);
+		this.issueType = issueType;
+		setSummary(summary);
+		this.owner = owner;
+		this.confirmed = confirmed;
+		this.resolution = resolution;
+		this.notes = notes;
+
+		switch (stateCode) {
+		case 0:
+			this.state = newState;
+			break;
+		case 1:
+			this.state = workingState;
+			break;
+		case 2:
+			this.state = confirmedState;
+			break;
+		case 3:
+			this.state = verifyingState;
+			break;
+		case 4:
+			this.state = closedState;
+			break;
+		default:
+			throw new IllegalArgumentException("Issue cannot be created.");
+		}
+	}
+
+	/**
+	 * Constructs a copy of an Issue as it is now, so later updates to either
+	 * Issue do not change the other. Notes that have not been loaded yet are
+	 * loaded by the copy when it needs them. The caller should hold the lock of
+	 * the Issue being copied if other threads may update it.
+	 * 
+	 * @param issue Issue to copy
+	 */
+	public Issue(Issue issue) {
+		this.issueId = issue.issueId;
+		this.issueType = issue.issueType;
+		this.summary = issue.summary;
+		this.owner = issue.owner;
+		this.confirmed = issue.confirmed;
+		this.resolution = issue.resolution;
+		if (issue.noteLoader != null) {
+			this.noteLoader = issue.noteLoader;
+		} else {
+			this.notes = new ArrayList<String>(issue.notes);
+		}
+		setState(issue.getStateName());
+	}
+
 	/**
 	 * Sets the issue ID of the Issue object
 	 * 
@@ -349,23 +452,69 @@ public class Issue {
 	 * @return notes The entire list of notes is returned
 	 */
 	public ArrayList<String> getNotes() {
+		return loadNotes();
+	}
+
+	/**
+	 * Loads the notes if they have not been loaded yet and keeps them. Holds the
+	 * Issue's lock so the notes are only loaded once.
+	 * 
+	 * @return notes The entire list of notes
+	 */
+	private synchronized ArrayList<String> loadNotes() {
+		if (noteLoader != null) {
+			notes = noteLoader.get();
+			noteLoader = null;
+		}
 		return notes;
 	}
 
+	/**
+	 * Reads the notes without keeping notes that have not been loaded yet, so
+	 * saving a list with lazy notes does not hold every note in memory once the
+	 * save is done. The notes of an unloaded issue are read again on each call.
+	 * The returned list must not be changed.
+	 * 
+	 * @return notes The entire list of notes, which is a temporary list if the
+	 *         notes have not been loaded
+	 */
+	public ArrayList<String> readNotes() {
+		Supplier<ArrayList<String>> loader;
+		synchronized (this) {
+			if (noteLoader == null) {
+				return notes;
+			}
+			loader = noteLoader;
+		}
+		return loader.get();
+	}
+
+	/**
+	 * Checks if the notes have been loaded, or were never lazy
+	 * 
+	 * @return true if the notes are in memory
+	 */
+	public synchronized boolean isNotesLoaded() {
+		return noteLoader == null;
+	}
+
 	/**
 	 * Gets notes from the ArrayList as a String
 	 * 
 	 * @return note Note from the ArrayList as a String
 	 */
 	public String getNotesString() {
-		ArrayList<String> tempList = getNotes();
-		String tempNoteLine = "";
-
-		for (int i = 0; i < tempList.size(); i++) {
-			tempNoteLine = tempNoteLine + "-" + tempList.get(i).trim() + "\n";
+		StringBuilder tempNoteLine = new StringBuilder();
+		try {
+			writeNotesTo(tempNoteLine, loadNotes());
+		} catch (IOException e) {
+			// StringBuilder does not throw IOException
+			throw new UncheckedIOException(e);
 		}
-
-		return tempNoteLine;
+		if (!loadNotes().isEmpty()) {
+			tempNoteLine.append('\n');
+		}
+		return tempNoteLine.toString();
 	}
 
 	/**
@@ -385,25 +534,87 @@ public class Issue {
 	 */
 	@Override
 	public String toString() {
-		String tempOwner;
-		if (getOwner() == null) {
-			tempOwner = "null";
-		} else {
-			tempOwner = getOwner();
-		}
+		StringBuilder temp = new StringBuilder();
+		try {
+			writeTo(temp);
+		} catch (IOException e) {
+			// StringBuilder does not throw IOException
+			throw new UncheckedIOException(e);
+		}
+		return temp.toString();
+	}
 
-		String tempRes;
-		if (getResolution() == null) {
-			tempRes = "";
-		} else {
-			tempRes = getResolution();
-		}
+	/**
+	 * Writes the same text as toString() to out, field by field, without building
+	 * any intermediate Strings for the Issue
+	 * 
+	 * @param out Appendable the Issue is written to
+	 * @throws IOException if out cannot be written to
+	 */
+	public void writeTo(Appendable out) throws IOException {
+		out.append('*');
+		appendInt(out, issueId);
+		out.append(',').append(getStateName());
+		out.append(',').append(getIssueType());
+		out.append(',').append(summary);
+		out.append(',').append(getOwner() == null ? "null" : owner);
+		out.append(',').append(confirmed ? "true" : "false");
+		out.append(',');
+		if (resolution != null) {
+			out.append(getResolution());
+		}
+		out.append('\n');
+		writeNotesTo(out, readNotes());
+	}
 
-		String tempNotes = getNotesString();
-		tempNotes = tempNotes.substring(0, tempNotes.length() - 1);
+	/**
+	 * Writes each note trimmed and prefixed by '-', with a line break between notes
+	 * but not after the last one
+	 * 
+	 * @param out   Appendable the notes are written to
+	 * @param notes notes to write
+	 * @throws IOException if out cannot be written to
+	 */
+	private static void writeNotesTo(Appendable out, ArrayList<String> notes) throws IOException {
+		for (int i = 0; i < notes.size(); i++) {
+			String note = notes.get(i);
+			int start = 0;
+			int end = note.length();
+			// Same bounds as String.trim(), without creating the trimmed String
+			while (start < end && note.charAt(start) <= ' ') {
+				start++;
+			}
+			while (end > start && note.charAt(end - 1) <= ' ') {
+				end--;
+			}
+			if (i > 0) {
+				out.append('\n');
+			}
+			out.append('-');
+			if (start == 0 && end == note.length()) {
+				out.append(note);
+			} else {
+				out.append(note, start, end);
+			}
+		}
+	}
 
-		return "*" + getIssueId() + "," + getStateName() + "," + getIssueType() + "," + getSummary() + "," + tempOwner
-				+ "," + String.valueOf(isConfirmed()) + "," + tempRes + "\n" + tempNotes;
+	/**
+	 * Writes the decimal digits of a non-negative int without creating a String
+	 * 
+	 * @param out   Appendable the digits are written to
+	 * @param value int value to write
+	 * @throws IOException if out cannot be written to
+	 */
+	private static void appendInt(Appendable out, int value) throws IOException {
+		int divisor = 1;
+		while (value / divisor >= 10) {
+			divisor *= 10;
+		}
+		while (divisor > 0) {
+			out.append((char) ('0' + value / divisor % 10));
+			divisor /= 10;
+		}
 	}
 
 	/**
@@ -417,7 +628,7 @@ public class Issue {
 			throw new IllegalArgumentException("Issue cannot be created.");
 		} else {
 			String temp = "[" + this.getStateName() + "] " + note;
-			notes.add(temp);
+			loadNotes().add(temp);
 		}
 	}
 
@@ -429,7 +640,23 @@ public class Issue {
 	 *                                       current state
 	 */
 	public void update(Command command) {
-		state.updateState(command);
+		try {
+			state.updateState(command);
+		} finally {
+			// A failed update may still have changed some fields
+			version++;
+		}
+	}
+
+	/**
+	 * Gets the number of times the Issue has been updated. The version changes
+	 * whenever update() is called, so text written for one version of the Issue
+	 * can be reused for as long as the version stays the same.
+	 * 
+	 * @return version the number of updates
+	 */
+	public int getVersion() {
+		return version;
 	}
 
 	/**
@@ -0,0 +1,322 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Bitmap index of the issues in an IssueList for filters that combine several
+ * fields. Every issue is given a slot, the lowest one that is free, and there
+ * is one BitSet per IssueType, state, Resolution and for the confirmed flag
+ * with a bit set at the slot of each issue that has that value. A Query
+ * answers a compound filter with AND, OR and AND NOT over these bitmaps and
+ * only looks at the issues that match.
+ *
+ * @author yash
+ *
+ */
+public class IssueBitmapIndex {
+
+	/** Issues by their slot, with null at free slots */
+	private Issue[] issues;
+	/** Slot of each issue in the index */
+	private IdentityHashMap<Issue, Integer> slots;
+	/** Slots that hold an issue */
+	private BitSet live;
+	/** Slots of the issues of each IssueType */
+	private EnumMap<IssueType, BitSet> byType;
+	/** Slots of the issues in each state, by state name */
+	private HashMap<String, BitSet> byState;
+	/** Slots of the issues with each Resolution */
+	private EnumMap<Resolution, BitSet> byResolution;
+	/** Slots of the issues that are confirmed */
+	private BitSet confirmed;
+
+	/**
+	 * Constructs an empty IssueBitmapIndex
+	 */
+	public IssueBitmapIndex() {
+		clear();
+	}
+
+	/**
+	 * Removes every issue from the index
+	 */
+	public void clear() {
+		issues = new Issue[16];
+		slots = new IdentityHashMap<Issue, Integer>();
+		live = new BitSet();
+		byType = new EnumMap<IssueType, BitSet>(IssueType.class);
+		byState = new HashMap<String, BitSet>();
+		byResolution = new EnumMap<Resolution, BitSet>(Resolution.class);
+		confirmed = new BitSet();
+	}
+
+	/**
+	 * Adds an issue to the index in the lowest free slot. Issues added in ID
+	 * order to an empty index get slots in ID order.
+	 *
+	 * @param issue Issue to add
+	 */
+	public void add(Issue issue) {
+		if (slots.containsKey(issue)) {
+			return;
+		}
+		int slot = live.nextClearBit(0);
+		if (slot == issues.length) {
+			Issue[] grown = new Issue[issues.length * 2];
+			System.arraycopy(issues, 0, grown, 0, issues.length);
+			issues = grown;
+		}
+		issues[slot] = issue;
+		slots.put(issue, slot);
+		live.set(slot);
+		setBits(issue, slot);
+	}
+
+	/**
+	 * Removes an issue from the index and frees its slot
+	 *
+	 * @param issue Issue to remove
+	 */
+	public void remove(Issue issue) {
+		Integer slot = slots.remove(issue);
+		if (slot != null) {
+			clearBits(slot);
+			live.clear(slot);
+			issues[slot] = null;
+		}
+	}
+
+	/**
+	 * Sets the bits of an issue again after its state, resolution or confirmed
+	 * flag may have changed
+	 *
+	 * @param issue Issue that has changed
+	 */
+	public void update(Issue issue) {
+		Integer slot = slots.get(issue);
+		if (slot != null) {
+			clearBits(slot);
+			setBits(issue, slot);
+		}
+	}
+
+	/**
+	 * Starts a Query that matches every issue in the index
+	 *
+	 * @return query Query over the issues in the index
+	 */
+	public Query query() {
+		return new Query();
+	}
+
+	/**
+	 * Sets the bits at a slot for the current values of an issue
+	 *
+	 * @param issue Issue in the slot
+	 * @param slot  slot of the issue
+	 */
+	private void setBits(Issue issue, int slot) {
+		IssueType type = IssueList.toIssueType(issue.getIssueType());
+		if (type != null) {
+			byType.computeIfAbsent(type, t -> new BitSet()).set(slot);
+		}
+		byState.computeIfAbsent(issue.getStateName(), s -> new BitSet()).set(slot);
+		Resolution resolution = toResolution(issue.getResolution());
+		if (resolution != null) {
+			byResolution.computeIfAbsent(resolution, r -> new BitSet()).set(slot);
+		}
+		if (issue.isConfirmed()) {
+			confirmed.set(slot);
+		}
+	}
+
+	/**
+	 * Clears the bits at a slot in every bitmap
+	 *
+	 * @param slot slot to clear
+	 */
+	private void clearBits(int slot) {
+		for (BitSet bits : byType.values()) {
+			bits.clear(slot);
+		}
+		for (BitSet bits : byState.values()) {
+			bits.clear(slot);
+		}
+		for (BitSet bits : byResolution.values()) {
+			bits.clear(slot);
+		}
+		confirmed.clear(slot);
+	}
+
+	/**
+	 * Finds the Resolution with a name
+	 *
+	 * @param resolution name of the resolution, such as Command.R_FIXED
+	 * @return resolution the Resolution, or null if no resolution has the name
+	 */
+	private static Resolution toResolution(String resolution) {
+		if (Command.R_FIXED.equals(resolution)) {
+			return Resolution.FIXED;
+		} else if (Command.R_DUPLICATE.equals(resolution)) {
+			return Resolution.DUPLICATE;
+		} else if (Command.R_WONTFIX.equals(resolution)) {
+			return Resolution.WONTFIX;
+		} else if (Command.R_WORKSFORME.equals(resolution)) {
+			return Resolution.WORKSFORME;
+		}
+		return null;
+	}
+
+	/**
+	 * Compound filter over the issues of an IssueBitmapIndex. Each condition is
+	 * ANDed with the conditions before it, and a condition on several values
+	 * matches any of them. A Query reads the bitmaps when its conditions are
+	 * added, so it should be used before the index changes.
+	 *
+	 * @author yash
+	 *
+	 */
+	public class Query {
+
+		/** Slots of the issues that match every condition so far */
+		private BitSet matches;
+
+		/**
+		 * Creates a Query that matches every issue in the index
+		 */
+		private Query() {
+			matches = (BitSet) live.clone();
+		}
+
+		/**
+		 * Keeps the issues of a type
+		 *
+		 * @param type IssueType to match
+		 * @return this Query
+		 */
+		public Query type(IssueType type) {
+			return and(byType.get(type));
+		}
+
+		/**
+		 * Keeps the issues in any of several states
+		 *
+		 * @param stateNames names of the states to match, such as Issue.NEW_NAME
+		 * @return this Query
+		 */
+		public Query states(String... stateNames) {
+			BitSet any = new BitSet();
+			for (String stateName : stateNames) {
+				BitSet bits = byState.get(stateName);
+				if (bits != null) {
+					any.or(bits);
+				}
+			}
+			return and(any);
+		}
+
+		/**
+		 * Keeps the issues with any of several resolutions
+		 *
+		 * @param resolutions Resolutions to match
+		 * @return this Query
+		 */
+		public Query resolutions(Resolution... resolutions) {
+			return and(anyResolution(resolutions));
+		}
+
+		/**
+		 * Drops the issues with any of several resolutions, keeping issues with no
+		 * resolution
+		 *
+		 * @param resolutions Resolutions to drop
+		 * @return this Query
+		 */
+		public Query notResolutions(Resolution... resolutions) {
+			matches.andNot(anyResolution(resolutions));
+			return this;
+		}
+
+		/**
+		 * Keeps the issues that are confirmed, or the issues that are not
+		 *
+		 * @param isConfirmed true to keep confirmed issues, false to keep the others
+		 * @return this Query
+		 */
+		public Query confirmed(boolean isConfirmed) {
+			if (isConfirmed) {
+				matches.and(confirmed);
+			} else {
+				matches.andNot(confirmed);
+			}
+			return this;
+		}
+
+		/**
+		 * Counts the issues that match the Query
+		 *
+		 * @return count number of matching issues
+		 */
+		public int count() {
+			return matches.cardinality();
+		}
+
+		/**
+		 * Gets the issues that match the Query
+		 *
+		 * @return issues ArrayList of the matching issues, sorted by ID
+		 */
+		public ArrayList<Issue> issues() {
+			ArrayList<Issue> result = new ArrayList<Issue>(matches.cardinality());
+			for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+				result.add(issues[slot]);
+			}
+			// Slots are in ID order unless freed slots were reused, so this is
+			// usually a single pass
+			result.sort(Comparator.comparingInt(Issue::getIssueId));
+			return result;
+		}
+
+		/**
+		 * ANDs a bitmap into the matches
+		 *
+		 * @param bits bitmap to AND, or null for a value no issue has
+		 * @return this Query
+		 */
+		private Query and(BitSet bits) {
+			if (bits == null) {
+				matches.clear();
+			} else {
+				matches.and(bits);
+			}
+			return this;
+		}
+
+		/**
+		 * ORs together the bitmaps of several resolutions
+		 *
+		 * @param resolutions Resolutions to OR
+		 * @return bits slots of the issues with any of the resolutions
+		 */
+		private BitSet anyResolution(Resolution... resolutions) {
+			BitSet any = new BitSet();
+			for (Resolution resolution : resolutions) {
+				BitSet bits = byResolution.get(resolution);
+				if (bits != null) {
+					any.or(bits);
+				}
+			}
+			return any;
+		}
+	}
+}
@@ -0,0 +1,689 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Column store for a list of issues, sorted by ID like an IssueList. Each field
+ * is kept in its own array instead of in an Issue object per row: IDs in an
+ * int[], state, type and resolution as byte codes, the confirmed flags in a
+ * BitSet, and owners and summaries as codes into dictionaries that store each
+ * distinct string once as UTF-8. The notes of every row are encoded into one
+ * shared byte array, with the state a note was added in as a byte code instead
+ * of its "[State] " prefix. Scans such as counting issues by state read one
+ * small array from start to end. Issues are produced on demand as views that
+ * are not connected to the store, so an Issue that is changed is written back
+ * with update().
+ *
+ * @author yash
+ *
+ */
+public class IssueColumns {
+
+	/** Names of the states, in the order of their codes */
+	private static final String[] STATE_NAMES = { Issue.NEW_NAME, Issue.WORKING_NAME, Issue.CONFIRMED_NAME,
+			Issue.VERIFYING_NAME, Issue.CLOSED_NAME };
+	/** Names of the types, in the order of their codes */
+	private static final String[] TYPE_NAMES = { Issue.I_ENHANCEMENT, Issue.I_BUG };
+	/** Names of the resolutions, in the order of their codes */
+	private static final String[] RESOLUTION_NAMES = { Command.R_FIXED, Command.R_DUPLICATE, Command.R_WONTFIX,
+			Command.R_WORKSFORME };
+	/** Code for a missing resolution, owner, or note prefix */
+	private static final int NONE = -1;
+	/** Number of rows the columns start with */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** Number of rows */
+	private int size;
+	/** ID of each row, in ascending order */
+	private int[] ids;
+	/** State code of each row */
+	private byte[] states;
+	/** Type code of each row */
+	private byte[] types;
+	/** Resolution code of each row, or NONE */
+	private byte[] resolutions;
+	/** Rows that are confirmed */
+	private BitSet confirmed;
+	/** Owner code of each row, or NONE */
+	private int[] owners;
+	/** Summary code of each row */
+	private int[] summaries;
+	/** Start of the encoded notes of each row in noteBytes */
+	private int[] noteStarts;
+	/** Length of the encoded notes of each row */
+	private int[] noteLengths;
+	/** Distinct owners */
+	private Dictionary ownerDictionary;
+	/** Distinct summaries */
+	private Dictionary summaryDictionary;
+	/** Encoded notes of every row, followed by unused space */
+	private byte[] noteBytes;
+	/** Number of bytes of noteBytes in use, including notes no row refers to */
+	private int noteEnd;
+	/** Number of bytes of noteBytes that no row refers to anymore */
+	private int noteGarbage;
+
+	/**
+	 * Constructs an empty IssueColumns
+	 */
+	public IssueColumns() {
+		ids = new int[INITIAL_CAPACITY];
+		states = new byte[INITIAL_CAPACITY];
+		types = new byte[INITIAL_CAPACITY];
+		resolutions = new byte[INITIAL_CAPACITY];
+		confirmed = new BitSet();
+		owners = new int[INITIAL_CAPACITY];
+		summaries = new int[INITIAL_CAPACITY];
+		noteStarts = new int[INITIAL_CAPACITY];
+		noteLengths = new int[INITIAL_CAPACITY];
+		ownerDictionary = new Dictionary();
+		summaryDictionary = new Dictionary();
+		noteBytes = new byte[1024];
+	}
+
+	/**
+	 * Creates an IssueColumns holding issues
+	 *
+	 * @param issues List of the issues
+	 * @return columns IssueColumns with a row for each issue, keeping the first
+	 *         issue for a duplicate ID
+	 */
+	public static IssueColumns of(List<Issue> issues) {
+		IssueColumns columns = new IssueColumns();
+		for (int i = 0; i < issues.size(); i++) {
+			columns.add(issues.get(i));
+		}
+		return columns;
+	}
+
+	/**
+	 * Gets the number of rows
+	 *
+	 * @return size number of issues in the store
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Adds a row for an issue if there is no row with its ID. An issue with a
+	 * larger ID than the last row is appended.
+	 *
+	 * @param issue Issue to add
+	 */
+	public void add(Issue issue) {
+		int row = size == 0 || ids[size - 1] < issue.getIssueId() ? -(size + 1) : indexOf(issue.getIssueId());
+		if (row >= 0) {
+			return;
+		}
+		row = -(row + 1);
+		if (size == ids.length) {
+			int capacity = size * 2;
+			ids = Arrays.copyOf(ids, capacity);
+			states = Arrays.copyOf(states, capacity);
+			types = Arrays.copyOf(types, capacity);
+			resolutions = Arrays.copyOf(resolutions, capacity);
+			owners = Arrays.copyOf(owners, capacity);
+			summaries = Arrays.copyOf(summaries, capacity);
+			noteStarts = Arrays.copyOf(noteStarts, capacity);
+			noteLengths = Arrays.copyOf(noteLengths, capacity);
+		}
+		shift(row, row + 1, size - row);
+		size++;
+		ids[row] = issue.getIssueId();
+		summaries[row] = summaryDictionary.code(issue.getSummary());
+		noteLengths[row] = 0;
+		write(row, issue);
+	}
+
+	/**
+	 * Writes the current values of an issue to its row
+	 *
+	 * @param issue Issue that has changed
+	 * @return true if there is a row with the issue's ID
+	 */
+	public boolean update(Issue issue) {
+		int row = indexOf(issue.getIssueId());
+		if (row < 0) {
+			return false;
+		}
+		write(row, issue);
+		return true;
+	}
+
+	/**
+	 * Removes the row with an ID
+	 *
+	 * @param id ID of the issue
+	 * @return true if there was a row with the ID
+	 */
+	public boolean remove(int id) {
+		int row = indexOf(id);
+		if (row < 0) {
+			return false;
+		}
+		noteGarbage += noteLengths[row];
+		shift(row + 1, row, size - row - 1);
+		size--;
+		confirmed.clear(size);
+		return true;
+	}
+
+	/**
+	 * Checks if there is a row with an ID
+	 *
+	 * @param id ID of the issue
+	 * @return true if there is a row with the ID
+	 */
+	public boolean containsId(int id) {
+		return indexOf(id) >= 0;
+	}
+
+	/**
+	 * Produces an Issue with the values of the row with an ID. Its notes are only
+	 * decoded when they are first read.
+	 *
+	 * @param id ID of the issue
+	 * @return issue a new Issue, or null if there is no row with the ID
+	 */
+	public Issue getIssueById(int id) {
+		int row = indexOf(id);
+		return row < 0 ? null : getIssue(row);
+	}
+
+	/**
+	 * Produces an Issue with the values of a row. Its notes are only decoded when
+	 * they are first read.
+	 *
+	 * @param row index of the row
+	 * @return issue a new Issue
+	 */
+	public Issue getIssue(int row) {
+		byte[] bytes = noteBytes;
+		int start = noteStarts[row];
+		int length = noteLengths[row];
+		// The notes are read from the array as it is now, which later writes
+		// never change in place
+		return new Issue(ids[row], STATE_NAMES[states[row]], TYPE_NAMES[types[row]],
+				summaryDictionary.get(summaries[row]), owners[row] == NONE ? null : ownerDictionary.get(owners[row]),
+				confirmed.get(row), resolutions[row] == NONE ? null : RESOLUTION_NAMES[resolutions[row]],
+				() -> decodeNotes(bytes, start, length));
+	}
+
+	/**
+	 * Produces an Issue for every row
+	 *
+	 * @return issues ArrayList of new Issues, sorted by ID
+	 */
+	public ArrayList<Issue> toIssues() {
+		ArrayList<Issue> issues = new ArrayList<Issue>(size);
+		for (int row = 0; row < size; row++) {
+			issues.add(getIssue(row));
+		}
+		return issues;
+	}
+
+	/**
+	 * Gets the ID of a row
+	 *
+	 * @param row index of the row
+	 * @return id ID of the issue in the row
+	 */
+	public int getIssueId(int row) {
+		return ids[row];
+	}
+
+	/**
+	 * Gets the ID of the last row
+	 *
+	 * @return id largest ID in the store, or 0 if there are no rows
+	 */
+	public int getLastIssueId() {
+		return size == 0 ? 0 : ids[size - 1];
+	}
+
+	/**
+	 * Gets the ID, state name, type and summary of a row, the columns of the
+	 * issue table, without producing an Issue
+	 *
+	 * @param row index of the row
+	 * @return row array of the ID, state name, type and summary
+	 */
+	public Object[] getRow(int row) {
+		return new Object[] { ids[row], STATE_NAMES[states[row]], TYPE_NAMES[types[row]],
+				summaryDictionary.get(summaries[row]) };
+	}
+
+	/**
+	 * Gets the state name of a row
+	 *
+	 * @param row index of the row
+	 * @return stateName name of the state of the issue in the row
+	 */
+	public String getStateName(int row) {
+		return STATE_NAMES[states[row]];
+	}
+
+	/**
+	 * Counts the issues in each state with one pass over the state column
+	 *
+	 * @return counts number of issues by state name, in the order issues move
+	 *         through the states
+	 */
+	public Map<String, Integer> countByState() {
+		int[] counts = new int[STATE_NAMES.length];
+		for (int row = 0; row < size; row++) {
+			counts[states[row]]++;
+		}
+		Map<String, Integer> byName = new LinkedHashMap<String, Integer>();
+		for (int i = 0; i < STATE_NAMES.length; i++) {
+			byName.put(STATE_NAMES[i], counts[i]);
+		}
+		return byName;
+	}
+
+	/**
+	 * Finds the IDs of the issues in a state with one pass over the state column
+	 *
+	 * @param stateName name of the state
+	 * @return ids IDs of the issues in the state, in ascending order
+	 */
+	public int[] getIssueIdsByState(String stateName) {
+		int code = indexOf(STATE_NAMES, stateName);
+		return code == NONE ? new int[0] : getIssueIds(row -> states[row] == code);
+	}
+
+	/**
+	 * Finds the IDs of the issues of a type with one pass over the type column
+	 *
+	 * @param type name of the type, such as Issue.I_BUG
+	 * @return ids IDs of the issues of the type, in ascending order
+	 */
+	public int[] getIssueIdsByType(String type) {
+		int code = indexOf(TYPE_NAMES, type);
+		return code == NONE ? new int[0] : getIssueIds(row -> types[row] == code);
+	}
+
+	/**
+	 * Finds the IDs of the issues owned by an owner with one pass over the owner
+	 * column
+	 *
+	 * @param owner id of the owner
+	 * @return ids IDs of the issues owned by the owner, in ascending order
+	 */
+	public int[] getIssueIdsByOwner(String owner) {
+		int code = ownerDictionary.find(owner);
+		return code == NONE ? new int[0] : getIssueIds(row -> owners[row] == code);
+	}
+
+	/**
+	 * Finds the IDs of the rows that match a filter
+	 *
+	 * @param filter test of a row index
+	 * @return ids IDs of the matching rows, in ascending order
+	 */
+	private int[] getIssueIds(IntPredicate filter) {
+		int[] found = new int[0];
+		int count = 0;
+		for (int row = 0; row < size; row++) {
+			if (filter.test(row)) {
+				if (count == found.length) {
+					found = Arrays.copyOf(found, Math.max(16, count * 2));
+				}
+				found[count++] = ids[row];
+			}
+		}
+		return Arrays.copyOf(found, count);
+	}
+
+	/**
+	 * Writes every column of a row except its ID and summary, which never change
+	 *
+	 * @param row   index of the row
+	 * @param issue Issue with the values
+	 */
+	private void write(int row, Issue issue) {
+		states[row] = (byte) indexOf(STATE_NAMES, issue.getStateName());
+		types[row] = (byte) indexOf(TYPE_NAMES, issue.getIssueType());
+		resolutions[row] = (byte) indexOf(RESOLUTION_NAMES, issue.getResolution());
+		confirmed.set(row, issue.isConfirmed());
+		owners[row] = issue.getOwner() == null ? NONE : ownerDictionary.code(issue.getOwner());
+		noteGarbage += noteLengths[row];
+		noteLengths[row] = 0;
+		byte[] notes = encodeNotes(issue.getNotes());
+		if (noteGarbage > noteEnd / 2 && noteGarbage > 4096) {
+			compactNotes();
+		}
+		if (noteEnd + notes.length > noteBytes.length) {
+			noteBytes = Arrays.copyOf(noteBytes, Math.max(noteBytes.length * 2, noteEnd + notes.length));
+		}
+		System.arraycopy(notes, 0, noteBytes, noteEnd, notes.length);
+		noteStarts[row] = noteEnd;
+		noteLengths[row] = notes.length;
+		noteEnd += notes.length;
+	}
+
+	/**
+	 * Copies the notes that rows still refer to into a new array
+	 */
+	private void compactNotes() {
+		byte[] compacted = new byte[Math.max(1024, (noteEnd - noteGarbage) * 2)];
+		int end = 0;
+		for (int row = 0; row < size; row++) {
+			System.arraycopy(noteBytes, noteStarts[row], compacted, end, noteLengths[row]);
+			noteStarts[row] = end;
+			end += noteLengths[row];
+		}
+		noteBytes = compacted;
+		noteEnd = end;
+		noteGarbage = 0;
+	}
+
+	/**
+	 * Moves rows within every column
+	 *
+	 * @param from  first row to move
+	 * @param to    row the first row moves to
+	 * @param count number of rows to move
+	 */
+	private void shift(int from, int to, int count) {
+		System.arraycopy(ids, from, ids, to, count);
+		System.arraycopy(states, from, states, to, count);
+		System.arraycopy(types, from, types, to, count);
+		System.arraycopy(resolutions, from, resolutions, to, count);
+		System.arraycopy(owners, from, owners, to, count);
+		System.arraycopy(summaries, from, summaries, to, count);
+		System.arraycopy(noteStarts, from, noteStarts, to, count);
+		System.arraycopy(noteLengths, from, noteLengths, to, count);
+		if (from < to) {
+			for (int i = count - 1; i >= 0; i--) {
+				confirmed.set(to + i, confirmed.get(from + i));
+			}
+		} else {
+			for (int i = 0; i < count; i++) {
+				confirmed.set(to + i, confirmed.get(from + i));
+			}
+		}
+	}
+
+	/**
+	 * Finds the row with an ID
+	 *
+	 * @param id ID of the issue
+	 * @return row index of the row, or (-(insertion point) - 1) if there is none
+	 */
+	private int indexOf(int id) {
+		return Arrays.binarySearch(ids, 0, size, id);
+	}
+
+	/**
+	 * Finds the code of a name
+	 *
+	 * @param names names in the order of their codes
+	 * @param name  name to find
+	 * @return code index of the name, or NONE if it is null or not found
+	 */
+	private static int indexOf(String[] names, String name) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Encodes notes as, for each note, the code of the state in its prefix, the
+	 * length of the rest of the note and the rest of the note as UTF-8
+	 *
+	 * @param notes notes as stored in an Issue, such as "[New] text"
+	 * @return bytes the encoded notes
+	 */
+	private static byte[] encodeNotes(List<String> notes) {
+		ByteBuilder out = new ByteBuilder();
+		for (int i = 0; i < notes.size(); i++) {
+			String note = notes.get(i);
+			int code = NONE;
+			for (int s = 0; s < STATE_NAMES.length && code == NONE; s++) {
+				if (note.startsWith("[" + STATE_NAMES[s] + "] ")) {
+					code = s;
+				}
+			}
+			byte[] text = (code == NONE ? note : note.substring(STATE_NAMES[code].length() + 3))
+					.getBytes(StandardCharsets.UTF_8);
+			out.add((byte) code);
+			out.addLength(text.length);
+			out.add(text);
+		}
+		return out.toArray();
+	}
+
+	/**
+	 * Decodes notes written by encodeNotes()
+	 *
+	 * @param bytes  array holding the notes
+	 * @param start  start of the notes in the array
+	 * @param length length of the notes
+	 * @return notes ArrayList of the notes as stored in an Issue
+	 */
+	private static ArrayList<String> decodeNotes(byte[] bytes, int start, int length) {
+		ArrayList<String> notes = new ArrayList<String>();
+		int position = start;
+		while (position < start + length) {
+			int code = bytes[position++];
+			int textLength = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = bytes[position++];
+				textLength |= (b & 0x7F) << shift;
+				shift += 7;
+			} while (b < 0);
+			String text = new String(bytes, position, textLength, StandardCharsets.UTF_8);
+			position += textLength;
+			notes.add(code == NONE ? text : "[" + STATE_NAMES[code] + "] " + text);
+		}
+		return notes;
+	}
+
+	/**
+	 * Growable array of bytes
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class ByteBuilder {
+
+		/** Bytes added so far, followed by unused space */
+		private byte[] bytes = new byte[64];
+		/** Number of bytes added */
+		private int length;
+
+		/**
+		 * Adds a byte
+		 *
+		 * @param b byte to add
+		 */
+		void add(byte b) {
+			ensure(1);
+			bytes[length++] = b;
+		}
+
+		/**
+		 * Adds bytes
+		 *
+		 * @param added bytes to add
+		 */
+		void add(byte[] added) {
+			ensure(added.length);
+			System.arraycopy(added, 0, bytes, length, added.length);
+			length += added.length;
+		}
+
+		/**
+		 * Adds a length in seven bit groups, lowest first, with the high bit set on
+		 * every group but the last
+		 *
+		 * @param value length to add
+		 */
+		void addLength(int value) {
+			while ((value & ~0x7F) != 0) {
+				add((byte) ((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			add((byte) value);
+		}
+
+		/**
+		 * Makes room for more bytes
+		 *
+		 * @param count number of bytes to make room for
+		 */
+		private void ensure(int count) {
+			if (length + count > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + count));
+			}
+		}
+
+		/**
+		 * Gets the bytes added
+		 *
+		 * @return bytes a copy of the bytes added
+		 */
+		byte[] toArray() {
+			return Arrays.copyOf(bytes, length);
+		}
+	}
+
+	/**
+	 * Dictionary that gives each distinct string a code. The strings are stored
+	 * one after another as UTF-8 in one array and found through an open
+	 * addressing table of codes, so an entry costs its bytes and a few ints
+	 * instead of a String object. Codes are never reused, so strings that no row
+	 * refers to anymore stay until the columns are rebuilt.
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class Dictionary {
+
+		/** Bytes of every string */
+		private byte[] bytes = new byte[256];
+		/** Number of bytes in use */
+		private int end;
+		/** Start of each string in bytes, followed by end */
+		private int[] starts = new int[17];
+		/** Number of strings */
+		private int count;
+		/** Code plus 1 of the string in each slot, or 0 for an empty slot */
+		private int[] table = new int[32];
+
+		/**
+		 * Gets the code of a string, adding it if it is new
+		 *
+		 * @param value string to look up
+		 * @return code the string's code
+		 */
+		int code(String value) {
+			byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+			int mask = table.length - 1;
+			int slot = slot(encoded, 0, encoded.length, mask);
+			while (table[slot] != 0) {
+				int code = table[slot] - 1;
+				if (Arrays.equals(bytes, starts[code], starts[code + 1], encoded, 0, encoded.length)) {
+					return code;
+				}
+				slot = (slot + 1) & mask;
+			}
+			if (end + encoded.length > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, end + encoded.length));
+			}
+			System.arraycopy(encoded, 0, bytes, end, encoded.length);
+			end += encoded.length;
+			if (count + 2 > starts.length) {
+				starts = Arrays.copyOf(starts, starts.length * 2);
+			}
+			starts[count + 1] = end;
+			table[slot] = count + 1;
+			count++;
+			if (count * 2 > table.length) {
+				rehash();
+			}
+			return count - 1;
+		}
+
+		/**
+		 * Finds the code of a string without adding it
+		 *
+		 * @param value string to look up
+		 * @return code the string's code, or NONE if it has none
+		 */
+		int find(String value) {
+			byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+			int mask = table.length - 1;
+			int slot = slot(encoded, 0, encoded.length, mask);
+			while (table[slot] != 0) {
+				int code = table[slot] - 1;
+				if (Arrays.equals(bytes, starts[code], starts[code + 1], encoded, 0, encoded.length)) {
+					return code;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return NONE;
+		}
+
+		/**
+		 * Gets the string with a code
+		 *
+		 * @param code code of the string
+		 * @return value the string
+		 */
+		String get(int code) {
+			return new String(bytes, starts[code], starts[code + 1] - starts[code], StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Doubles the table and places every code again
+		 */
+		private void rehash() {
+			table = new int[table.length * 2];
+			int mask = table.length - 1;
+			for (int code = 0; code < count; code++) {
+				int slot = slot(bytes, starts[code], starts[code + 1], mask);
+				while (table[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				table[slot] = code + 1;
+			}
+		}
+
+		/**
+		 * Finds the first slot to probe for a string
+		 *
+		 * @param encoded array holding the string as UTF-8
+		 * @param from    start of the string in the array
+		 * @param to      end of the string in the array
+		 * @param mask    table length minus 1
+		 * @return slot the slot the string hashes to
+		 */
+		private static int slot(byte[] encoded, int from, int to, int mask) {
+			int hash = 1;
+			for (int i = from; i < to; i++) {
+				hash = 31 * hash + encoded[i];
+			}
+			// Spread the bits so strings that differ only at the end do not cluster
+			hash *= 0x9E3779B9;
+			return (hash ^ (hash >>> 16)) & mask;
+		}
+	}
+}
@@ -0,0 +1,212 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Maps int issue IDs to their Issue objects using an open addressing hash table
+ * with linear probing. Keys are stored as primitive ints so lookups do not box
+ * the ID. Valid issue IDs are always at least 1, so 0 marks an empty slot.
+ *
+ * @author yash
+ *
+ */
+public class IssueIdMap {
+
+	/** Key stored in a slot that holds no issue */
+	private static final int EMPTY = 0;
+	/** Smallest number of slots in the table, must be a power of two */
+	private static final int MIN_CAPACITY = 16;
+
+	/** Issue IDs stored in the table */
+	private int[] keys;
+	/** Issues stored in the table, at the same slot as their ID */
+	private Issue[] values;
+	/** Number of issues stored in the table */
+	private int size;
+	/** Bit mask used to wrap a hash into the table */
+	private int mask;
+
+	/**
+	 * Constructs an empty IssueIdMap
+	 */
+	public IssueIdMap() {
+		this(0);
+	}
+
+	/**
+	 * Constructs an empty IssueIdMap sized to hold the given number of issues
+	 * without growing
+	 *
+	 * @param expected number of issues expected to be stored
+	 */
+	public IssueIdMap(int expected) {
+		int capacity = MIN_CAPACITY;
+		while (capacity < expected * 2) {
+			capacity = capacity << 1;
+		}
+		allocate(capacity);
+	}
+
+	/**
+	 * Gets the Issue stored for an ID
+	 *
+	 * @param id int id of the issue
+	 * @return issue Issue stored for the id, or null if there is none
+	 */
+	public Issue get(int id) {
+		if (id == EMPTY) {
+			return null;
+		}
+		int slot = hash(id) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == id) {
+				return values[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Checks if an Issue is stored for an ID
+	 *
+	 * @param id int id of the issue
+	 * @return true if an issue is stored for the id
+	 */
+	public boolean containsId(int id) {
+		return get(id) != null;
+	}
+
+	/**
+	 * Stores an Issue under its ID, replacing any Issue already stored for that ID
+	 *
+	 * @param issue Issue to store
+	 * @return previous Issue stored for the id, or null if there was none
+	 */
+	public Issue put(Issue issue) {
+		int id = issue.getIssueId();
+		int slot = hash(id) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == id) {
+				Issue previous = values[slot];
+				values[slot] = issue;
+				return previous;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = id;
+		values[slot] = issue;
+		size++;
+		if (size * 2 > keys.length) {
+			rehash(keys.length << 1);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the Issue stored for an ID
+	 *
+	 * @param id int id of the issue
+	 * @return removed Issue, or null if no issue was stored for the id
+	 */
+	public Issue remove(int id) {
+		if (id == EMPTY) {
+			return null;
+		}
+		int slot = hash(id) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == id) {
+				Issue removed = values[slot];
+				deleteSlot(slot);
+				size--;
+				return removed;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Removes every Issue from the map
+	 */
+	public void clear() {
+		allocate(MIN_CAPACITY);
+	}
+
+	/**
+	 * Gets the number of issues stored in the map
+	 *
+	 * @return size number of issues in the map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Empties a slot and shifts back any later entries in the same probe run so
+	 * that lookups never stop early at the emptied slot
+	 *
+	 * @param slot index of the slot to empty
+	 */
+	private void deleteSlot(int slot) {
+		int gap = slot;
+		int next = (gap + 1) & mask;
+		while (keys[next] != EMPTY) {
+			int home = hash(keys[next]) & mask;
+			// The entry can fill the gap only if its home slot is not between the gap and itself
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				keys[gap] = keys[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[gap] = EMPTY;
+		values[gap] = null;
+	}
+
+	/**
+	 * Moves every entry into a new table of the given capacity
+	 *
+	 * @param capacity number of slots in the new table
+	 */
+	private void rehash(int capacity) {
+		int[] oldKeys = keys;
+		Issue[] oldValues = values;
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != EMPTY) {
+				int slot = hash(oldKeys[i]) & mask;
+				while (keys[slot] != EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+				size++;
+			}
+		}
+	}
+
+	/**
+	 * Replaces the table with an empty table of the given capacity
+	 *
+	 * @param capacity number of slots in the new table
+	 */
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new Issue[capacity];
+		mask = capacity - 1;
+		size = 0;
+	}
+
+	/**
+	 * Spreads the bits of an ID so that sequential IDs do not form long probe runs
+	 *
+	 * @param id int id to hash
+	 * @return hash of the id
+	 */
+	private static int hash(int id) {
+		int h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,114 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Secondary index of the issues in an IssueList by one of their fields. The
+ * issues for each key are kept sorted by ID, so looking up a key costs the
+ * size of its result and adding, removing or moving an issue costs O(log n).
+ * The index does not watch the issues, so the IssueList moves an issue when a
+ * change to it may have changed its key.
+ *
+ * @param <K> type of the key the issues are indexed by
+ *
+ * @author yash
+ *
+ */
+public class IssueIndex<K> {
+
+	/** Reads the key of an issue, which is null if the issue is not indexed */
+	private final Function<Issue, K> keyOf;
+	/** Issues for each key, by ID */
+	private HashMap<K, TreeMap<Integer, Issue>> issuesByKey;
+
+	/**
+	 * Constructs an empty IssueIndex
+	 *
+	 * @param keyOf reads the key of an issue, and returns null for issues that
+	 *              are left out of the index
+	 */
+	public IssueIndex(Function<Issue, K> keyOf) {
+		this.keyOf = keyOf;
+		issuesByKey = new HashMap<K, TreeMap<Integer, Issue>>();
+	}
+
+	/**
+	 * Gets the key an issue is indexed by now
+	 *
+	 * @param issue Issue to read the key of
+	 * @return key the key, or null if the issue is not indexed
+	 */
+	public K keyOf(Issue issue) {
+		return keyOf.apply(issue);
+	}
+
+	/**
+	 * Adds an issue under its current key, replacing an issue with the same ID
+	 * under that key
+	 *
+	 * @param issue Issue to add
+	 */
+	public void add(Issue issue) {
+		K key = keyOf.apply(issue);
+		if (key != null) {
+			issuesByKey.computeIfAbsent(key, k -> new TreeMap<Integer, Issue>()).put(issue.getIssueId(), issue);
+		}
+	}
+
+	/**
+	 * Removes an issue from under a key
+	 *
+	 * @param issue Issue to remove
+	 * @param key   key the issue was added under, or null if it was not indexed
+	 */
+	public void remove(Issue issue, K key) {
+		if (key == null) {
+			return;
+		}
+		TreeMap<Integer, Issue> issues = issuesByKey.get(key);
+		if (issues != null && issues.get(issue.getIssueId()) == issue) {
+			issues.remove(issue.getIssueId());
+			if (issues.isEmpty()) {
+				issuesByKey.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Moves an issue from the key it was added under to its current key, if its
+	 * key has changed
+	 *
+	 * @param issue  Issue that has changed
+	 * @param oldKey key the issue was added under, or null if it was not indexed
+	 */
+	public void update(Issue issue, K oldKey) {
+		K key = keyOf.apply(issue);
+		if (key == null ? oldKey != null : !key.equals(oldKey)) {
+			remove(issue, oldKey);
+			add(issue);
+		}
+	}
+
+	/**
+	 * Gets the issues under a key
+	 *
+	 * @param key key to look up
+	 * @return issues ArrayList of the issues under the key, sorted by ID
+	 */
+	public ArrayList<Issue> get(K key) {
+		TreeMap<Integer, Issue> issues = issuesByKey.get(key);
+		return issues == null ? new ArrayList<Issue>() : new ArrayList<Issue>(issues.values());
+	}
+
+	/**
+	 * Removes every issue from the index
+	 */
+	public void clear() {
+		issuesByKey.clear();
+	}
+}
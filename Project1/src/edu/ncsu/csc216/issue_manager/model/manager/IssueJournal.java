@@ -0,0 +1,436 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.issue_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Append-only log of the changes made to an IssueList since its snapshot file
+ * was last written. Each add, command, and delete is appended as one small
+ * binary record to a journal file next to the snapshot, and replaying the
+ * journal on top of the snapshot rebuilds the list. A record cut off by a crash
+ * at the end of the journal is ignored on replay.
+ * 
+ * A checkpoint rotates the journal to an old journal file, writes a new
+ * snapshot, and then deletes the old journal. Replay applies the old journal
+ * before the current one. A command is only replayed if its issue still has as
+ * many notes as it had when the command ran, which makes replaying a record that
+ * the snapshot already holds a no-op. Adds of IDs already in the list and
+ * deletes are no-ops when repeated as well.
+ *
+ * @author yash
+ *
+ */
+public class IssueJournal implements Closeable {
+
+	/** Extension added to the snapshot file name to name its journal */
+	public static final String EXTENSION = ".journal";
+	/** Extension added to the journal file name while it is being checkpointed */
+	public static final String OLD_EXTENSION = ".old";
+
+	/** Record type of an added issue */
+	private static final byte ADD = 'A';
+	/** Record type of an executed command */
+	private static final byte COMMAND = 'C';
+	/** Record type of a deleted issue */
+	private static final byte DELETE = 'D';
+	/** Length written in place of a null String */
+	private static final int NULL_LENGTH = -1;
+	/** Ordinal written in place of a null enum */
+	private static final byte NULL_ORDINAL = -1;
+
+	/** Name of the snapshot file the journal belongs to */
+	private String snapshotFileName;
+	/** Journal file */
+	private File file;
+	/** Stream records are appended to */
+	private DataOutputStream out;
+	/** Number of records in the journal */
+	private int recordCount;
+	/** Length of the journal file when the output stream was opened */
+	private long baseLength;
+
+	/**
+	 * Opens the journal of a snapshot file for appending, creating it if needed
+	 *
+	 * @param snapshotFileName String name of the snapshot file
+	 * @throws IOException if the journal cannot be opened
+	 */
+	public IssueJournal(String snapshotFileName) throws IOException {
+		this.snapshotFileName = snapshotFileName;
+		file = getJournalFile(snapshotFileName);
+		recordCount = 0;
+		if (file.exists()) {
+			dropPartialRecord();
+		}
+		baseLength = file.length();
+		out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+	}
+
+	/**
+	 * Gets the journal file of a snapshot file
+	 *
+	 * @param snapshotFileName String name of the snapshot file
+	 * @return file journal File next to the snapshot
+	 */
+	public static File getJournalFile(String snapshotFileName) {
+		return new File(snapshotFileName + EXTENSION);
+	}
+
+	/**
+	 * Gets the file a journal is moved to while it is being checkpointed
+	 *
+	 * @param snapshotFileName String name of the snapshot file
+	 * @return file old journal File next to the snapshot
+	 */
+	public static File getOldJournalFile(String snapshotFileName) {
+		return new File(snapshotFileName + EXTENSION + OLD_EXTENSION);
+	}
+
+	/**
+	 * Deletes the old journal once a checkpoint has written a snapshot that holds
+	 * all of its changes
+	 *
+	 * @param snapshotFileName String name of the snapshot file
+	 * @throws IOException if the old journal cannot be deleted
+	 */
+	public static void deleteOldJournal(String snapshotFileName) throws IOException {
+		Files.deleteIfExists(getOldJournalFile(snapshotFileName).toPath());
+	}
+
+	/**
+	 * Applies every record in the old and current journals of a snapshot file to
+	 * an IssueList that holds the issues of the snapshot. Does nothing if there is
+	 * no journal.
+	 *
+	 * @param snapshotFileName String name of the snapshot file
+	 * @param issueList        IssueList loaded from the snapshot
+	 * @throws IOException              if the journal cannot be read
+	 * @throws IllegalArgumentException if a record is not valid
+	 */
+	public static void replay(String snapshotFileName, IssueList issueList) throws IOException {
+		File[] journalFiles = { getOldJournalFile(snapshotFileName), getJournalFile(snapshotFileName) };
+		for (int i = 0; i < journalFiles.length; i++) {
+			if (journalFiles[i].exists()) {
+				try (DataInputStream in = new DataInputStream(
+						new BufferedInputStream(new FileInputStream(journalFiles[i])))) {
+					while (readRecord(in, issueList)) {
+						// Each record is applied as it is read
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the name of the snapshot file the journal belongs to
+	 *
+	 * @return snapshotFileName String name of the snapshot file
+	 */
+	public String getSnapshotFileName() {
+		return snapshotFileName;
+	}
+
+	/**
+	 * Gets the number of records in the journal
+	 *
+	 * @return recordCount number of records
+	 */
+	public int getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Gets the size of the journal file
+	 *
+	 * @return size number of bytes in the journal
+	 */
+	public long getSize() {
+		return baseLength + out.size();
+	}
+
+	/**
+	 * Appends an added issue to the journal
+	 *
+	 * @param issue Issue that was added
+	 * @throws IOException if the journal cannot be written
+	 */
+	public void logAdd(Issue issue) throws IOException {
+		out.writeByte(ADD);
+		out.writeInt(issue.getIssueId());
+		out.writeByte(Issue.I_BUG.equals(issue.getIssueType()) ? IssueType.BUG.ordinal()
+				: IssueType.ENHANCEMENT.ordinal());
+		writeString(out, issue.getSummary());
+		// The first note is stored with its "[New] " prefix
+		writeString(out, issue.getNotes().get(0).substring(("[" + Issue.NEW_NAME + "] ").length()));
+		endRecord();
+	}
+
+	/**
+	 * Appends an executed command to the journal. Must be called after the
+	 * command has been applied to the issue.
+	 *
+	 * @param issue   Issue the command was executed on
+	 * @param command Command that was executed
+	 * @throws IOException if the journal cannot be written
+	 */
+	public void logCommand(Issue issue, Command command) throws IOException {
+		out.writeByte(COMMAND);
+		out.writeInt(issue.getIssueId());
+		// Every command adds one note, so this is the note count before the command
+		out.writeInt(issue.getNotes().size() - 1);
+		out.writeByte(command.getCommand().ordinal());
+		writeString(out, command.getOwnerId());
+		out.writeByte(command.getResolution() == null ? NULL_ORDINAL : command.getResolution().ordinal());
+		writeString(out, command.getNote());
+		endRecord();
+	}
+
+	/**
+	 * Appends a deleted issue to the journal
+	 *
+	 * @param id int id of the issue that was deleted
+	 * @throws IOException if the journal cannot be written
+	 */
+	public void logDelete(int id) throws IOException {
+		out.writeByte(DELETE);
+		out.writeInt(id);
+		endRecord();
+	}
+
+	/**
+	 * Empties the journal, once its changes are in a new snapshot
+	 *
+	 * @throws IOException if the journal cannot be emptied
+	 */
+	public void truncate() throws IOException {
+		out.close();
+		out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, false)));
+		recordCount = 0;
+		baseLength = 0;
+		deleteOldJournal(snapshotFileName);
+	}
+
+	/**
+	 * Moves the records in the journal to the old journal and starts an empty
+	 * journal, so a checkpoint can write a snapshot of the list as it is now while
+	 * new changes keep being logged. If an earlier checkpoint did not finish, the
+	 * records are added to the end of its old journal instead.
+	 *
+	 * @throws IOException if the journal cannot be moved
+	 */
+	public void rotate() throws IOException {
+		out.close();
+		File oldFile = getOldJournalFile(snapshotFileName);
+		if (oldFile.exists()) {
+			Files.write(oldFile.toPath(), Files.readAllBytes(file.toPath()), StandardOpenOption.APPEND);
+			Files.delete(file.toPath());
+		} else {
+			Files.move(file.toPath(), oldFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		}
+		out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, false)));
+		recordCount = 0;
+		baseLength = 0;
+	}
+
+	/**
+	 * Closes the journal
+	 *
+	 * @throws IOException if the journal cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	/**
+	 * Pushes a finished record to the file so that it survives the program
+	 * exiting
+	 *
+	 * @throws IOException if the journal cannot be written
+	 */
+	private void endRecord() throws IOException {
+		out.flush();
+		recordCount++;
+	}
+
+	/**
+	 * Reads one record and applies it to an IssueList
+	 *
+	 * @param in        stream the record is read from
+	 * @param issueList IssueList the record is applied to, or null to only skip
+	 *                  over the record
+	 * @return true if a whole record was read, false at the end of the journal or
+	 *         at a record cut off by a crash
+	 * @throws IOException              if the journal cannot be read
+	 * @throws IllegalArgumentException if the record is not valid
+	 */
+	private static boolean readRecord(DataInputStream in, IssueList issueList) throws IOException {
+		int type = in.read();
+		if (type == -1) {
+			return false;
+		}
+		try {
+			if (type == ADD) {
+				int id = in.readInt();
+				IssueType issueType = IssueType.values()[in.readByte()];
+				String summary = readString(in);
+				String note = readString(in);
+				if (issueList != null) {
+					issueList.addIssue(new Issue(id, issueType, summary, note));
+				}
+			} else if (type == COMMAND) {
+				int id = in.readInt();
+				int noteCount = in.readInt();
+				CommandValue value = CommandValue.values()[in.readByte()];
+				String owner = readString(in);
+				byte resolution = in.readByte();
+				String note = readString(in);
+				Issue issue = issueList == null ? null : issueList.getIssueById(id);
+				if (issue != null && issue.getNotes().size() == noteCount) {
+					issueList.executeCommand(id, new Command(value, owner,
+							resolution == NULL_ORDINAL ? null : Resolution.values()[resolution], note));
+				}
+			} else if (type == DELETE) {
+				int id = in.readInt();
+				if (issueList != null) {
+					issueList.deleteIssueById(id);
+				}
+			} else {
+				throw new IllegalArgumentException("Invalid journal record.");
+			}
+		} catch (EOFException e) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Counts the whole records in the journal file and cuts off a record left
+	 * partly written by a crash, so that new records are not appended after it
+	 *
+	 * @throws IOException if the journal cannot be read or truncated
+	 */
+	private void dropPartialRecord() throws IOException {
+		long validLength = 0;
+		try (CountingInputStream counter = new CountingInputStream(new FileInputStream(file));
+				DataInputStream in = new DataInputStream(counter)) {
+			while (readRecord(in, null)) {
+				recordCount++;
+				validLength = counter.count;
+			}
+		}
+		if (validLength < file.length()) {
+			try (RandomAccessFile journal = new RandomAccessFile(file, "rw")) {
+				journal.setLength(validLength);
+			}
+		}
+	}
+
+	/**
+	 * Writes a length prefixed UTF-8 String, which may be null
+	 *
+	 * @param out    stream the String is written to
+	 * @param string String to write
+	 * @throws IOException if the stream cannot be written
+	 */
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		if (string == null) {
+			out.writeInt(NULL_LENGTH);
+		} else {
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * Reads a String written by writeString()
+	 *
+	 * @param in stream the String is read from
+	 * @return string String that was written, or null
+	 * @throws IOException if the stream cannot be read
+	 */
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == NULL_LENGTH) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Buffered stream that counts the bytes read through it
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+		/** Number of bytes read so far */
+		private long count;
+
+		/**
+		 * Constructs a CountingInputStream over a stream
+		 *
+		 * @param in stream to read from
+		 */
+		CountingInputStream(InputStream in) {
+			super(new BufferedInputStream(in));
+		}
+
+		/**
+		 * Reads one byte
+		 *
+		 * @return byte read, or -1 at the end of the stream
+		 * @throws IOException if the stream cannot be read
+		 */
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count++;
+			}
+			return b;
+		}
+
+		/**
+		 * Reads bytes into a portion of an array
+		 *
+		 * @param b   destination array
+		 * @param off offset to start storing bytes at
+		 * @param len maximum number of bytes to read
+		 * @return number of bytes read, or -1 at the end of the stream
+		 * @throws IOException if the stream cannot be read
+		 */
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+	}
+}
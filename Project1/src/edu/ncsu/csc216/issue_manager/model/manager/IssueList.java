@@ -1,13 +1,24 @@
 package edu.ncsu.csc216.issue_manager.model.manager;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import edu.ncsu.csc216.issue_manager.model.command.Command;
 import edu.ncsu.csc216.issue_manager.model.issue.Issue;
 import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
 
 /**
- * Maintains an ArrayList of issues
+ * Maintains an ArrayList of issues. A list can instead be backed by an
+ * IssueColumns, which holds the issues as columns instead of an Issue object
+ * per issue and keeps no secondary indexes. Issues read from a column backed
+ * list are copies, so they are changed through executeCommand(), and the
+ * queries that need the secondary indexes, queryIssues(), searchIssues() and
+ * searchSummaryPrefix(), are not supported by it.
  * 
  * @author yash
  *
@@ -16,6 +27,32 @@ public class IssueList {
 
 	/** ArrayList of issues */
 	private ArrayList<Issue> issues;
+	/** Index of the issues in the list by their ID */
+	private IssueIdMap issuesById;
+	/** Index of the issues in the list by their IssueType */
+	private IssueIndex<IssueType> issuesByType;
+	/** Index of the issues in the list by the name of their state */
+	private IssueIndex<String> issuesByState;
+	/** Index of the issues in the list by their owner, leaving out issues with none */
+	private IssueIndex<String> issuesByOwner;
+	/** Bitmaps of the issues in the list for compound filters */
+	private IssueBitmapIndex bitmaps;
+	/**
+	 * Full-text index of the issues in the list, or null until the first search
+	 * so that notes loaded lazily are not read just to index them
+	 */
+	private IssueTextIndex text;
+	/**
+	 * Prefix index of the summaries of the issues in the list, or null until the
+	 * first prefix search
+	 */
+	private IssuePrefixIndex prefixes;
+	/** Column store that holds the issues instead of issues, or null if the list holds Issue objects */
+	private IssueColumns columns;
+	/** IDs of the issues added, updated, or deleted through the list since it was loaded or last saved */
+	private HashSet<Integer> unsaved;
+	/** Number of deleted issues still held in issues until the list is compacted */
+	private int deleted;
 	/** ID of the next issue added to the list */
 	int counter;
 
@@ -24,9 +61,26 @@ public class IssueList {
 	 */
 	public IssueList() {
 		issues = new ArrayList<Issue>();
+		issuesById = new IssueIdMap();
+		issuesByType = new IssueIndex<IssueType>(issue -> toIssueType(issue.getIssueType()));
+		issuesByState = new IssueIndex<String>(Issue::getStateName);
+		issuesByOwner = new IssueIndex<String>(Issue::getOwner);
+		bitmaps = new IssueBitmapIndex();
+		unsaved = new HashSet<Integer>();
 		counter = 1;
 	}
 
+	/**
+	 * Constructor for an IssueList backed by a column store
+	 * 
+	 * @param columns IssueColumns that holds the issues of the list
+	 */
+	public IssueList(IssueColumns columns) {
+		this();
+		this.columns = columns;
+		counter += columns.size();
+	}
+
 	/**
 	 * Adds an Issue to the list
 	 * 
@@ -42,124 +96,511 @@ public class IssueList {
 	}
 
 	/**
-	 * Adds a collection of issues to the list
+	 * Adds a collection of issues to the list, replacing the issues already in
+	 * it. The batch is sorted by ID once and duplicate IDs are dropped in a single
+	 * pass, keeping the first issue given for each ID.
 	 * 
 	 * @param issueList List of the issues which will be added to
 	 */
 	public void addIssues(ArrayList<Issue> issueList) {
-		issues = new ArrayList<Issue>();
+		Issue[] sorted = issueList.toArray(new Issue[issueList.size()]);
+		// Arrays.sort on objects is stable, so the first issue for each ID stays first
+		Arrays.sort(sorted, Comparator.comparingInt(Issue::getIssueId));
+
+		unsaved.clear();
+		if (columns != null) {
+			columns = IssueColumns.of(Arrays.asList(sorted));
+			counter += columns.size();
+			return;
+		}
+		issues = new ArrayList<Issue>(sorted.length);
+		deleted = 0;
+		issuesById = new IssueIdMap(sorted.length);
+		clearIndexes();
+		for (int i = 0; i < sorted.length; i++) {
+			if (i == 0 || sorted[i].getIssueId() != sorted[i - 1].getIssueId()) {
+				issues.add(sorted[i]);
+				issuesById.put(sorted[i]);
+				addToIndexes(sorted[i]);
+				counter++;
+			}
+		}
+	}
+
+	/**
+	 * Adds issues that are already sorted by ID with no duplicate IDs, replacing
+	 * the issues already in the list, without sorting them again
+	 * 
+	 * @param sortedIssues ArrayList of the issues, which becomes the list
+	 */
+	void addSortedIssues(ArrayList<Issue> sortedIssues) {
+		unsaved.clear();
+		if (columns != null) {
+			columns = IssueColumns.of(sortedIssues);
+			counter += columns.size();
+			return;
+		}
+		issues = sortedIssues;
+		deleted = 0;
+		issuesById = new IssueIdMap(sortedIssues.size());
+		clearIndexes();
+		for (int i = 0; i < sortedIssues.size(); i++) {
+			issuesById.put(sortedIssues.get(i));
+			addToIndexes(sortedIssues.get(i));
+			counter++;
+		}
+	}
+
+	/**
+	 * Merges issues into the list. An issue with the ID of an issue already in
+	 * the list replaces it, and the others are added in ID order. An issue that
+	 * was added, updated, or deleted through the list since it was loaded or last
+	 * saved is left as it is instead, since merging over it would lose changes
+	 * that have not been saved. Merged issues do not count as unsaved changes.
+	 * 
+	 * @param issueList List of the issues to merge, where a later issue for an ID
+	 *                  replaces an earlier one
+	 * @return conflicts ArrayList of the IDs of the issues that were left as they
+	 *         are instead of being merged, in the order they were merged
+	 */
+	public ArrayList<Integer> mergeIssues(List<Issue> issueList) {
+		ArrayList<Integer> conflicts = new ArrayList<Integer>();
 		for (int i = 0; i < issueList.size(); i++) {
-			addIssue(issueList.get(i));
+			Issue issue = issueList.get(i);
+			Issue old = getIssueById(issue.getIssueId());
+			if (unsaved.contains(issue.getIssueId())) {
+				conflicts.add(issue.getIssueId());
+			} else if (old != null && columns != null) {
+				columns.remove(issue.getIssueId());
+				columns.add(issue);
+			} else if (old != null) {
+				removeFromIndexes(old);
+				issuesById.put(issue);
+				addToIndexes(issue);
+				issues.set(indexOf(issue.getIssueId()), issue);
+			} else {
+				insertIssue(issue);
+			}
 		}
+		return conflicts;
 	}
 
 	/**
-	 * Adds a single issue to the List and checks for duplicates in issues
+	 * Marks every issue in the list as saved, so later merges may replace them
+	 */
+	public void markSaved() {
+		unsaved.clear();
+	}
+
+	/**
+	 * Adds a single issue to the List as an unsaved change, unless an issue with
+	 * its ID is already in the list
 	 * 
 	 * @param issue Issue object that is to be added
 	 */
-	private void addIssue(Issue issue) {
-		boolean duplicate = false;
-		for (int i = 0; i < issues.size(); i++) {
-			Issue current = issues.get(i);
-			if (current.getIssueId() == issue.getIssueId()) {
-				duplicate = true;
-				break;
-			}
+	void addIssue(Issue issue) {
+		if (insertIssue(issue)) {
+			unsaved.add(issue.getIssueId());
 		}
+	}
 
-		if (!duplicate) {
-			if (issues.size() == 0) {
+	/**
+	 * Adds a single issue to the List and checks for duplicates in issues. An
+	 * issue with a larger ID than the last issue is appended, otherwise its
+	 * position is found by binary search, and it takes the place of a deleted
+	 * issue with its ID that has not been compacted away yet.
+	 * 
+	 * @param issue Issue object that is to be added
+	 * @return true if the issue was added, or false if its ID was in the list
+	 */
+	private boolean insertIssue(Issue issue) {
+		int id = issue.getIssueId();
+		if (columns != null) {
+			if (columns.containsId(id)) {
+				return false;
+			}
+			columns.add(issue);
+		} else {
+			if (issuesById.containsId(id)) {
+				return false;
+			}
+			issuesById.put(issue);
+			addToIndexes(issue);
+			if (issues.size() == 0 || id > issues.get(issues.size() - 1).getIssueId()) {
 				issues.add(issue);
-				counter++;
 			} else {
-				for (int i = 0; i < issues.size(); i++) {
-					if (issue.getIssueId() < issues.get(i).getIssueId()) {
-						issues.add(i, issue);
-						counter++;
-						break;
-					} else if (i == issues.size() - 1) {
-						issues.add(issue);
-						counter++;
-						break;
-					}
-
+				int index = indexOf(id);
+				if (index >= 0) {
+					issues.set(index, issue);
+					deleted--;
+				} else {
+					issues.add(-(index + 1), issue);
 				}
-
 			}
 		}
-
+		counter++;
+		return true;
 	}
 
 	/**
 	 * Retrieves the list of issues
 	 * 
-	 * @return the List of issues
+	 * @return the List of issues, sorted by ID, which is a new list of copies if
+	 *         the list is backed by columns
 	 */
 	public ArrayList<Issue> getIssues() {
+		if (columns != null) {
+			return columns.toIssues();
+		}
+		compact();
 		return issues;
 	}
 
+	/**
+	 * Checks if the list is backed by a column store
+	 * 
+	 * @return true if the issues are held by an IssueColumns
+	 */
+	public boolean isColumnar() {
+		return columns != null;
+	}
+
+	/**
+	 * Counts the issues in each state
+	 * 
+	 * @return counts number of issues by state name, in the order issues move
+	 *         through the states
+	 */
+	public Map<String, Integer> countIssuesByState() {
+		if (columns != null) {
+			return columns.countByState();
+		}
+		Map<String, Integer> counts = new LinkedHashMap<String, Integer>();
+		for (String stateName : new String[] { Issue.NEW_NAME, Issue.WORKING_NAME, Issue.CONFIRMED_NAME,
+				Issue.VERIFYING_NAME, Issue.CLOSED_NAME }) {
+			counts.put(stateName, bitmaps.query().states(stateName).count());
+		}
+		return counts;
+	}
+
 	/**
 	 * Gets the issues in the list based on a certain type
 	 * 
 	 * @param type Enhancement or bug type
-	 * @return list list of issues of a certain type
+	 * @return list list of issues of a certain type, sorted by ID
 	 * @throws IllegalArgumentException if type is null
 	 */
 	public ArrayList<Issue> getIssuesByType(String type) {
-		ArrayList<Issue> temp = new ArrayList<Issue>();
 		if (type == null) {
 			throw new IllegalArgumentException();
 		}
-		for (int i = 0; i < issues.size(); i++) {
-			if (issues.get(i).getIssueType().equals(type)) {
-				temp.add(issues.get(i));
+		if (columns != null) {
+			return getIssuesById(columns.getIssueIdsByType(type));
+		}
+		IssueType issueType = toIssueType(type);
+		return issueType == null ? new ArrayList<Issue>() : issuesByType.get(issueType);
+	}
+
+	/**
+	 * Gets the issues in the list based on a certain state
+	 * 
+	 * @param stateName name of the state, such as Issue.NEW_NAME
+	 * @return list list of issues in the state, sorted by ID
+	 * @throws IllegalArgumentException if stateName is null
+	 */
+	public ArrayList<Issue> getIssuesByState(String stateName) {
+		if (stateName == null) {
+			throw new IllegalArgumentException();
+		}
+		if (columns != null) {
+			return getIssuesById(columns.getIssueIdsByState(stateName));
+		}
+		return issuesByState.get(stateName);
+	}
+
+	/**
+	 * Gets the issues in the list owned by a certain owner
+	 * 
+	 * @param owner id of the owner
+	 * @return list list of issues owned by the owner, sorted by ID
+	 * @throws IllegalArgumentException if owner is null
+	 */
+	public ArrayList<Issue> getIssuesByOwner(String owner) {
+		if (owner == null) {
+			throw new IllegalArgumentException();
+		}
+		if (columns != null) {
+			return getIssuesById(columns.getIssueIdsByOwner(owner));
+		}
+		return issuesByOwner.get(owner);
+	}
+
+	/**
+	 * Starts a compound filter over the issues in the list, such as confirmed
+	 * bugs in Working or Verifying that were not resolved as WontFix
+	 * 
+	 * @return query Query that matches every issue until conditions are added
+	 * @throws UnsupportedOperationException if the list is backed by columns
+	 */
+	public IssueBitmapIndex.Query queryIssues() {
+		checkIndexed();
+		return bitmaps.query();
+	}
+
+	/**
+	 * Searches the summaries and notes of the issues in the list. The first
+	 * search indexes every issue, and later searches use the index as it is kept
+	 * up to date.
+	 * 
+	 * @param query terms, and phrases in double quotes, that must all appear
+	 * @return list list of matching issues, sorted by ID
+	 * @throws IllegalArgumentException if query is null
+	 * @throws UnsupportedOperationException if the list is backed by columns
+	 */
+	public ArrayList<Issue> searchIssues(String query) {
+		if (query == null) {
+			throw new IllegalArgumentException();
+		}
+		checkIndexed();
+		if (text == null) {
+			text = new IssueTextIndex();
+			compact();
+			for (int i = 0; i < issues.size(); i++) {
+				text.add(issues.get(i));
 			}
 		}
-		return temp;
+		return text.search(query);
+	}
+
+	/**
+	 * Finds the issues whose summaries have a word starting with each word of a
+	 * query, for as-you-type search. The first search indexes every summary.
+	 * 
+	 * @param query words typed so far
+	 * @param limit largest number of IDs to return
+	 * @return ids the lowest IDs of the matching issues in ascending order
+	 * @throws IllegalArgumentException if query is null
+	 * @throws UnsupportedOperationException if the list is backed by columns
+	 */
+	public int[] searchSummaryPrefix(String query, int limit) {
+		if (query == null) {
+			throw new IllegalArgumentException();
+		}
+		checkIndexed();
+		if (prefixes == null) {
+			prefixes = new IssuePrefixIndex();
+			compact();
+			for (int i = 0; i < issues.size(); i++) {
+				prefixes.add(issues.get(i));
+			}
+		}
+		return prefixes.search(query, limit);
 	}
 
 	/**
 	 * Gets the issues in the list based on a id
 	 * 
 	 * @param id int id of the issue
-	 * @return issue Issue that is identified by id
+	 * @return issue Issue that is identified by id, which is a copy if the list
+	 *         is backed by columns
 	 */
 	public Issue getIssueById(int id) {
-		for (int i = 0; i < issues.size(); i++) {
-			if (issues.get(i).getIssueId() == id) {
-				return issues.get(i);
-			}
+		if (columns != null) {
+			return columns.getIssueById(id);
 		}
-		return null;
+		return issuesById.get(id);
 	}
 
 	/**
-	 * Executes a command
+	 * Executes a command. The Issue is locked while it is updated so that a
+	 * background snapshot never writes it half updated, and it is moved in the
+	 * indexes and bitmaps afterwards, even if the command failed part way.
 	 * 
 	 * @param id      id of the Issue in the list
 	 * @param command Command that determines state
 	 */
 	public void executeCommand(int id, Command command) {
-		for (int i = 0; i < issues.size(); i++) {
-			if (issues.get(i).getIssueId() == id) {
-				issues.get(i).update(command);
+		if (columns != null) {
+			Issue issue = columns.getIssueById(id);
+			if (issue != null) {
+				unsaved.add(id);
+				try {
+					issue.update(command);
+				} finally {
+					columns.update(issue);
+				}
+			}
+			return;
+		}
+		Issue issue = issuesById.get(id);
+		if (issue != null) {
+			unsaved.add(id);
+			synchronized (issue) {
+				String stateName = issue.getStateName();
+				String owner = issue.getOwner();
+				int noteCount = text == null ? 0 : issue.getNotes().size();
+				try {
+					issue.update(command);
+				} finally {
+					issuesByState.update(issue, stateName);
+					issuesByOwner.update(issue, owner);
+					bitmaps.update(issue);
+					if (text != null) {
+						text.addNotes(issue, noteCount);
+					}
+				}
 			}
 		}
 	}
 
 	/**
-	 * Deletes an issue based off its id
+	 * Deletes an issue based off its id. The issue is left in place in the list
+	 * of issues rather than shifting every issue after it, and deleted issues are
+	 * dropped in one pass once they make up half of the list, or when the whole
+	 * list is next read, so a delete takes amortized constant time.
 	 * 
 	 * @param id id of the issue being deleted
 	 */
 	public void deleteIssueById(int id) {
-		for (int i = 0; i < issues.size(); i++) {
-			if (issues.get(i).getIssueId() == id) {
-				issues.remove(i);
+		if (columns != null) {
+			if (columns.remove(id)) {
+				unsaved.add(id);
+			}
+			return;
+		}
+		Issue issue = issuesById.remove(id);
+		if (issue != null) {
+			unsaved.add(id);
+			removeFromIndexes(issue);
+			deleted++;
+			if (deleted * 2 > issues.size()) {
+				compact();
+			}
+		}
+	}
+
+	/**
+	 * Drops the deleted issues still held in the list of issues, keeping the rest
+	 * in ID order
+	 */
+	private void compact() {
+		if (deleted > 0) {
+			issues.removeIf(issue -> issuesById.get(issue.getIssueId()) != issue);
+			deleted = 0;
+		}
+	}
+
+	/**
+	 * Gets the issues with IDs from the column store
+	 * 
+	 * @param ids IDs of issues in the columns, in ascending order
+	 * @return list list of copies of the issues, sorted by ID
+	 */
+	private ArrayList<Issue> getIssuesById(int[] ids) {
+		ArrayList<Issue> found = new ArrayList<Issue>(ids.length);
+		for (int i = 0; i < ids.length; i++) {
+			found.add(columns.getIssueById(ids[i]));
+		}
+		return found;
+	}
+
+	/**
+	 * Checks that the list has the secondary indexes a query needs
+	 * 
+	 * @throws UnsupportedOperationException if the list is backed by columns
+	 */
+	private void checkIndexed() {
+		if (columns != null) {
+			throw new UnsupportedOperationException("Query is not supported by a column store.");
+		}
+	}
+
+	/**
+	 * Adds an issue to the secondary indexes
+	 * 
+	 * @param issue Issue that was added to the list
+	 */
+	private void addToIndexes(Issue issue) {
+		issuesByType.add(issue);
+		issuesByState.add(issue);
+		issuesByOwner.add(issue);
+		bitmaps.add(issue);
+		if (text != null) {
+			text.add(issue);
+		}
+		if (prefixes != null) {
+			prefixes.add(issue);
+		}
+	}
+
+	/**
+	 * Removes an issue from the secondary indexes
+	 * 
+	 * @param issue Issue that was removed from the list
+	 */
+	private void removeFromIndexes(Issue issue) {
+		issuesByType.remove(issue, issuesByType.keyOf(issue));
+		issuesByState.remove(issue, issuesByState.keyOf(issue));
+		issuesByOwner.remove(issue, issuesByOwner.keyOf(issue));
+		bitmaps.remove(issue);
+		if (text != null) {
+			text.remove(issue);
+		}
+		if (prefixes != null) {
+			prefixes.remove(issue);
+		}
+	}
+
+	/**
+	 * Removes every issue from the secondary indexes
+	 */
+	private void clearIndexes() {
+		issuesByType.clear();
+		issuesByState.clear();
+		issuesByOwner.clear();
+		bitmaps.clear();
+		text = null;
+		prefixes = null;
+	}
+
+	/**
+	 * Finds the IssueType with a name
+	 * 
+	 * @param type name of the type, such as Issue.I_BUG
+	 * @return issueType the IssueType, or null if no type has the name
+	 */
+	static IssueType toIssueType(String type) {
+		if (Issue.I_ENHANCEMENT.equals(type)) {
+			return IssueType.ENHANCEMENT;
+		} else if (Issue.I_BUG.equals(type)) {
+			return IssueType.BUG;
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the position of an issue in the list, which is kept sorted by ID.
+	 * Deleted issues that have not been compacted away are found as well.
+	 * 
+	 * @param id id of the issue
+	 * @return index position of the issue, or (-(insertion point) - 1) if it is
+	 *         not in the list
+	 */
+	private int indexOf(int id) {
+		int low = 0;
+		int high = issues.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int midId = issues.get(mid).getIssueId();
+			if (midId < id) {
+				low = mid + 1;
+			} else if (midId > id) {
+				high = mid - 1;
+			} else {
+				return mid;
 			}
 		}
+		return -(low + 1);
 	}
 
 }
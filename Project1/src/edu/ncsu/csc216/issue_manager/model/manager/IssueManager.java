@@ -1,10 +1,32 @@
 package edu.ncsu.csc216.issue_manager.model.manager;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.io.IssueFileTail;
+import edu.ncsu.csc216.issue_manager.model.io.IssueFileWatcher;
+import edu.ncsu.csc216.issue_manager.model.io.IssueMerger;
+import edu.ncsu.csc216.issue_manager.model.io.IssueMerger.DuplicatePolicy;
 import edu.ncsu.csc216.issue_manager.model.io.IssueReader;
+import edu.ncsu.csc216.issue_manager.model.io.IssueRecordCache;
+import edu.ncsu.csc216.issue_manager.model.io.IssueRecovery;
+import edu.ncsu.csc216.issue_manager.model.io.IssueShardStore;
 import edu.ncsu.csc216.issue_manager.model.io.IssueWriter;
+import edu.ncsu.csc216.issue_manager.model.io.LazyNoteFile;
 import edu.ncsu.csc216.issue_manager.model.issue.Issue;
 import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
 
@@ -15,16 +37,53 @@ import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
  */
 public class IssueManager {
 
+	/**Size in bytes at which issue files are memory mapped instead of streamed*/
+	public static final long MAPPED_LOAD_THRESHOLD = 64L * 1024 * 1024;
+	/**Number of journal records at which a checkpoint is started*/
+	public static final int CHECKPOINT_RECORDS = 10000;
+	/**Journal size in bytes at which a checkpoint is started*/
+	public static final long CHECKPOINT_BYTES = 16L * 1024 * 1024;
 	/**Singleton instance of IssueManager*/
 	private static IssueManager singleton;
 	/**Instance of the issueList*/
 	private static IssueList issueList;
+	/**True if changes are appended to a journal next to the loaded or saved file*/
+	private boolean journaling;
+	/**Journal of the changes since the issue file was last written, or null if there is none*/
+	private IssueJournal journal;
+	/**Number of journal records at which a checkpoint is started*/
+	private int checkpointRecords = CHECKPOINT_RECORDS;
+	/**Journal size in bytes at which a checkpoint is started*/
+	private long checkpointBytes = CHECKPOINT_BYTES;
+	/**Background thread that writes checkpoints and background saves, or null if none has been needed*/
+	private ExecutorService checkpointer;
+	/**Checkpoint or background save that was last started, or null if there is none to wait for*/
+	private Future<?> checkpoint;
+	/**Issues being written by the last checkpoint or background save, where Issues updated since it started are replaced by copies of how they were*/
+	private ArrayList<Issue> snapshot;
+	/**True if text files are loaded without their notes until the notes are needed*/
+	private boolean lazyNotes;
+	/**File the notes of the loaded Issues are read from, or null if they are all loaded*/
+	private LazyNoteFile notesFile;
+	/**Shard directory the list was last loaded from or saved to, or null if it was a single file*/
+	private IssueShardStore shards;
+	/**True if text files are saved with a checksum after each record*/
+	private boolean checksums;
+	/**Text file the list was loaded from, followed for records appended to it, or null if there is none*/
+	private IssueFileTail tail;
+	/**Watcher of the file the list was loaded from, or null if it is not being watched*/
+	private IssueFileWatcher watcher;
+	/**Encoded records of the Issues in the list from the last save, so unchanged Issues are not encoded again*/
+	private IssueRecordCache records;
+	/**IDs of the Issues the last reloadAppendedIssues() left as they were, because they had unsaved changes in the list*/
+	private ArrayList<Integer> reloadConflicts = new ArrayList<Integer>();
 	
 	/**
 	 * Constructor for the IssueManager object
 	 */
 	private IssueManager() {
 		issueList = new IssueList();
+		records = new IssueRecordCache();
 	}
 	
 	/**
@@ -39,38 +98,427 @@ public class IssueManager {
 	}
 	
 	/**
-	 * Saves a list of issues to a file
-	 * @param fileName name of file that is being saved
+	 * Turns journaling on or off. While journaling is on, every add, command, and
+	 * delete is appended to a journal next to the last loaded or saved file, and
+	 * loading a file replays its journal on top of it, so changes survive without
+	 * saving the whole list.
+	 * @param journaling true to turn journaling on
+	 * @throws IllegalArgumentException if the journal cannot be closed
+	 */
+	public void setJournaling(boolean journaling) {
+		this.journaling = journaling;
+		if (!journaling) {
+			awaitCheckpoint();
+			closeJournal();
+		}
+	}
+	
+	/**
+	 * Turns lazy note loading on or off for the files loaded after this call.
+	 * While it is on, loading a text file only keeps where each Issue's notes are
+	 * in the file, and the notes are read the first time they are needed, such as
+	 * when an Issue is opened. Lists saved while notes are still being read from
+	 * the loaded file are written to a new file that replaces the old one.
+	 * @param lazyNotes true to load notes lazily
+	 */
+	public void setLazyNotes(boolean lazyNotes) {
+		this.lazyNotes = lazyNotes;
+	}
+	
+	/**
+	 * Turns per-record checksums on or off for the saves and checkpoints after
+	 * this call. Text files saved with checksums let recoverIssuesFromFile() tell
+	 * damaged records from good ones. Binary files are saved without them.
+	 * @param checksums true to save checksums
+	 */
+	public void setChecksums(boolean checksums) {
+		this.checksums = checksums;
+	}
+	
+	/**
+	 * Sets when a checkpoint is started. Once the journal holds this many records
+	 * or bytes, a snapshot of the list is written on a background thread and the
+	 * journal is emptied, so replaying it on load stays fast.
+	 * @param records number of journal records at which a checkpoint is started
+	 * @param bytes journal size in bytes at which a checkpoint is started
+	 */
+	public void setCheckpointThresholds(int records, long bytes) {
+		checkpointRecords = records;
+		checkpointBytes = bytes;
+	}
+	
+	/**
+	 * Waits for a running checkpoint or background save to finish. If a checkpoint
+	 * failed, its old journal is kept and is replayed on the next load. Failed
+	 * background saves are reported through the future saveIssuesToFileAsync()
+	 * returned.
+	 */
+	public void awaitCheckpoint() {
+		if (checkpoint != null) {
+			try {
+				checkpoint.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				// The old journal still holds every change, so nothing is lost
+			} finally {
+				checkpoint = null;
+				snapshot = null;
+			}
+		}
+	}
+	
+	/**
+	 * Saves a list of issues to a file. If fileName is a shard directory or an
+	 * empty directory, the list is stored as shards by ID range, and only the
+	 * shards that changed since the directory was last loaded or saved are
+	 * rewritten. Any other directory is not written to. While journaling, the
+	 * journal of the file is emptied since the file now holds every change.
+	 * @param fileName name of file or shard directory that is being saved
 	 * @throws IllegalArgumentException if the file cannot be saved
 	 */
 	public void saveIssuesToFile(String fileName) {
+		awaitCheckpoint();
 		try {
-			IssueWriter.writeIssuesToFile(fileName, issueList.getIssues());
+			openShards(fileName);
+			List<Issue> issues = issueList.getIssues();
+			if (shards != null) {
+				shards.setChecksums(checksums);
+				shards.setRecordCache(records);
+				shards.writeIssues(issues);
+			} else if (notesFile != null) {
+				// Writing in place would overwrite notes that have not been read yet
+				IssueWriter.writeSnapshotToFile(fileName, issues, checksums, records);
+			} else {
+				IssueWriter.writeIssuesToFile(fileName, issues, false, checksums, records);
+			}
+			issueList.markSaved();
+			if (tail != null && tail.follows(fileName)) {
+				tail.reset();
+			}
+			if (journaling) {
+				if (journal == null || !journal.getSnapshotFileName().equals(fileName)) {
+					closeJournal();
+					journal = new IssueJournal(fileName);
+				}
+				journal.truncate();
+			}
 		} catch(Exception e) {
 			throw new IllegalArgumentException("File cannot be saved.");
 		}
 	}
 	
 	/**
-	 * Loads a list of issues from a file
-	 * @param fileName name of the file that is being loaded
+	 * Saves a list of issues to a file on a background thread, so the caller is
+	 * not blocked while the file is written. The file holds the list as it was
+	 * when this method was called: the list is copied, which only copies
+	 * references, and an Issue updated while the save runs is copied as it was
+	 * before the update. Issues can be added, updated, and deleted while the save
+	 * runs. While journaling, changes made during the save are logged to a new
+	 * journal, and the journal of the changes the file holds is deleted once the
+	 * file is written. Shard directories are saved as by saveIssuesToFile().
+	 * @param fileName name of file or shard directory that is being saved
+	 * @return future that completes when the file is written, or completes
+	 *         exceptionally with an IllegalArgumentException if it cannot be
+	 * @throws IllegalArgumentException if the journal cannot be rotated
+	 */
+	public CompletableFuture<Void> saveIssuesToFileAsync(String fileName) {
+		awaitCheckpoint();
+		try {
+			openShards(fileName);
+			if (journaling) {
+				if (journal == null || !journal.getSnapshotFileName().equals(fileName)) {
+					closeJournal();
+					journal = new IssueJournal(fileName);
+					// The journal of the file does not apply to the list being saved over it
+					journal.truncate();
+				}
+				journal.rotate();
+			}
+		} catch(IOException | IllegalArgumentException e) {
+			throw new IllegalArgumentException("File cannot be saved.");
+		}
+		CompletableFuture<Void> save = writeInBackground(fileName);
+		checkpoint = save;
+		return save.handle((result, e) -> {
+			if (e != null) {
+				throw new IllegalArgumentException("File cannot be saved.", e);
+			}
+			return result;
+		});
+	}
+	
+	/**
+	 * Loads a list of issues from a file. The shards of a shard directory are read
+	 * in parallel. Binary issue files are decoded directly and compressed files are decompressed as they are streamed. Other text files
+	 * of at least MAPPED_LOAD_THRESHOLD bytes are memory mapped, smaller files are
+	 * streamed, or scanned without their notes while lazy note loading is on.
+	 * Text files are followed afterwards, so reloadAppendedIssues() only reads
+	 * records appended to them later.
+	 * While journaling, the journal of the file is replayed on top of it.
+	 * @param fileName name of the file or shard directory that is being loaded
 	 * @throws IllegalArgumentException thrown if file is not able to be found
 	 */
 	public void loadIssuesFromFile(String fileName) {
 		createNewIssueList();
 		
 		try {
-			issueList.addIssues(IssueReader.readIssuesFromFile(fileName));
+			if (IssueShardStore.isShardDirectory(fileName)) {
+				shards = new IssueShardStore(fileName);
+				issueList.addIssues(shards.readIssues());
+			} else if (IssueReader.isBinaryFile(fileName)) {
+				issueList.addIssues(IssueReader.readIssuesFromBinaryFile(fileName));
+			} else if (IssueReader.isCompressedFile(fileName)) {
+				issueList.addIssues(IssueReader.readIssuesFromFile(fileName));
+			} else if (new File(fileName).isDirectory()) {
+				// A directory without a manifest is not a shard directory
+				throw new IllegalArgumentException("Unable to load file.");
+			} else {
+				// Followed from where it ends now, so records appended while it is read are not missed
+				tail = new IssueFileTail(fileName);
+				if (lazyNotes) {
+					notesFile = new LazyNoteFile(fileName);
+					issueList.addIssues(notesFile.readIssues());
+				} else if (new File(fileName).length() >= MAPPED_LOAD_THRESHOLD) {
+					issueList.addIssues(IssueReader.readIssuesFromMappedFile(fileName));
+				} else {
+					issueList.addIssues(IssueReader.readIssuesFromFile(fileName));
+				}
+			}
+			if (journaling) {
+				if (shards != null && (IssueJournal.getJournalFile(fileName).length() > 0
+						|| IssueJournal.getOldJournalFile(fileName).exists())) {
+					// The shards do not hold the changes in the journal yet
+					shards.markAllDirty();
+				}
+				IssueJournal.replay(fileName, issueList);
+				journal = new IssueJournal(fileName);
+			}
+		} catch(Exception e) {
+			closeNotesFile();
+			shards = null;
+			tail = null;
+			throw new IllegalArgumentException("File not able to load issues.");
+		}
+	}
+	
+	/**
+	 * Loads a text issue file, which may be compressed, into an IssueList backed
+	 * by a column store instead of an Issue object per record. Records are parsed
+	 * one at a time and added to the columns, so the file is loaded in a fraction
+	 * of the memory of loadIssuesFromFile(). The list is changed, saved, followed
+	 * and journaled as a list loaded by loadIssuesFromFile() is, but Issues from
+	 * getIssueById() are copies, so changes to them are only kept through
+	 * executeCommand(), and queryIssues(), searchIssues() and
+	 * getIssueListAsArrayByPrefix() throw an UnsupportedOperationException.
+	 * @param fileName name of the text file that is being loaded
+	 * @throws IllegalArgumentException if the file cannot be loaded, or is a
+	 *         binary file or shard directory
+	 */
+	public void loadIssueColumnsFromFile(String fileName) {
+		createNewIssueList();
+		IssueColumns loaded = new IssueColumns();
+		try {
+			if (new File(fileName).isDirectory() || IssueReader.isBinaryFile(fileName)) {
+				throw new IllegalArgumentException("File not able to load issues.");
+			}
+			if (!IssueReader.isCompressedFile(fileName)) {
+				// Followed from where it ends now, so records appended while it is read are not missed
+				tail = new IssueFileTail(fileName);
+			}
+			try (Stream<Issue> issues = IssueReader.stream(fileName)) {
+				issues.forEach(loaded::add);
+			}
+			issueList = new IssueList(loaded);
+			if (journaling) {
+				IssueJournal.replay(fileName, issueList);
+				journal = new IssueJournal(fileName);
+			}
+		} catch(Exception e) {
+			issueList = new IssueList();
+			tail = null;
+			throw new IllegalArgumentException("File not able to load issues.");
+		}
+	}
+	
+	/**
+	 * Loads what can be saved of a damaged text issue file, such as one left by an
+	 * interrupted save, as IssueReader.recoverIssuesFromFile() reads it. The
+	 * journal of the file is not replayed, since its changes may refer to the
+	 * records that were dropped.
+	 * @param fileName name of the file that is being recovered
+	 * @return recovery the records that were dropped, with the IDs of those whose
+	 *         IDs could be read
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	public IssueRecovery recoverIssuesFromFile(String fileName) {
+		createNewIssueList();
+		try {
+			IssueRecovery recovery = IssueReader.recoverIssuesFromFile(fileName);
+			issueList.addIssues(recovery.getIssues());
+			return recovery;
+		} catch(IllegalArgumentException e) {
+			throw new IllegalArgumentException("File not able to load issues.");
+		}
+	}
+	
+	/**
+	 * Loads several issue files or shard directories, each sorted by ID, into one
+	 * list. The files are read concurrently and merged with IssueMerger.merge(),
+	 * so the combined list is never sorted again. The list does not belong to any
+	 * of the files, so it is journaled and followed only once it is saved.
+	 * @param fileNames names of the files, in the order policy refers to
+	 * @param policy which Issue is kept when files have Issues with the same ID
+	 * @throws IllegalArgumentException if a file cannot be loaded or is not sorted
+	 *                                  by ID, or policy is REJECT and an ID is in
+	 *                                  more than one place
+	 */
+	public void loadIssuesFromFiles(List<String> fileNames, DuplicatePolicy policy) {
+		createNewIssueList();
+		try {
+			List<ArrayList<Issue>> contents = fileNames.parallelStream().map(this::readIssueFile)
+					.collect(Collectors.toList());
+			List<Iterator<Issue>> sources = new ArrayList<Iterator<Issue>>(contents.size());
+			for (int i = 0; i < contents.size(); i++) {
+				sources.add(contents.get(i).iterator());
+			}
+			issueList.addSortedIssues(IssueMerger.merge(sources, policy));
 		} catch(Exception e) {
+			issueList = new IssueList();
+			throw new IllegalArgumentException("File not able to load issues.");
+		}
+	}
+	
+	/**
+	 * Reads every Issue of an issue file or shard directory in whichever way
+	 * loadIssuesFromFile() would, except that notes are always read
+	 * @param fileName name of the file or shard directory
+	 * @return issues ArrayList of the Issues in the file
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	private ArrayList<Issue> readIssueFile(String fileName) {
+		if (IssueShardStore.isShardDirectory(fileName)) {
+			return new IssueShardStore(fileName).readIssues();
+		} else if (IssueReader.isBinaryFile(fileName)) {
+			return IssueReader.readIssuesFromBinaryFile(fileName);
+		} else if (!IssueReader.isCompressedFile(fileName) && new File(fileName).length() >= MAPPED_LOAD_THRESHOLD) {
+			return IssueReader.readIssuesFromMappedFile(fileName);
+		}
+		return IssueReader.readIssuesFromFile(fileName);
+	}
+	
+	/**
+	 * Starts watching the text file the list was loaded from for records other
+	 * programs append to it. onChange runs on a background thread after the file
+	 * changes, and should call reloadAppendedIssues() on the thread that uses the
+	 * IssueManager, such as with SwingUtilities.invokeLater(). The file is watched
+	 * until stopWatching() is called or another list is loaded or created.
+	 * @param onChange callback run after the file changes
+	 * @return true if the file is being watched, or false if the list was not
+	 *         loaded from a text file
+	 * @throws IllegalArgumentException if the file cannot be watched
+	 */
+	public boolean watchLoadedFile(Runnable onChange) {
+		stopWatching();
+		if (tail == null) {
+			return false;
+		}
+		try {
+			watcher = new IssueFileWatcher(tail.getFileName(), onChange);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("File cannot be watched.");
+		}
+		return true;
+	}
+	
+	/**
+	 * Stops watching the file the list was loaded from
+	 */
+	public void stopWatching() {
+		if (watcher != null) {
+			try {
+				watcher.close();
+			} catch (IOException e) {
+				// The watching thread stops either way
+			} finally {
+				watcher = null;
+			}
+		}
+	}
+	
+	/**
+	 * Merges the records appended to the text file the list was loaded from since
+	 * it was loaded or last reloaded. Only the appended part of the file is read.
+	 * An appended record for an Issue already in the list replaces it, so records
+	 * appended to update an Issue, or notes appended to the last record, are picked
+	 * up. An Issue that was added, updated, or deleted in the list since it was
+	 * loaded or last saved is left as it is instead, so changes that were not
+	 * saved and the journal that logged them are not lost, and its ID is reported
+	 * by getReloadConflicts(). If the file was replaced or
+	 * shortened instead, such as by another program saving over it, it is loaded
+	 * again as by loadIssuesFromFile().
+	 * @return number of Issues added or replaced, or the size of the list if the
+	 *         file was loaded again
+	 * @throws IllegalArgumentException if the file cannot be read or an appended
+	 *                                  record is not a valid Issue
+	 */
+	public int reloadAppendedIssues() {
+		reloadConflicts = new ArrayList<Integer>();
+		if (tail == null) {
+			return 0;
+		}
+		// A save over the file moves the tail to its new end once it finishes
+		awaitCheckpoint();
+		ArrayList<Issue> appended;
+		try {
+			appended = tail.readAppended();
+		} catch(IllegalArgumentException e) {
 			throw new IllegalArgumentException("File not able to load issues.");
 		}
+		if (appended == null) {
+			IssueFileWatcher current = watcher;
+			watcher = null;
+			try {
+				if (issueList.isColumnar()) {
+					loadIssueColumnsFromFile(tail.getFileName());
+				} else {
+					loadIssuesFromFile(tail.getFileName());
+				}
+			} catch(IllegalArgumentException e) {
+				watcher = current;
+				stopWatching();
+				throw e;
+			}
+			watcher = current;
+			return issueList.getIssues().size();
+		}
+		reloadConflicts = issueList.mergeIssues(appended);
+		return appended.size() - reloadConflicts.size();
+	}
+	
+	/**
+	 * Gets the IDs of the Issues the last reloadAppendedIssues() left as they were
+	 * instead of merging appended records, because they had been added, updated,
+	 * or deleted in the list since it was loaded or last saved
+	 * @return conflicts List of the IDs of the Issues that were kept
+	 */
+	public List<Integer> getReloadConflicts() {
+		return reloadConflicts;
 	}
 	
 	/**
 	 * Creates a new list of issues 
+	 * @throws IllegalArgumentException if the journal or notes file of the old list cannot be closed
 	 */
 	public void createNewIssueList() {
+		awaitCheckpoint();
+		closeJournal();
+		closeNotesFile();
+		stopWatching();
+		shards = null;
+		tail = null;
 		issueList = new IssueList();
+		records = new IssueRecordCache();
 	}
 	
 	/**
@@ -78,17 +526,7 @@ public class IssueManager {
 	 * @return list 2D Object Array of Issues
 	 */
 	public Object[][] getIssueListAsArray(){
-		Object [][] temp = new Object[issueList.getIssues().size()][4];
-		
-		for(int i = 0; i < issueList.getIssues().size(); i++) {
-			temp[i][0] = issueList.getIssues().get(i).getIssueId();
-			temp[i][1] = issueList.getIssues().get(i).getStateName();
-			temp[i][2] = issueList.getIssues().get(i).getIssueType();
-			temp[i][3] = issueList.getIssues().get(i).getSummary();
-
-		}
-		
-		return temp;
+		return toArray(issueList.getIssues());
 	}
 	
 	/**
@@ -97,7 +535,89 @@ public class IssueManager {
 	 * @return list 2D Object Array of Issues
 	 */
 	public Object[][] getIssueListAsArrayByIssueType(String type){
-		ArrayList<Issue> tempList = issueList.getIssuesByType(type);
+		return toArray(issueList.getIssuesByType(type));
+	}
+	
+	/**
+	 * Gets the list of Issues as a 2D array of Objects based on the state of issue
+	 * @param stateName String name of the state, such as Issue.NEW_NAME
+	 * @return list 2D Object Array of Issues
+	 */
+	public Object[][] getIssueListAsArrayByState(String stateName){
+		return toArray(issueList.getIssuesByState(stateName));
+	}
+	
+	/**
+	 * Counts the Issues in each state
+	 * @return counts number of Issues by state name, in the order Issues move
+	 *         through the states
+	 */
+	public Map<String, Integer> countIssuesByState(){
+		return issueList.countIssuesByState();
+	}
+	
+	/**
+	 * Gets the list of Issues as a 2D array of Objects based on the owner of issue
+	 * @param owner String id of the owner
+	 * @return list 2D Object Array of Issues
+	 */
+	public Object[][] getIssueListAsArrayByOwner(String owner){
+		return toArray(issueList.getIssuesByOwner(owner));
+	}
+	
+	/**
+	 * Starts a compound filter over the Issues in the list
+	 * @return query Query that matches every Issue until conditions are added
+	 * @throws UnsupportedOperationException if the list was loaded into columns
+	 */
+	public IssueBitmapIndex.Query queryIssues(){
+		return issueList.queryIssues();
+	}
+	
+	/**
+	 * Gets the Issues that match a compound filter as a 2D array of Objects
+	 * @param query Query from queryIssues()
+	 * @return list 2D Object Array of Issues
+	 */
+	public Object[][] getIssueListAsArray(IssueBitmapIndex.Query query){
+		return toArray(query.issues());
+	}
+	
+	/**
+	 * Searches the summaries and notes of the Issues in the list
+	 * @param query terms, and phrases in double quotes, that must all appear
+	 * @return issues ArrayList of the matching Issues, sorted by ID
+	 * @throws IllegalArgumentException if query is null
+	 * @throws UnsupportedOperationException if the list was loaded into columns
+	 */
+	public ArrayList<Issue> searchIssues(String query){
+		return issueList.searchIssues(query);
+	}
+	
+	/**
+	 * Gets the Issues whose summaries have a word starting with each word of a
+	 * query as a 2D array of Objects, for as-you-type search
+	 * @param query words typed so far
+	 * @param limit largest number of Issues to return
+	 * @return list 2D Object Array of the matching Issues with the lowest IDs
+	 * @throws IllegalArgumentException if query is null
+	 * @throws UnsupportedOperationException if the list was loaded into columns
+	 */
+	public Object[][] getIssueListAsArrayByPrefix(String query, int limit){
+		int[] ids = issueList.searchSummaryPrefix(query, limit);
+		ArrayList<Issue> tempList = new ArrayList<Issue>(ids.length);
+		for (int i = 0; i < ids.length; i++) {
+			tempList.add(issueList.getIssueById(ids[i]));
+		}
+		return toArray(tempList);
+	}
+	
+	/**
+	 * Converts Issues into the rows of a 2D array of Objects
+	 * @param tempList List of the Issues
+	 * @return list 2D Object Array of Issues
+	 */
+	private static Object[][] toArray(List<Issue> tempList){
 		Object [][] tempArray = new Object [tempList.size()][4];
 		
 		for(int i = 0; i < tempList.size(); i++) {
@@ -125,17 +645,49 @@ public class IssueManager {
 	 * Executes the command to transition states
 	 * @param id int id of the Issue
 	 * @param command Command to transition between IssueStates
+	 * @throws IllegalArgumentException if the journal cannot be written
 	 */
 	public void executeCommand (int id, Command command) {
-		issueList.executeCommand(id, command);
+		Issue issue = issueList.getIssueById(id);
+		if (issue == null) {
+			return;
+		}
+		synchronized (issue) {
+			preserveForSnapshot(issue);
+			issueList.executeCommand(id, command);
+		}
+		if (shards != null) {
+			shards.markDirty(id);
+		}
+		if (journal != null) {
+			try {
+				// A list backed by columns updates a copy of the Issue it gave out
+				journal.logCommand(issueList.isColumnar() ? issueList.getIssueById(id) : issue, command);
+				checkpointIfNeeded();
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Journal cannot be written.");
+			}
+		}
 	}
 	
 	/**
 	 * Deletes an Issue based of its ID
 	 * @param id int id of the Issue
+	 * @throws IllegalArgumentException if the journal cannot be written
 	 */
 	public void deleteIssueById(int id) {
 		issueList.deleteIssueById(id);
+		if (shards != null) {
+			shards.markDirty(id);
+		}
+		if (journal != null) {
+			try {
+				journal.logDelete(id);
+				checkpointIfNeeded();
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Journal cannot be written.");
+			}
+		}
 	}
 	
 	/**
@@ -143,8 +695,168 @@ public class IssueManager {
 	 * @param issueType type of Issue
 	 * @param summary Summary of the issue
 	 * @param note notes attached to the issue
+	 * @throws IllegalArgumentException if the journal cannot be written
 	 */
 	public void addIssueToList(IssueType issueType, String summary, String note) {
-		issueList.addIssue(issueType, summary, note);
+		int id = issueList.addIssue(issueType, summary, note);
+		if (shards != null) {
+			shards.markDirty(id);
+		}
+		if (journal != null) {
+			try {
+				journal.logAdd(issueList.getIssueById(id));
+				checkpointIfNeeded();
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Journal cannot be written.");
+			}
+		}
+	}
+	
+	/**
+	 * Starts a checkpoint if the journal has passed a threshold and no checkpoint
+	 * is running. The journal is rotated on this thread and the snapshot is
+	 * written on the background thread while changes keep being made and logged
+	 * to the new journal.
+	 * @throws IOException if the journal cannot be rotated
+	 */
+	private void checkpointIfNeeded() throws IOException {
+		if (journal.getRecordCount() < checkpointRecords && journal.getSize() < checkpointBytes
+				|| checkpoint != null && !checkpoint.isDone()) {
+			return;
+		}
+		journal.rotate();
+		checkpoint = writeInBackground(journal.getSnapshotFileName());
+	}
+	
+	/**
+	 * Copies the list, which only copies references, and writes the copy to a
+	 * file on the background thread, then deletes the old journal of the file
+	 * since the file holds every change it logged. If the list is stored as
+	 * shards, the shards that have changed so far are written.
+	 * @param fileName name of the file that is being written
+	 * @return future that completes when the file is written
+	 */
+	private CompletableFuture<Void> writeInBackground(String fileName) {
+		// A list backed by columns gives out new copies, which are a snapshot already
+		ArrayList<Issue> issues = issueList.isColumnar() ? issueList.getIssues()
+				: new ArrayList<Issue>(issueList.getIssues());
+		snapshot = issues;
+		// Changes made from here on are not in the file being written
+		issueList.markSaved();
+		IssueShardStore store = shards;
+		BitSet changes = store == null ? null : store.takeDirty();
+		if (store != null) {
+			store.setChecksums(checksums);
+			store.setRecordCache(records);
+		}
+		IssueFileTail written = tail != null && tail.follows(fileName) ? tail : null;
+		boolean withChecksums = checksums;
+		IssueRecordCache cache = records;
+		if (checkpointer == null) {
+			checkpointer = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "IssueManager checkpoint");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return CompletableFuture.runAsync(() -> {
+			if (store != null) {
+				store.writeIssues(issues, changes);
+			} else {
+				IssueWriter.writeSnapshotToFile(fileName, issues, withChecksums, cache);
+			}
+			if (written != null) {
+				written.reset();
+			}
+			try {
+				IssueJournal.deleteOldJournal(fileName);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, checkpointer);
+	}
+	
+	/**
+	 * Replaces an Issue that is about to be updated with a copy of how it is now
+	 * in the list a running checkpoint or background save is writing, so the file
+	 * holds the list as it was when the write started. The caller must hold the
+	 * Issue's lock, which IssueWriter.writeSnapshotToFile() holds while it reads
+	 * and writes the Issue.
+	 * @param issue Issue that is about to be updated
+	 */
+	private void preserveForSnapshot(Issue issue) {
+		if (snapshot == null) {
+			return;
+		}
+		if (checkpoint == null || checkpoint.isDone()) {
+			snapshot = null;
+			return;
+		}
+		// The copy is sorted by ID like the list it was taken from
+		int low = 0;
+		int high = snapshot.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int id = snapshot.get(mid).getIssueId();
+			if (id < issue.getIssueId()) {
+				low = mid + 1;
+			} else if (id > issue.getIssueId()) {
+				high = mid - 1;
+			} else {
+				if (snapshot.get(mid) == issue) {
+					snapshot.set(mid, new Issue(issue));
+				}
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Closes the journal, if one is open
+	 * @throws IllegalArgumentException if the journal cannot be closed
+	 */
+	private void closeJournal() {
+		if (journal != null) {
+			try {
+				journal.close();
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Journal cannot be closed.");
+			} finally {
+				journal = null;
+			}
+		}
+	}
+	
+	/**
+	 * Closes the file notes are lazily read from, if one is open
+	 * @throws IllegalArgumentException if the file cannot be closed
+	 */
+	private void closeNotesFile() {
+		if (notesFile != null) {
+			try {
+				notesFile.close();
+			} catch (IOException e) {
+				throw new IllegalArgumentException("File cannot be closed.");
+			} finally {
+				notesFile = null;
+			}
+		}
+	}
+	
+	/**
+	 * Switches to the shard store of a directory before saving to it, or away
+	 * from shards before saving to a single file. A directory other than the one
+	 * the list came from has every shard written.
+	 * @param fileName name of the file or shard directory that is being saved
+	 * @throws IllegalArgumentException if the directory cannot be opened, such as
+	 *         one that has no manifest and is not empty
+	 */
+	private void openShards(String fileName) {
+		if (!new File(fileName).isDirectory()) {
+			shards = null;
+		} else if (shards == null || !shards.getDirectoryName().equals(new File(fileName).getPath())) {
+			shards = new IssueShardStore(fileName);
+			shards.markAllDirty();
+		}
 	}
 }
@@ -0,0 +1,364 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Prefix index over the tokens of issue summaries for as-you-type search. The
+ * tokens are kept in a trie, and the node at the end of each token has the
+ * sorted IDs of the issues whose summary contains it. Short prefixes match the
+ * most tokens, so the nodes within CACHED_DEPTH of the root also keep the
+ * lowest TOP_SIZE IDs under them, which answers a one word search for a short
+ * prefix without walking its subtree. Deeper subtrees are walked, stopping each
+ * ID list at the first ID above the lowest IDs found so far, so a long prefix
+ * shared by many tokens, such as "ticket" in front of ticket numbers, costs a
+ * walk over every one of them.
+ * Summaries never change once an issue is created, so issues only need to be
+ * added and removed.
+ *
+ * @author yash
+ *
+ */
+public class IssuePrefixIndex {
+
+	/** Number of IDs kept for a short prefix, and the largest limit answered from them */
+	public static final int TOP_SIZE = 128;
+	/** Length of the longest prefix that keeps its lowest IDs */
+	static final int CACHED_DEPTH = 2;
+
+	/** Node for the empty prefix */
+	private Node root;
+	/** Issues in the index by ID */
+	private IssueIdMap issues;
+
+	/**
+	 * Constructs an empty IssuePrefixIndex
+	 */
+	public IssuePrefixIndex() {
+		root = new Node();
+		issues = new IssueIdMap();
+	}
+
+	/**
+	 * Adds the summary of an issue to the index, replacing an issue with the same
+	 * ID
+	 *
+	 * @param issue Issue to add
+	 */
+	public void add(Issue issue) {
+		Issue old = issues.get(issue.getIssueId());
+		if (old == issue) {
+			return;
+		} else if (old != null) {
+			remove(old);
+		}
+		issues.put(issue);
+		int id = issue.getIssueId();
+		for (String token : IssueTextIndex.tokenize(issue.getSummary())) {
+			Node node = root;
+			for (int depth = 1; depth <= token.length(); depth++) {
+				node = node.childFor(token.charAt(depth - 1));
+				if (depth <= CACHED_DEPTH && node.top != null) {
+					node.topCount = insert(node.top, node.topCount, TOP_SIZE, id);
+				}
+			}
+			if (node.ids == null) {
+				node.ids = new IdList();
+			}
+			node.ids.add(id);
+		}
+	}
+
+	/**
+	 * Removes an issue from the index
+	 *
+	 * @param issue Issue to remove
+	 */
+	public void remove(Issue issue) {
+		int id = issue.getIssueId();
+		if (issues.get(id) != issue) {
+			return;
+		}
+		issues.remove(id);
+		for (String token : IssueTextIndex.tokenize(issue.getSummary())) {
+			Node[] path = new Node[token.length() + 1];
+			path[0] = root;
+			for (int depth = 1; depth <= token.length() && path[depth - 1] != null; depth++) {
+				path[depth] = path[depth - 1].child(token.charAt(depth - 1));
+			}
+			Node node = path[token.length()];
+			if (node == null || node.ids == null || !node.ids.remove(id)) {
+				continue;
+			}
+			for (int depth = 1; depth <= CACHED_DEPTH && depth <= token.length(); depth++) {
+				// The issue may still be under the prefix through another token, so the
+				// lowest IDs are found again the next time they are needed
+				Node prefix = path[depth];
+				if (prefix.top != null && Arrays.binarySearch(prefix.top, 0, prefix.topCount, id) >= 0) {
+					prefix.top = null;
+				}
+			}
+			if (node.ids.size == 0) {
+				node.ids = null;
+			}
+			for (int depth = token.length(); depth > 0 && path[depth].isEmpty(); depth--) {
+				path[depth - 1].removeChild(token.charAt(depth - 1));
+			}
+		}
+	}
+
+	/**
+	 * Finds the issues whose summaries have a token starting with each word of a
+	 * query, so "exp cs" matches "Export to CSV". The longest word drives the
+	 * search since it is likely to match the fewest issues, and the others are
+	 * checked against the summaries of its matches.
+	 *
+	 * @param query words typed so far
+	 * @param limit largest number of IDs to return
+	 * @return ids the lowest IDs of the matching issues in ascending order, which
+	 *         is empty if the query has no words
+	 */
+	public int[] search(String query, int limit) {
+		List<String> words = IssueTextIndex.tokenize(query);
+		if (words.isEmpty() || limit <= 0) {
+			return new int[0];
+		}
+		String driver = words.get(0);
+		for (int i = 1; i < words.size(); i++) {
+			if (words.get(i).length() > driver.length()) {
+				driver = words.get(i);
+			}
+		}
+		Node node = root;
+		for (int i = 0; i < driver.length() && node != null; i++) {
+			node = node.child(driver.charAt(i));
+		}
+		if (node == null) {
+			return new int[0];
+		}
+		if (words.size() == 1 && driver.length() <= CACHED_DEPTH && limit <= TOP_SIZE) {
+			if (node.top == null) {
+				node.top = new int[TOP_SIZE];
+				node.topCount = collect(node, node.top, TOP_SIZE, null);
+			}
+			return Arrays.copyOf(node.top, Math.min(limit, node.topCount));
+		}
+		int[] lowest = new int[limit];
+		int count = collect(node, lowest, limit, words.size() == 1 ? null : words);
+		return Arrays.copyOf(lowest, count);
+	}
+
+	/**
+	 * Finds the lowest IDs in a subtree
+	 *
+	 * @param node  root of the subtree
+	 * @param found array the IDs are put in, in ascending order
+	 * @param limit largest number of IDs to find
+	 * @param words words every issue found must match, or null to find every
+	 *              issue in the subtree
+	 * @return count number of IDs found
+	 */
+	private int collect(Node node, int[] found, int limit, List<String> words) {
+		int count = 0;
+		ArrayList<Node> stack = new ArrayList<Node>();
+		stack.add(node);
+		while (!stack.isEmpty()) {
+			Node next = stack.remove(stack.size() - 1);
+			for (int i = 0; i < next.childCount; i++) {
+				stack.add(next.children[i]);
+			}
+			for (int i = 0; next.ids != null && i < next.ids.size; i++) {
+				int id = next.ids.ids[i];
+				if (count == limit && id >= found[count - 1]) {
+					break;
+				}
+				if (words == null || matchesAll(issues.get(id), words)) {
+					count = insert(found, count, limit, id);
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Inserts an ID into an array of the lowest IDs, dropping the highest if the
+	 * array is full
+	 *
+	 * @param lowest IDs in ascending order
+	 * @param count  number of IDs in the array
+	 * @param limit  largest number of IDs the array holds
+	 * @param id     ID to insert
+	 * @return count number of IDs in the array afterwards
+	 */
+	private static int insert(int[] lowest, int count, int limit, int id) {
+		int index = Arrays.binarySearch(lowest, 0, count, id);
+		if (index >= 0) {
+			return count;
+		}
+		index = -(index + 1);
+		if (index == limit) {
+			return count;
+		}
+		if (count == limit) {
+			count--;
+		}
+		System.arraycopy(lowest, index, lowest, index + 1, count - index);
+		lowest[index] = id;
+		return count + 1;
+	}
+
+	/**
+	 * Checks if every word of a query starts a token of an issue's summary
+	 *
+	 * @param issue Issue to check
+	 * @param words words of the query
+	 * @return true if each word is a prefix of some token
+	 */
+	private static boolean matchesAll(Issue issue, List<String> words) {
+		List<String> tokens = IssueTextIndex.tokenize(issue.getSummary());
+		for (String word : words) {
+			boolean matched = false;
+			for (int i = 0; i < tokens.size() && !matched; i++) {
+				matched = tokens.get(i).startsWith(word);
+			}
+			if (!matched) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Node of the trie for one prefix
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class Node {
+
+		/** Characters that lead to the children, in ascending order */
+		private char[] keys = new char[0];
+		/** Children in the order of their keys */
+		private Node[] children = new Node[0];
+		/** Number of children */
+		private int childCount;
+		/** IDs of the issues with the token that ends at this node, or null */
+		private IdList ids;
+		/** Lowest IDs under this node, or null if they are not known */
+		private int[] top;
+		/** Number of IDs in top */
+		private int topCount;
+
+		/**
+		 * Gets the child for a character
+		 *
+		 * @param c character after this node's prefix
+		 * @return child the child, or null if there is none
+		 */
+		Node child(char c) {
+			int index = Arrays.binarySearch(keys, 0, childCount, c);
+			return index < 0 ? null : children[index];
+		}
+
+		/**
+		 * Gets the child for a character, adding it if there is none
+		 *
+		 * @param c character after this node's prefix
+		 * @return child the child
+		 */
+		Node childFor(char c) {
+			int index = Arrays.binarySearch(keys, 0, childCount, c);
+			if (index >= 0) {
+				return children[index];
+			}
+			index = -(index + 1);
+			if (childCount == keys.length) {
+				keys = Arrays.copyOf(keys, Math.max(2, childCount * 2));
+				children = Arrays.copyOf(children, keys.length);
+			}
+			System.arraycopy(keys, index, keys, index + 1, childCount - index);
+			System.arraycopy(children, index, children, index + 1, childCount - index);
+			keys[index] = c;
+			children[index] = new Node();
+			childCount++;
+			return children[index];
+		}
+
+		/**
+		 * Removes the child for a character
+		 *
+		 * @param c character after this node's prefix
+		 */
+		void removeChild(char c) {
+			int index = Arrays.binarySearch(keys, 0, childCount, c);
+			if (index >= 0) {
+				System.arraycopy(keys, index + 1, keys, index, childCount - index - 1);
+				System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+				childCount--;
+				children[childCount] = null;
+			}
+		}
+
+		/**
+		 * Checks if no token ends at or below this node
+		 *
+		 * @return true if the node can be removed
+		 */
+		boolean isEmpty() {
+			return ids == null && childCount == 0;
+		}
+	}
+
+	/**
+	 * Sorted IDs of the issues with one token. IDs are nearly always added in
+	 * ascending order, which appends them.
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class IdList {
+
+		/** IDs in ascending order */
+		private int[] ids = new int[2];
+		/** Number of IDs */
+		private int size;
+
+		/**
+		 * Adds an ID if it is not in the list
+		 *
+		 * @param id ID to add
+		 */
+		void add(int id) {
+			int index = size == 0 || ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+			if (index >= 0) {
+				return;
+			}
+			index = -(index + 1);
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			System.arraycopy(ids, index, ids, index + 1, size - index);
+			ids[index] = id;
+			size++;
+		}
+
+		/**
+		 * Removes an ID
+		 *
+		 * @param id ID to remove
+		 * @return true if the ID was in the list
+		 */
+		boolean remove(int id) {
+			int index = Arrays.binarySearch(ids, 0, size, id);
+			if (index < 0) {
+				return false;
+			}
+			System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+			size--;
+			return true;
+		}
+	}
+}
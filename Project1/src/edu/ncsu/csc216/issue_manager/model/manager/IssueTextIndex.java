@@ -0,0 +1,337 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Inverted index over the summaries and notes of issues for term and phrase
+ * searches. Text is split into lower case tokens of letters and digits, and
+ * each term has a posting list of every place it occurs. A place is a long of
+ * the issue's document number, the field (0 for the summary, or the note's
+ * index plus 1) and the token's position in the field, in that order from the
+ * high bits, so the next token of the same field is the place plus 1 and a
+ * phrase is found by intersecting the shifted posting lists of its terms.
+ * Notes past MAX_FIELD - 1 and tokens past MAX_POSITION in a field are not
+ * indexed.
+ *
+ * @author yash
+ *
+ */
+public class IssueTextIndex {
+
+	/** Largest field number that is indexed */
+	static final int MAX_FIELD = 0xFFFF;
+	/** Largest token position in a field that is indexed */
+	static final int MAX_POSITION = 0xFFFF;
+
+	/** Posting lists by term */
+	private HashMap<String, Postings> postings;
+	/** Issues by their document number */
+	private ArrayList<Issue> docs;
+	/** Document number of each issue in the index */
+	private IdentityHashMap<Issue, Integer> docOf;
+	/** Document numbers of the issues that were removed */
+	private BitSet removed;
+
+	/**
+	 * Constructs an empty IssueTextIndex
+	 */
+	public IssueTextIndex() {
+		clear();
+	}
+
+	/**
+	 * Removes every issue from the index
+	 */
+	public void clear() {
+		postings = new HashMap<String, Postings>();
+		docs = new ArrayList<Issue>();
+		docOf = new IdentityHashMap<Issue, Integer>();
+		removed = new BitSet();
+	}
+
+	/**
+	 * Splits text into lower case tokens of letters and digits
+	 *
+	 * @param text text to split
+	 * @return tokens List of the tokens in order
+	 */
+	public static List<String> tokenize(String text) {
+		ArrayList<String> tokens = new ArrayList<String>();
+		int start = -1;
+		for (int i = 0; i <= text.length(); i++) {
+			boolean inToken = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+			if (inToken && start < 0) {
+				start = i;
+			} else if (!inToken && start >= 0) {
+				tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+				start = -1;
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * Adds the summary and notes of an issue to the index
+	 *
+	 * @param issue Issue to add
+	 */
+	public void add(Issue issue) {
+		if (docOf.containsKey(issue)) {
+			return;
+		}
+		int doc = docs.size();
+		docs.add(issue);
+		docOf.put(issue, doc);
+		addField(doc, 0, issue.getSummary());
+		addNotes(issue, 0);
+	}
+
+	/**
+	 * Adds the notes of an issue from an index on, after notes were added to it
+	 *
+	 * @param issue Issue in the index
+	 * @param from  index of the first note that is not indexed yet
+	 */
+	public void addNotes(Issue issue, int from) {
+		Integer doc = docOf.get(issue);
+		if (doc == null) {
+			return;
+		}
+		ArrayList<String> notes = issue.getNotes();
+		for (int i = from; i < notes.size() && i < MAX_FIELD; i++) {
+			addField(doc, i + 1, noteText(notes.get(i)));
+		}
+	}
+
+	/**
+	 * Removes an issue from the index. Its postings are skipped by searches
+	 * until more than half of the documents are removed, when the index is
+	 * rebuilt from the issues that are left.
+	 *
+	 * @param issue Issue to remove
+	 */
+	public void remove(Issue issue) {
+		Integer doc = docOf.remove(issue);
+		if (doc == null) {
+			return;
+		}
+		removed.set(doc);
+		docs.set(doc, null);
+		if (removed.cardinality() * 2 > docs.size()) {
+			ArrayList<Issue> live = new ArrayList<Issue>(docOf.size());
+			for (int i = 0; i < docs.size(); i++) {
+				if (docs.get(i) != null) {
+					live.add(docs.get(i));
+				}
+			}
+			clear();
+			for (int i = 0; i < live.size(); i++) {
+				add(live.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Searches for issues that contain every part of a query. A part is a term,
+	 * or several words in double quotes for a phrase that must appear in that
+	 * order within the summary or one note. Case and punctuation are ignored.
+	 *
+	 * @param query text of the query, such as: crash "null owner"
+	 * @return issues ArrayList of the matching issues, sorted by ID, which is
+	 *         empty if the query has no terms
+	 */
+	public ArrayList<Issue> search(String query) {
+		BitSet matches = null;
+		String[] parts = query.split("\"", -1);
+		for (int i = 0; i < parts.length; i++) {
+			// Odd parts were inside quotes
+			List<List<String>> phrases = new ArrayList<List<String>>();
+			if (i % 2 == 1) {
+				phrases.add(tokenize(parts[i]));
+			} else {
+				for (String term : tokenize(parts[i])) {
+					phrases.add(Arrays.asList(term));
+				}
+			}
+			for (List<String> phrase : phrases) {
+				if (phrase.isEmpty()) {
+					continue;
+				}
+				BitSet docsWithPhrase = findPhrase(phrase);
+				if (matches == null) {
+					matches = docsWithPhrase;
+				} else {
+					matches.and(docsWithPhrase);
+				}
+			}
+		}
+		ArrayList<Issue> issues = new ArrayList<Issue>();
+		if (matches == null) {
+			return issues;
+		}
+		matches.andNot(removed);
+		for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+			issues.add(docs.get(doc));
+		}
+		issues.sort(Comparator.comparingInt(Issue::getIssueId));
+		return issues;
+	}
+
+	/**
+	 * Finds the documents that contain a phrase
+	 *
+	 * @param phrase terms of the phrase, in order
+	 * @return docs document numbers that contain the phrase
+	 */
+	private BitSet findPhrase(List<String> phrase) {
+		BitSet found = new BitSet();
+		Postings[] lists = new Postings[phrase.size()];
+		for (int i = 0; i < lists.length; i++) {
+			lists[i] = postings.get(phrase.get(i));
+			if (lists[i] == null) {
+				return found;
+			}
+			lists[i].sort();
+		}
+		if (lists.length == 1) {
+			for (int i = 0; i < lists[0].size; i++) {
+				found.set((int) (lists[0].places[i] >>> 32));
+			}
+			return found;
+		}
+		// Places where the phrase could start, narrowed by each later term
+		long[] starts = Arrays.copyOf(lists[0].places, lists[0].size);
+		int count = starts.length;
+		for (int i = 1; i < lists.length && count > 0; i++) {
+			count = retain(starts, count, lists[i], i);
+		}
+		for (int i = 0; i < count; i++) {
+			found.set((int) (starts[i] >>> 32));
+		}
+		return found;
+	}
+
+	/**
+	 * Keeps the phrase starts that are followed by a term at an offset. The
+	 * smaller of the two sorted lists is walked and the other is searched, so a
+	 * rare term narrows a common one in time close to the rare term's size.
+	 *
+	 * @param starts sorted phrase starts, which are narrowed in place
+	 * @param count  number of phrase starts
+	 * @param term   Postings of the term
+	 * @param offset position of the term in the phrase
+	 * @return count number of phrase starts kept
+	 */
+	private static int retain(long[] starts, int count, Postings term, int offset) {
+		int kept = 0;
+		if (count <= term.size) {
+			int from = 0;
+			for (int i = 0; i < count; i++) {
+				// A start too near the end of its field cannot fit the phrase
+				if ((starts[i] & MAX_POSITION) + offset > MAX_POSITION) {
+					continue;
+				}
+				from = Arrays.binarySearch(term.places, from, term.size, starts[i] + offset);
+				if (from >= 0) {
+					starts[kept++] = starts[i];
+				} else {
+					from = -(from + 1);
+				}
+			}
+		} else {
+			int from = 0;
+			long[] original = Arrays.copyOf(starts, count);
+			for (int i = 0; i < term.size; i++) {
+				long place = term.places[i];
+				// A term at the start of its field cannot continue a phrase
+				if ((place & MAX_POSITION) < offset) {
+					continue;
+				}
+				from = Arrays.binarySearch(original, from, count, place - offset);
+				if (from >= 0) {
+					starts[kept++] = place - offset;
+				} else {
+					from = -(from + 1);
+				}
+			}
+		}
+		return kept;
+	}
+
+	/**
+	 * Adds the tokens of one field of a document to the posting lists
+	 *
+	 * @param doc   document number
+	 * @param field field number
+	 * @param text  text of the field
+	 */
+	private void addField(int doc, int field, String text) {
+		List<String> tokens = tokenize(text);
+		for (int position = 0; position < tokens.size() && position <= MAX_POSITION; position++) {
+			long place = ((long) doc << 32) | ((long) field << 16) | position;
+			postings.computeIfAbsent(tokens.get(position), t -> new Postings()).add(place);
+		}
+	}
+
+	/**
+	 * Gets the text of a note without the state it was added in
+	 *
+	 * @param note note as stored in an Issue, such as "[New] text"
+	 * @return text the text after the state
+	 */
+	private static String noteText(String note) {
+		int end = note.startsWith("[") ? note.indexOf("] ") : -1;
+		return end < 0 ? note : note.substring(end + 2);
+	}
+
+	/**
+	 * Places where one term occurs. New places are appended, and the list is
+	 * sorted when it is searched if a note was added to an older document.
+	 *
+	 * @author yash
+	 *
+	 */
+	private static class Postings {
+
+		/** Places the term occurs */
+		private long[] places = new long[4];
+		/** Number of places */
+		private int size;
+		/** True if places are in ascending order */
+		private boolean sorted = true;
+
+		/**
+		 * Adds a place
+		 *
+		 * @param place place the term occurs
+		 */
+		void add(long place) {
+			if (size == places.length) {
+				places = Arrays.copyOf(places, size * 2);
+			}
+			if (size > 0 && place < places[size - 1]) {
+				sorted = false;
+			}
+			places[size++] = place;
+		}
+
+		/**
+		 * Sorts the places if they are out of order
+		 */
+		void sort() {
+			if (!sorted) {
+				Arrays.sort(places, 0, size);
+				sorted = true;
+			}
+		}
+	}
+}
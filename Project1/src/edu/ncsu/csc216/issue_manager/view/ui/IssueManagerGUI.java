@@ -10,6 +10,7 @@ import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
+import java.util.concurrent.CompletionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -27,9 +28,13 @@ import javax.swing.JTable;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.border.Border;
 import javax.swing.border.EtchedBorder;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.AbstractTableModel;
 
 import edu.ncsu.csc216.issue_manager.model.command.Command;
@@ -90,6 +95,10 @@ public class IssueManagerGUI extends JFrame implements ActionListener {
 	private static final String CLOSED_PANEL = "ClosedPanel";
 	/** Constant to identify CreateIssuePanel for CardLayout. */
 	private static final String CREATE_ISSUE_PANEL = "CreateIssuePanel";
+	/** Milliseconds after the last keystroke in the search field before searching */
+	private static final int SEARCH_DELAY = 150;
+	/** Largest number of issues shown for a search */
+	private static final int SEARCH_LIMIT = 100;
 	/** Issue List panel - we only need one instance, so it's final. */
 	private final IssueListPanel pnlIssueList = new IssueListPanel();
 	/** New panel - we only need one instance, so it's final. */
@@ -194,6 +203,8 @@ public class IssueManagerGUI extends JFrame implements ActionListener {
 			//Load an existing issue list
 			try {
 				model.loadIssuesFromFile(getFileName(true));
+				//Pick up records other programs append to the file while it is open
+				model.watchLoadedFile(() -> SwingUtilities.invokeLater(this::reloadAppendedIssues));
 				itemSaveIssueList.setEnabled(true);
 				pnlIssueList.updateTable(null);
 				cardLayout.show(panel, ISSUE_LIST_PANEL);
@@ -205,16 +216,21 @@ public class IssueManagerGUI extends JFrame implements ActionListener {
 				//Don't do anything - user canceled (or error)
 			}
 		} else if (e.getSource() == itemSaveIssueList) {
-			//Save current issue list
+			//Save current issue list on a background thread so the window stays responsive
 			try {
-				model.saveIssuesToFile(getFileName(false));
+				model.saveIssuesToFileAsync(getFileName(false)).whenComplete((result, exp) -> {
+					if (exp != null) {
+						Throwable cause = exp instanceof CompletionException ? exp.getCause() : exp;
+						SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(this, cause.getMessage()));
+					}
+				});
 			} catch (IllegalArgumentException exp) {
 				JOptionPane.showMessageDialog(this, exp.getMessage());
 			} catch (IllegalStateException exp) {
 				//Don't do anything - user canceled (or error)
 			}
 		} else if (e.getSource() == itemQuit) {
-			//Quit the program
+			//Quit the program, waiting for any background save to finish
 			try {
 				model.saveIssuesToFile(getFileName(false));
 				System.exit(0);  //Ignore SpotBugs warning here - this is the only place to quit the program!
@@ -226,6 +242,22 @@ public class IssueManagerGUI extends JFrame implements ActionListener {
 		}
 	}
 	
+	/**
+	 * Merges the records appended to the loaded file into the list and shows
+	 * them. Runs on the event dispatch thread after the file changes.
+	 */
+	private void reloadAppendedIssues() {
+		try {
+			if (IssueManager.getInstance().reloadAppendedIssues() > 0) {
+				pnlIssueList.updateTable(null);
+				validate();
+				repaint();
+			}
+		} catch (IllegalArgumentException exp) {
+			JOptionPane.showMessageDialog(this, exp.getMessage());
+		}
+	}
+	
 	/**
 	 * Returns a file name generated through interactions with a JFileChooser
 	 * object.
@@ -235,6 +267,7 @@ public class IssueManagerGUI extends JFrame implements ActionListener {
 	 */
 	private String getFileName(boolean load) {
 		JFileChooser fc = new JFileChooser("./");  //Open JFileChoose to current working directory
+		fc.setFileSelectionMode(JFileChooser.FILES_AND_DIRECTORIES);  //Directories hold sharded issue lists
 		int returnVal = Integer.MIN_VALUE;
 		if (load) {
 			returnVal = fc.showOpenDialog(this);
@@ -278,6 +311,10 @@ public class IssueManagerGUI extends JFrame implements ActionListener {
 		private JButton btnFilterByEnhancement;
 		/** Button that will show all issues that are currently managed */
 		private JButton btnShowAllIssues;
+		/** Text field for searching the summaries of the issues as the user types */
+		private JTextField txtSearch;
+		/** Timer that searches once the user has stopped typing for SEARCH_DELAY */
+		private Timer searchTimer;
 		/** JTable for displaying the list of issues */
 		private JTable issuesTable;
 		/** TableModel for Issues */
@@ -289,6 +326,30 @@ public class IssueManagerGUI extends JFrame implements ActionListener {
 		public IssueListPanel() {
 			super(new BorderLayout());
 			
+			//Set up the search field, which only searches after a pause in typing
+			txtSearch = new JTextField(30);
+			searchTimer = new Timer(SEARCH_DELAY, e -> searchSummaries());
+			searchTimer.setRepeats(false);
+			txtSearch.getDocument().addDocumentListener(new DocumentListener() {
+				@Override
+				public void insertUpdate(DocumentEvent e) {
+					searchTimer.restart();
+				}
+
+				@Override
+				public void removeUpdate(DocumentEvent e) {
+					searchTimer.restart();
+				}
+
+				@Override
+				public void changedUpdate(DocumentEvent e) {
+					searchTimer.restart();
+				}
+			});
+			JPanel pnlSearch = new JPanel();
+			pnlSearch.add(new JLabel("Search Summaries: "));
+			pnlSearch.add(txtSearch);
+			
 			//Set up the JPanel that will hold action buttons
 			btnShowAllIssues = new JButton("Show All Issues");
 			btnShowAllIssues.addActionListener(this);
@@ -324,9 +385,26 @@ public class IssueManagerGUI extends JFrame implements ActionListener {
 			
 			JScrollPane listScrollPane = new JScrollPane(issuesTable);
 			
-			add(pnlActions, BorderLayout.NORTH);
+			JPanel pnlNorth = new JPanel(new BorderLayout());
+			pnlNorth.add(pnlActions, BorderLayout.CENTER);
+			pnlNorth.add(pnlSearch, BorderLayout.SOUTH);
+			add(pnlNorth, BorderLayout.NORTH);
 			add(listScrollPane, BorderLayout.CENTER);
 		}
+		
+		/**
+		 * Shows the issues whose summaries match the search field, or every issue
+		 * if the field is blank.
+		 */
+		private void searchSummaries() {
+			String query = txtSearch.getText();
+			if (query.trim().isEmpty()) {
+				issueTableModel.updateIssueData();
+			} else {
+				issueTableModel.updateIssueDataByPrefix(query);
+			}
+			issueTableModel.fireTableDataChanged();
+		}
 
 		/**
 		 * Performs an action based on the given ActionEvent.
@@ -484,6 +562,16 @@ public class IssueManagerGUI extends JFrame implements ActionListener {
 				data = m.getIssueListAsArray();
 			}
 			
+			/**
+			 * Updates the given model with the first SEARCH_LIMIT Issues whose
+			 * summaries match a search from the IssueManager.
+			 * @param query words typed in the search field.
+			 */
+			private void updateIssueDataByPrefix(String query) {
+				IssueManager m = IssueManager.getInstance();
+				data = m.getIssueListAsArrayByPrefix(query, SEARCH_LIMIT);
+			}
+			
 			/**
 			 * Updates the given model with Issue information for the 
 			 * given issue type from the IssueManager.
@@ -0,0 +1,145 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Tests the IssueBinaryFormat class
+ * @author yash
+ *
+ */
+class IssueBinaryFormatTest {
+
+	/**
+	 * Tests that Issues written in the binary format read back the same
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testRoundTrip() throws IOException {
+		File file = File.createTempFile("issues", IssueBinaryFormat.EXTENSION);
+		file.deleteOnExit();
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		ArrayList<String> notes = new ArrayList<String>();
+		notes.add("Caf\u00e9 note\nwith two lines");
+		issueList.add(new Issue(20, "New", "Bug", "Summary", "", false, null, notes));
+		IssueWriter.writeIssuesToFile(file.getPath(), issueList);
+
+		assertTrue(IssueReader.isBinaryFile(file.getPath()));
+		ArrayList<Issue> readList = IssueReader.readIssuesFromFile(file.getPath());
+		assertEquals(issueList.size(), readList.size());
+		for (int i = 0; i < issueList.size(); i++) {
+			assertEquals(issueList.get(i).toString(), readList.get(i).toString());
+		}
+		assertEquals(readList.size(), IssueReader.readIssuesFromBinaryFile(file.getPath()).size());
+	}
+
+	/**
+	 * Tests that a binary snapshot reads back the same
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testSnapshot() throws IOException {
+		File file = File.createTempFile("snapshot", IssueBinaryFormat.EXTENSION);
+		file.deleteOnExit();
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		IssueWriter.writeSnapshotToFile(file.getPath(), issueList);
+
+		ArrayList<Issue> readList = IssueReader.readIssuesFromFile(file.getPath());
+		assertEquals(issueList.size(), readList.size());
+		assertEquals(issueList.get(0).toString(), readList.get(0).toString());
+	}
+
+	/**
+	 * Tests writeVarint() and readVarint() at the edges of each byte length
+	 * 
+	 * @throws IOException if the stream cannot be read
+	 */
+	@Test
+	void testVarint() throws IOException {
+		int[] values = { 0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE };
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		for (int value : values) {
+			IssueBinaryFormat.writeVarint(out, value);
+		}
+		assertEquals(1 + 1 + 1 + 2 + 2 + 3 + 5, bytes.size());
+
+		IssueBinaryFormat.Decoder in = new IssueBinaryFormat.Decoder(bytes.toByteArray(), 0, bytes.size());
+		for (int value : values) {
+			assertEquals(value, in.readVarint());
+		}
+	}
+
+	/**
+	 * Tests that files that are not binary issue files are rejected
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testInvalidFiles() throws IOException {
+		assertFalse(IssueReader.isBinaryFile("test-files/issue1.txt"));
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> IssueReader.readIssuesFromBinaryFile("test-files/issue1.txt"));
+		assertEquals("Unable to load file.", e.getMessage());
+
+		File file = File.createTempFile("version", IssueBinaryFormat.EXTENSION);
+		file.deleteOnExit();
+		try (FileOutputStream out = new FileOutputStream(file)) {
+			out.write(IssueBinaryFormat.MAGIC);
+			out.write(IssueBinaryFormat.VERSION + 1);
+			out.write(0);
+		}
+		e = assertThrows(IllegalArgumentException.class, () -> IssueReader.readIssuesFromFile(file.getPath()));
+		assertEquals("Unable to load file.", e.getMessage());
+
+		// Records the text format would reject: an ID of 0, an empty summary, and
+		// a confirmed Enhancement
+		int[][] records = { { 0, 1, 0 }, { 1, 1, 0 }, { 1, 0, 1 } };
+		String[] summaries = { "Summary", "", "Summary" };
+		for (int i = 0; i < records.length; i++) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.write(IssueBinaryFormat.MAGIC);
+			IssueBinaryFormat.writeVarint(out, IssueBinaryFormat.VERSION);
+			IssueBinaryFormat.writeVarint(out, 1);
+			IssueBinaryFormat.writeVarint(out, records[i][0]);
+			out.writeByte(0);
+			out.writeByte(records[i][1]);
+			out.writeByte(0);
+			out.writeBoolean(records[i][2] == 1);
+			IssueBinaryFormat.writeVarint(out, summaries[i].length() + 1);
+			out.writeBytes(summaries[i]);
+			IssueBinaryFormat.writeVarint(out, 0);
+			IssueBinaryFormat.writeVarint(out, 0);
+			Files.write(file.toPath(), bytes.toByteArray());
+			e = assertThrows(IllegalArgumentException.class, () -> IssueReader.readIssuesFromFile(file.getPath()));
+			assertEquals("Unable to load file.", e.getMessage());
+		}
+
+		// A file cut off in the middle of an Issue
+		File cut = File.createTempFile("cut", IssueBinaryFormat.EXTENSION);
+		cut.deleteOnExit();
+		IssueWriter.writeIssuesToFile(cut.getPath(), IssueReader.readIssuesFromFile("test-files/issue1.txt"));
+		byte[] bytes = Files.readAllBytes(cut.toPath());
+		Files.write(cut.toPath(), Arrays.copyOf(bytes, bytes.length - 5));
+		e = assertThrows(IllegalArgumentException.class, () -> IssueReader.readIssuesFromFile(cut.getPath()));
+		assertEquals("Unable to load file.", e.getMessage());
+	}
+}
@@ -0,0 +1,45 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the IssueChecksum class
+ * @author yash
+ *
+ */
+class IssueChecksumTest {
+
+	/**
+	 * Tests that a trailer holds the CRC32C of its record and reads back
+	 */
+	@Test
+	void testTrailer() {
+		// CRC32C of "123456789" is the standard check value e3069283
+		byte[] record = "123456789".getBytes(StandardCharsets.US_ASCII);
+		byte[] trailer = IssueChecksum.trailer(record);
+		assertEquals("#e3069283\n", new String(trailer, StandardCharsets.US_ASCII));
+		assertEquals(0xe3069283L, IssueChecksum.parseTrailer(trailer, IssueChecksum.TRAILER_LENGTH));
+		assertTrue(IssueChecksum.isTrailer("#e3069283"));
+	}
+
+	/**
+	 * Tests that lines that are not trailers are told apart from trailers
+	 */
+	@Test
+	void testNotTrailer() {
+		assertFalse(IssueChecksum.isTrailer("#e306928"));
+		assertFalse(IssueChecksum.isTrailer("#e306928g"));
+		assertFalse(IssueChecksum.isTrailer("-e3069283"));
+		byte[] line = "#hashtag!".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(-1, IssueChecksum.parseTrailer(line, line.length));
+		assertTrue(IssueChecksum.isFileMarker(IssueChecksum.FILE_MARKER));
+		assertTrue(IssueChecksum.isFileMarker(IssueChecksum.FILE_MARKER_LINE, IssueChecksum.FILE_MARKER.length()));
+		assertFalse(IssueChecksum.isFileMarker("#crc32"));
+	}
+}
@@ -0,0 +1,67 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Benchmark comparing plain and GZIP compressed issue files. Saves and loads
+ * the same list in both forms and prints the file sizes and times. Run it as a
+ * Java application rather than as a JUnit test.
+ *
+ * @author yash
+ *
+ */
+public class IssueCompressionBenchmark {
+
+	/** Number of issues written to the benchmark files */
+	private static final int ISSUES = 200000;
+	/** Number of times each file is saved and loaded */
+	private static final int ROUNDS = 5;
+
+	/**
+	 * Runs the benchmark
+	 *
+	 * @param args optional number of issues to write
+	 * @throws IOException if the temporary files cannot be created
+	 */
+	public static void main(String[] args) throws IOException {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : ISSUES;
+		File plain = File.createTempFile("issues", ".txt");
+		plain.deleteOnExit();
+		File compressed = File.createTempFile("issues", ".txt" + IssueCompression.EXTENSION);
+		compressed.deleteOnExit();
+
+		ArrayList<Issue> issues = new ArrayList<Issue>();
+		for (int i = 1; i <= count; i++) {
+			issues.add(new Issue(i, i % 2 == 0 ? IssueType.BUG : IssueType.ENHANCEMENT, "Summary of issue " + i,
+					"Note for issue " + i + " that goes on for a while to look like a real note"));
+		}
+
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			IssueWriter.writeIssuesToFile(plain.getPath(), issues);
+			long plainSave = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			IssueWriter.writeIssuesToFile(compressed.getPath(), issues);
+			long compressedSave = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			int plainCount = IssueReader.readIssuesFromFile(plain.getPath()).size();
+			long plainLoad = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			int compressedCount = IssueReader.readIssuesFromFile(compressed.getPath()).size();
+			long compressedLoad = System.nanoTime() - start;
+
+			System.out.printf("round %d: plain %,d bytes save %5d ms load %5d ms (%d issues), "
+					+ "gzip %,d bytes save %5d ms load %5d ms (%d issues)%n", round, plain.length(),
+					plainSave / 1000000, plainLoad / 1000000, plainCount, compressed.length(),
+					compressedSave / 1000000, compressedLoad / 1000000, compressedCount);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Tests the IssueCompression class
+ * @author yash
+ *
+ */
+class IssueCompressionTest {
+
+	/**
+	 * Tests that text and binary files saved with a compressed name are
+	 * compressed and read back the same
+	 * 
+	 * @throws IOException if the temporary files cannot be created
+	 */
+	@Test
+	void testRoundTrip() throws IOException {
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		for (String extension : new String[] { ".txt.gz", ".bin.gz" }) {
+			File file = File.createTempFile("issues", extension);
+			file.deleteOnExit();
+			IssueWriter.writeIssuesToFile(file.getPath(), issueList);
+
+			assertTrue(IssueReader.isCompressedFile(file.getPath()));
+			assertEquals(".bin.gz".equals(extension), IssueReader.isBinaryFile(file.getPath()));
+			ArrayList<Issue> readList = IssueReader.readIssuesFromFile(file.getPath());
+			assertEquals(issueList.size(), readList.size());
+			for (int i = 0; i < issueList.size(); i++) {
+				assertEquals(issueList.get(i).toString(), readList.get(i).toString());
+			}
+		}
+	}
+
+	/**
+	 * Tests that compressed files are detected by content rather than by name
+	 * 
+	 * @throws IOException if the temporary files cannot be created
+	 */
+	@Test
+	void testDetection() throws IOException {
+		assertFalse(IssueReader.isCompressedFile("test-files/issue1.txt"));
+
+		File compressed = File.createTempFile("issues", ".gz");
+		compressed.deleteOnExit();
+		IssueWriter.writeSnapshotToFile(compressed.getPath(), IssueReader.readIssuesFromFile("test-files/issue1.txt"));
+		File renamed = File.createTempFile("issues", ".txt");
+		renamed.deleteOnExit();
+		Files.copy(compressed.toPath(), renamed.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		assertTrue(IssueReader.isCompressedFile(renamed.getPath()));
+		assertEquals(5, IssueReader.readIssuesFromFile(renamed.getPath()).size());
+		try (Stream<Issue> issues = IssueReader.stream(renamed.getPath())) {
+			assertEquals(5, issues.count());
+		}
+	}
+
+	/**
+	 * Tests that compressed files cannot be indexed
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testIndexRejected() throws IOException {
+		File file = File.createTempFile("issues", ".gz");
+		file.deleteOnExit();
+		Exception e = assertThrows(IllegalArgumentException.class, () -> IssueWriter
+				.writeIssuesToFile(file.getPath(), IssueReader.readIssuesFromFile("test-files/issue1.txt"), true));
+		assertEquals("Unable to save file.", e.getMessage());
+	}
+}
@@ -0,0 +1,54 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the IssueFileIndex class
+ * @author yash
+ *
+ */
+class IssueFileIndexTest {
+
+	/**
+	 * Tests that entries added out of order are written sorted by ID and can be
+	 * searched
+	 * 
+	 * @throws IOException if the temporary files cannot be created
+	 */
+	@Test
+	void testWriteAndSearch() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		File indexFile = new File(IssueFileIndex.getIndexFileName(file.getPath()));
+		indexFile.deleteOnExit();
+
+		IssueFileIndex index = new IssueFileIndex(1);
+		index.add(9, 40, 10);
+		index.add(2, 0, 20);
+		index.add(5, 20, 20);
+		index.write(file.getPath(), 50);
+
+		try (RandomAccessFile in = new RandomAccessFile(indexFile, "r")) {
+			assertEquals(3, IssueFileIndex.readHeader(in, 50));
+			assertEquals(0, IssueFileIndex.search(in, 3, 1));
+			assertEquals(1, IssueFileIndex.search(in, 3, 5));
+			assertEquals(2, IssueFileIndex.search(in, 3, 6));
+			assertEquals(3, IssueFileIndex.search(in, 3, 10));
+
+			in.seek(IssueFileIndex.HEADER_SIZE + IssueFileIndex.ENTRY_SIZE);
+			assertEquals(5, in.readInt());
+			assertEquals(20, in.readLong());
+			assertEquals(20, in.readInt());
+
+			Exception e = assertThrows(IllegalArgumentException.class, () -> IssueFileIndex.readHeader(in, 51));
+			assertEquals("Issue file index is out of date.", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Tests the IssueFileTail class
+ * @author yash
+ *
+ */
+class IssueFileTailTest {
+
+	/** File the records are appended to */
+	private Path file;
+
+	/**
+	 * Creates a file holding one record
+	 * 
+	 * @throws IOException if the file cannot be written
+	 */
+	@BeforeEach
+	void setUp() throws IOException {
+		file = Files.createTempFile("tail", ".txt");
+		write("*1,New,Bug,First,,false,\n-[New] Note 1\n", StandardOpenOption.TRUNCATE_EXISTING);
+	}
+
+	/**
+	 * Deletes the file
+	 * 
+	 * @throws IOException if the file cannot be deleted
+	 */
+	@AfterEach
+	void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	/**
+	 * Tests that only whole records appended since the last read are read
+	 * 
+	 * @throws IOException if the file cannot be written
+	 */
+	@Test
+	void testReadAppended() throws IOException {
+		IssueFileTail tail = new IssueFileTail(file.toString());
+		assertTrue(tail.follows(file.toString()));
+		assertEquals(0, tail.readAppended().size());
+
+		write("*2,New,Bug,Second,,false,\n-[New] Note", StandardOpenOption.APPEND);
+		// The note line is not finished yet
+		assertEquals(0, tail.readAppended().size());
+
+		write(" 2\n", StandardOpenOption.APPEND);
+		ArrayList<Issue> issues = tail.readAppended();
+		assertEquals(1, issues.size());
+		assertEquals("-[New] Note 2\n", issues.get(0).getNotesString());
+
+		write("-[New] Note 3\n*3,New,Bug,Third,,false,\n", StandardOpenOption.APPEND);
+		issues = tail.readAppended();
+		assertEquals(1, issues.size());
+		assertEquals(2, issues.get(0).getIssueId());
+		assertEquals(2, issues.get(0).getNotes().size());
+
+		write("-[New] Note 4\n", StandardOpenOption.APPEND);
+		issues = tail.readAppended();
+		assertEquals(1, issues.size());
+		assertEquals(3, issues.get(0).getIssueId());
+	}
+
+	/**
+	 * Tests that a shortened file has to be read again from the start
+	 * 
+	 * @throws IOException if the file cannot be written
+	 */
+	@Test
+	void testReadAppendedShortened() throws IOException {
+		IssueFileTail tail = new IssueFileTail(file.toString());
+		write("*1,New,Bug,A,,false,\n-[New] B\n", StandardOpenOption.TRUNCATE_EXISTING);
+		assertNull(tail.readAppended());
+
+		tail.reset();
+		assertEquals(0, tail.readAppended().size());
+	}
+
+	/**
+	 * Appends text to the file
+	 * 
+	 * @param text   text to write
+	 * @param option how the file is opened
+	 * @throws IOException if the file cannot be written
+	 */
+	private void write(String text, StandardOpenOption option) throws IOException {
+		Files.write(file, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.WRITE, option);
+	}
+}
@@ -0,0 +1,42 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the IssueFileWatcher class
+ * @author yash
+ *
+ */
+class IssueFileWatcherTest {
+
+	/**
+	 * Tests that appending to the watched file runs the callback
+	 * 
+	 * @throws IOException          if the file cannot be written
+	 * @throws InterruptedException if the test is interrupted
+	 */
+	@Test
+	void testWatch() throws IOException, InterruptedException {
+		Path file = Files.createTempFile("watched", ".txt");
+		CountDownLatch changed = new CountDownLatch(1);
+		IssueFileWatcher watcher = new IssueFileWatcher(file.toString(), changed::countDown);
+		try {
+			Files.write(file, "*1,New,Bug,First,,false,\n-[New] Note 1\n".getBytes(StandardCharsets.UTF_8),
+					StandardOpenOption.APPEND);
+			assertTrue(changed.await(30, TimeUnit.SECONDS));
+		} finally {
+			watcher.close();
+			Files.deleteIfExists(file);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.io.IssueMerger.DuplicatePolicy;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Tests the IssueMerger class
+ * @author yash
+ *
+ */
+class IssueMergerTest {
+
+	/** First source to merge */
+	private List<Issue> first = Arrays.asList(issue(1), issue(4), issue(9));
+	/** Second source to merge, sharing ID 4 with the first */
+	private List<Issue> second = Arrays.asList(issue(2), issue(4), issue(5));
+	/** Third source to merge */
+	private List<Issue> third = Arrays.asList(issue(3), issue(10));
+
+	/**
+	 * Tests that merged Issues are sorted by ID and duplicates keep the first
+	 */
+	@Test
+	void testMergeKeepFirst() {
+		ArrayList<Issue> merged = IssueMerger.merge(sources(first, second, third), DuplicatePolicy.KEEP_FIRST);
+		assertEquals(7, merged.size());
+		int[] ids = { 1, 2, 3, 4, 5, 9, 10 };
+		for (int i = 0; i < ids.length; i++) {
+			assertEquals(ids[i], merged.get(i).getIssueId());
+		}
+		assertSame(first.get(1), merged.get(3));
+	}
+
+	/**
+	 * Tests that duplicates keep the Issue from the latest source
+	 */
+	@Test
+	void testMergeKeepLast() {
+		ArrayList<Issue> merged = IssueMerger.merge(sources(first, second, third), DuplicatePolicy.KEEP_LAST);
+		assertEquals(7, merged.size());
+		assertSame(second.get(1), merged.get(3));
+	}
+
+	/**
+	 * Tests that duplicates and unsorted sources fail the merge
+	 */
+	@Test
+	void testMergeInvalid() {
+		assertThrows(IllegalArgumentException.class,
+				() -> IssueMerger.merge(sources(first, second), DuplicatePolicy.REJECT));
+		assertEquals(5, IssueMerger.merge(sources(first, third), DuplicatePolicy.REJECT).size());
+
+		List<Issue> unsorted = Arrays.asList(issue(6), issue(2));
+		assertThrows(IllegalArgumentException.class,
+				() -> IssueMerger.merge(sources(first, unsorted), DuplicatePolicy.KEEP_FIRST));
+		assertEquals(0, IssueMerger.merge(sources(), DuplicatePolicy.KEEP_FIRST).size());
+	}
+
+	/**
+	 * Creates an Issue
+	 * 
+	 * @param id ID of the Issue
+	 * @return issue a new Issue with the ID
+	 */
+	private static Issue issue(int id) {
+		return new Issue(id, IssueType.BUG, "Summary " + id, "Note");
+	}
+
+	/**
+	 * Creates the sources of a merge
+	 * 
+	 * @param lists Issues of each source
+	 * @return sources Iterators over the lists
+	 */
+	@SafeVarargs
+	private static List<Iterator<Issue>> sources(List<Issue>... lists) {
+		List<Iterator<Issue>> sources = new ArrayList<Iterator<Issue>>();
+		for (List<Issue> list : lists) {
+			sources.add(list.iterator());
+		}
+		return sources;
+	}
+}
@@ -0,0 +1,74 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Benchmark comparing the buffered stream reader with the memory mapped and
+ * parallel readers, and loading the text format with loading the binary
+ * format. Writes the same issues to a temporary text file and binary file and
+ * prints the time each reader takes to load them. Run it as a Java application
+ * rather than as a JUnit test.
+ *
+ * @author yash
+ *
+ */
+public class IssueReaderBenchmark {
+
+	/** Number of issues written to the benchmark file */
+	private static final int ISSUES = 200000;
+	/** Number of times each reader loads the file */
+	private static final int ROUNDS = 5;
+
+	/**
+	 * Runs the benchmark
+	 *
+	 * @param args optional number of issues to write
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	public static void main(String[] args) throws IOException {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : ISSUES;
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		File binary = File.createTempFile("issues", IssueBinaryFormat.EXTENSION);
+		binary.deleteOnExit();
+
+		ArrayList<Issue> issues = new ArrayList<Issue>();
+		for (int i = 1; i <= count; i++) {
+			issues.add(new Issue(i, i % 2 == 0 ? IssueType.BUG : IssueType.ENHANCEMENT, "Summary of issue " + i,
+					"Note for issue " + i + " that goes on for a while to look like a real note"));
+		}
+		IssueWriter.writeIssuesToFile(file.getPath(), issues);
+		IssueWriter.writeIssuesToFile(binary.getPath(), issues);
+		issues = null;
+		System.out.printf("%d issues, %,d bytes of text, %,d bytes of binary%n", count, file.length(),
+				binary.length());
+
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			int streamed = IssueReader.readIssuesFromFile(file.getPath()).size();
+			long streamTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			int mapped = IssueReader.readIssuesFromMappedFile(file.getPath()).size();
+			long mapTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			int parallel = IssueReader.readIssuesInParallel(file.getPath()).size();
+			long parallelTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			int decoded = IssueReader.readIssuesFromBinaryFile(binary.getPath()).size();
+			long binaryTime = System.nanoTime() - start;
+
+			System.out.printf("round %d: stream %6d ms (%d issues), mapped %6d ms (%d issues), parallel %6d ms (%d issues)%n",
+					round, streamTime / 1000000, streamed, mapTime / 1000000, mapped, parallelTime / 1000000, parallel);
+			System.out.printf("         binary %6d ms (%d issues), %.1fx faster than stream%n", binaryTime / 1000000,
+					decoded, (double) streamTime / binaryTime);
+		}
+	}
+}
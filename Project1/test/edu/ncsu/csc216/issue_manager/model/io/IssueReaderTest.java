@@ -2,9 +2,14 @@ package edu.ncsu.csc216.issue_manager.model.io;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import java.util.ArrayList;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -62,4 +67,153 @@ class IssueReaderTest {
 
 	}
 
+	/**
+	 * Test readIssuesFromFile() method with a file whose ids are out of order and
+	 * whose lines end in carriage returns
+	 */
+	@Test
+	void testReadIssuesFromFileOutOfOrder() {
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromFile("test-files/issue2.txt");
+
+		assertEquals(6, issueList.size());
+		assertEquals(validIssue5, issueList.get(0).toString());
+		assertEquals(validIssue2, issueList.get(5).toString());
+	}
+
+	/**
+	 * Test stream() method parses the issues lazily and can stop early
+	 */
+	@Test
+	void testStream() {
+		try (Stream<Issue> issues = IssueReader.stream(validTestFile)) {
+			assertEquals(3, issues.filter(i -> Issue.I_ENHANCEMENT.equals(i.getIssueType())).count());
+		}
+		try (Stream<Issue> issues = IssueReader.stream(validTestFile)) {
+			assertEquals(validIssue2, issues.filter(i -> i.isConfirmed()).findFirst().get().toString());
+		}
+		try (Stream<Issue> issues = IssueReader.stream("test-files/issue3.txt")) {
+			assertThrows(IllegalArgumentException.class, () -> issues.count());
+		}
+		assertThrows(IllegalArgumentException.class, () -> IssueReader.stream("test-files/issue7.txt"));
+	}
+
+	/**
+	 * Test readIssuesFromMappedFile() method reads the same issues as
+	 * readIssuesFromFile()
+	 */
+	@Test
+	void testReadIssuesFromMappedFile() {
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromMappedFile(validTestFile);
+
+		assertEquals(5, issueList.size());
+		assertEquals(validIssue1, issueList.get(0).toString());
+		assertEquals(validIssue5, issueList.get(4).toString());
+
+		ArrayList<Issue> streamed = IssueReader.readIssuesFromFile("test-files/issue2.txt");
+		ArrayList<Issue> mapped = IssueReader.readIssuesFromMappedFile("test-files/issue2.txt");
+		assertEquals(streamed.size(), mapped.size());
+		for (int i = 0; i < streamed.size(); i++) {
+			assertEquals(streamed.get(i).toString(), mapped.get(i).toString());
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> IssueReader.readIssuesFromMappedFile("test-files/issue7.txt"));
+	}
+
+	/**
+	 * Test readIssuesInParallel() method returns the issues in ID order when the
+	 * file is split at every record
+	 */
+	@Test
+	void testReadIssuesInParallel() {
+		ArrayList<Issue> issueList = IssueReader.readIssuesInParallel("test-files/issue2.txt", 1);
+
+		assertEquals(6, issueList.size());
+		assertEquals(1, issueList.get(0).getIssueId());
+		assertEquals(validIssue2, issueList.get(1).toString());
+		assertEquals(7, issueList.get(2).getIssueId());
+		assertEquals(14, issueList.get(3).getIssueId());
+		assertEquals(validIssue5, issueList.get(4).toString());
+		assertEquals("Working", issueList.get(5).getStateName());
+
+		issueList = IssueReader.readIssuesInParallel(validTestFile);
+		assertEquals(5, issueList.size());
+		assertEquals(validIssue1, issueList.get(0).toString());
+	}
+
+	/**
+	 * Test readIssuesInParallel() method names the first invalid record in the file
+	 *
+	 * @throws IOException if the temporary file cannot be written
+	 */
+	@Test
+	void testReadIssuesInParallelInvalid() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		Files.write(file.toPath(), ("*1,New,Bug,Summary,,false,\n-[New] Note\n"
+				+ "*2,New,Bug,,,false,\n-[New] Note\n"
+				+ "*3,New,Bug,Summary,,false,\n-[New] Note\n"
+				+ "*4,New,Bug,Summary,,maybe,\n-[New] Note\n").getBytes(StandardCharsets.UTF_8));
+
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> IssueReader.readIssuesInParallel(file.getPath(), 1));
+		assertEquals("Invalid issue record: *2,New,Bug,,,false,", e.getMessage());
+
+		assertThrows(IllegalArgumentException.class, () -> IssueReader.readIssuesInParallel("test-files/issue7.txt"));
+	}
+
+	/**
+	 * Test readIssueById() and readIssuesInRange() methods on indexed text and
+	 * binary files
+	 * 
+	 * @throws IOException if the temporary files cannot be created
+	 */
+	@Test
+	void testReadIndexed() throws IOException {
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromFile(validTestFile);
+		ArrayList<String> notes = new ArrayList<String>();
+		notes.add("Note with \u00e9 and \ud83d\ude00");
+		issueList.add(2, new Issue(5, "New", "Bug", "Summary", "", false, null, notes));
+		for (String extension : new String[] { ".txt", IssueBinaryFormat.EXTENSION }) {
+			File file = File.createTempFile("indexed", extension);
+			file.deleteOnExit();
+			new File(IssueFileIndex.getIndexFileName(file.getPath())).deleteOnExit();
+			IssueWriter.writeIssuesToFile(file.getPath(), issueList, true);
+
+			assertEquals(issueList.get(3).toString(), IssueReader.readIssueById(file.getPath(), 7).toString());
+			assertEquals(issueList.get(2).toString(), IssueReader.readIssueById(file.getPath(), 5).toString());
+			assertNull(IssueReader.readIssueById(file.getPath(), 4));
+
+			ArrayList<Issue> range = IssueReader.readIssuesInRange(file.getPath(), 2, 14);
+			assertEquals(4, range.size());
+			assertEquals(3, range.get(0).getIssueId());
+			assertEquals(14, range.get(3).getIssueId());
+			assertEquals(issueList.get(1).toString(), range.get(0).toString());
+			assertTrue(IssueReader.readIssuesInRange(file.getPath(), 100, 200).isEmpty());
+
+			// Rewriting the file without its index leaves the index out of date
+			IssueWriter.writeIssuesToFile(file.getPath(), issueList.subList(0, 2));
+			Exception e = assertThrows(IllegalArgumentException.class,
+					() -> IssueReader.readIssueById(file.getPath(), 1));
+			assertEquals("Issue file index is out of date.", e.getMessage());
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> IssueReader.readIssueById(validTestFile, 1));
+	}
+
+	/**
+	 * Test readIssuesFromFile() method with invalid files
+	 */
+	@Test
+	void testReadIssuesFromFileInvalid() {
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> IssueReader.readIssuesFromFile("test-files/issue7.txt"));
+		assertEquals("Unable to load file.", e.getMessage());
+
+		e = assertThrows(IllegalArgumentException.class,
+				() -> IssueReader.readIssuesFromFile("test-files/issue3.txt"));
+		assertEquals("Invalid issue record: *3,,Bug,Issue description,owner,true,", e.getMessage());
+
+		assertThrows(IllegalArgumentException.class, () -> IssueReader.readIssuesFromFile("test-files/issue16.txt"));
+	}
+
 }
@@ -0,0 +1,70 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Tests the IssueRecordBuffer class
+ * @author yash
+ *
+ */
+class IssueRecordBufferTest {
+
+	/**
+	 * Tests that text records are encoded to the same UTF-8 bytes as
+	 * String.getBytes(), including characters outside of ASCII and surrogates
+	 *
+	 * @throws IOException if an Issue cannot be encoded
+	 */
+	@Test
+	void testEncodeText() throws IOException {
+		IssueRecordBuffer buffer = new IssueRecordBuffer();
+		String summary = "Caf\u00e9 \u20ac \ud83d\udc1b " + "x".repeat(500);
+		Issue issue = new Issue(2, Issue.WORKING_NAME, Issue.I_BUG, summary, "own\u00e9r", true, null,
+				new ArrayList<String>(Arrays.asList("[Working] lone \ud83d", "[Working] lone \udc1b")));
+
+		buffer.encode(issue, false);
+		byte[] expected = (issue.toString() + "\n").getBytes(StandardCharsets.UTF_8);
+		assertArrayEquals(expected, buffer.toByteArray());
+		assertEquals(expected.length, buffer.getLength());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		buffer.writeTo(out);
+		assertArrayEquals(expected, out.toByteArray());
+
+		// A shorter record reuses the same array
+		byte[] bytes = buffer.getBytes();
+		buffer.encode(IssueReader.readIssuesFromFile("test-files/issue1.txt").get(0), false);
+		assertSame(bytes, buffer.getBytes());
+	}
+
+	/**
+	 * Tests that a cached record is read in place of the buffer until the next
+	 * Issue is encoded
+	 *
+	 * @throws IOException if an Issue cannot be encoded
+	 */
+	@Test
+	void testSetRecord() throws IOException {
+		IssueRecordBuffer buffer = new IssueRecordBuffer();
+		byte[] record = "*1\n".getBytes(StandardCharsets.US_ASCII);
+		buffer.setRecord(record);
+		assertSame(record, buffer.getBytes());
+		assertEquals(3, buffer.getLength());
+
+		Issue issue = IssueReader.readIssuesFromFile("test-files/issue1.txt").get(0);
+		buffer.encode(issue, false);
+		assertArrayEquals((issue.toString() + "\n").getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+	}
+}
@@ -0,0 +1,112 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Tests the IssueRecordCache class
+ * @author yash
+ *
+ */
+class IssueRecordCacheTest {
+
+	/**
+	 * Tests that a record is only encoded again after its Issue is updated or it
+	 * is needed in the other format
+	 *
+	 * @throws IOException if an Issue cannot be encoded
+	 */
+	@Test
+	void testLoadRecord() throws IOException {
+		IssueRecordCache cache = new IssueRecordCache();
+		IssueRecordBuffer buffer = new IssueRecordBuffer();
+		ArrayList<Issue> issues = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		Issue issue = issues.get(0);
+
+		cache.loadRecord(issue, false, buffer);
+		assertArrayEquals((issue.toString() + "\n").getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+		cache.loadRecord(issue, false, buffer);
+		byte[] first = buffer.getBytes();
+		cache.loadRecord(issue, false, buffer);
+		assertSame(first, buffer.getBytes());
+		assertEquals(1, cache.size());
+
+		issue.update(new Command(CommandValue.ASSIGN, "owner", null, "Assigned"));
+		cache.loadRecord(issue, false, buffer);
+		assertArrayEquals((issue.toString() + "\n").getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+		cache.loadRecord(issue, false, buffer);
+		assertNotSame(first, buffer.getBytes());
+
+		cache.loadRecord(issue, true, buffer);
+		IssueRecordBuffer binary = new IssueRecordBuffer();
+		binary.encode(issue, true);
+		assertArrayEquals(binary.toByteArray(), buffer.toByteArray());
+		assertEquals(1, cache.size());
+
+		// A copy is a different Issue, even with the same text
+		cache.loadRecord(new Issue(issue), false, buffer);
+		assertEquals(2, cache.size());
+	}
+
+	/**
+	 * Tests that an Issue whose notes have not been loaded is encoded without
+	 * being cached or having its notes kept
+	 *
+	 * @throws IOException if an Issue cannot be encoded
+	 */
+	@Test
+	void testLoadRecordLazyNotes() throws IOException {
+		IssueRecordCache cache = new IssueRecordCache();
+		IssueRecordBuffer buffer = new IssueRecordBuffer();
+		Issue issue = new Issue(1, Issue.NEW_NAME, Issue.I_BUG, "Summary", null, false, null,
+				() -> new ArrayList<String>(Arrays.asList("[New] Note")));
+
+		cache.loadRecord(issue, false, buffer);
+		assertArrayEquals("*1,New,Bug,Summary,null,false,\n-[New] Note\n".getBytes(StandardCharsets.UTF_8),
+				buffer.toByteArray());
+		assertEquals(0, cache.size());
+		assertFalse(issue.isNotesLoaded());
+	}
+
+	/**
+	 * Tests that saving again writes the updated Issues and reuses the rest
+	 *
+	 * @throws IOException if a file cannot be read
+	 */
+	@Test
+	void testWriteAfterUpdate() throws IOException {
+		String[] names = { "test-files/actual_cached.txt", "test-files/actual_cached" + IssueBinaryFormat.EXTENSION };
+		for (String name : names) {
+			IssueRecordCache cache = new IssueRecordCache();
+			ArrayList<Issue> issues = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+			IssueWriter.writeIssuesToFile(name, issues, false, false, cache);
+			assertEquals(issues.size(), cache.size());
+			issues.get(0).update(new Command(CommandValue.ASSIGN, "owner", null, "Assigned"));
+			IssueWriter.writeIssuesToFile(name, issues, false, false, cache);
+
+			ArrayList<Issue> read = IssueReader.readIssuesFromFile(name);
+			assertEquals(issues.size(), read.size());
+			for (int i = 0; i < issues.size(); i++) {
+				assertEquals(issues.get(i).toString(), read.get(i).toString());
+			}
+			assertEquals("Working", read.get(0).getStateName());
+			Files.delete(new File(name).toPath());
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Test the IssueRecordReader class
+ *
+ * @author yash
+ *
+ */
+class IssueRecordReaderTest {
+
+	/**
+	 * Test the next() method reads notes that contain commas, dashes, and
+	 * continuation lines
+	 *
+	 * @throws IOException if the records cannot be read
+	 */
+	@Test
+	void testNext() throws IOException {
+		String file = "\r\n*2,New,Bug,Summary,,false,\r\n"
+				+ "-[New] Note 1, with a comma - and a dash\r\n"
+				+ "that goes on a new line\r\n"
+				+ "\r\n"
+				+ "-[New] Note 2\r\n"
+				+ "\r\n"
+				+ "*1,New,Enhancement,Summary,,false,\n"
+				+ "-[New] Note 1";
+		IssueRecordReader reader = new IssueRecordReader(new StringReader(file));
+
+		Issue issue = reader.next();
+		assertEquals(2, issue.getIssueId());
+		assertEquals(2, issue.getNotes().size());
+		assertEquals("[New] Note 1, with a comma - and a dash\nthat goes on a new line", issue.getNotes().get(0));
+		assertEquals("[New] Note 2", issue.getNotes().get(1));
+
+		issue = reader.next();
+		assertEquals(1, issue.getIssueId());
+		assertEquals("*1,New,Enhancement,Summary,null,false,\n-[New] Note 1", issue.toString());
+
+		assertNull(reader.next());
+		reader.close();
+	}
+
+	/**
+	 * Test the next() method with invalid records
+	 */
+	@Test
+	void testNextInvalid() {
+		IssueRecordReader reader = new IssueRecordReader(new StringReader("1,New,Bug,Summary,,false,\n-[New] Note"));
+		assertThrows(IllegalArgumentException.class, () -> reader.next());
+
+		IssueRecordReader reader2 = new IssueRecordReader(new StringReader("*1,New,Bug,Summary,,maybe,\n-[New] Note"));
+		Exception e = assertThrows(IllegalArgumentException.class, () -> reader2.next());
+		assertEquals("Invalid issue record: *1,New,Bug,Summary,,maybe,", e.getMessage());
+
+		IssueRecordReader reader3 = new IssueRecordReader(new StringReader("*1,New,Bug\n-[New] Note"));
+		assertThrows(IllegalArgumentException.class, () -> reader3.next());
+	}
+}
@@ -0,0 +1,143 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Tests the IssueRecovery class
+ * @author yash
+ *
+ */
+class IssueRecoveryTest {
+
+	/** File written with checksums */
+	private static final String CHECKED_FILE = "test-files/actual_checked.txt";
+	/** Compressed file written with checksums */
+	private static final String COMPRESSED_FILE = "test-files/actual_checked.txt" + IssueCompression.EXTENSION;
+
+	/**
+	 * Deletes the files written by the tests
+	 * 
+	 * @throws IOException if a file cannot be deleted
+	 */
+	@AfterEach
+	void tearDown() throws IOException {
+		Files.deleteIfExists(Paths.get(CHECKED_FILE));
+		Files.deleteIfExists(Paths.get(IssueFileIndex.getIndexFileName(CHECKED_FILE)));
+		Files.deleteIfExists(Paths.get(COMPRESSED_FILE));
+	}
+
+	/**
+	 * Tests that a checksummed file reads back the same through the other readers
+	 * 
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	void testReadChecksummedFile() throws IOException {
+		ArrayList<Issue> issues = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		IssueWriter.writeIssuesToFile(CHECKED_FILE, issues, true, true);
+		assertTrue(new String(Files.readAllBytes(Paths.get(CHECKED_FILE)), StandardCharsets.UTF_8)
+				.startsWith(IssueChecksum.FILE_MARKER + "\n*1,"));
+
+		assertSameIssues(issues, IssueReader.readIssuesFromFile(CHECKED_FILE));
+		assertSameIssues(issues, IssueReader.readIssuesFromMappedFile(CHECKED_FILE));
+		assertSameIssues(issues, IssueReader.readIssuesInParallel(CHECKED_FILE, 64));
+		try (LazyNoteFile notesFile = new LazyNoteFile(CHECKED_FILE)) {
+			assertSameIssues(issues, notesFile.readIssues());
+		}
+		assertEquals(issues.get(2).toString(), IssueReader.readIssueById(CHECKED_FILE, 7).toString());
+
+		IssueRecovery recovery = IssueReader.recoverIssuesFromFile(CHECKED_FILE);
+		assertSameIssues(issues, recovery.getIssues());
+		assertEquals(0, recovery.getDroppedCount());
+	}
+
+	/**
+	 * Tests that damaged and cut off records are dropped and reported
+	 * 
+	 * @throws IOException if the file cannot be read or written
+	 */
+	@Test
+	void testRecoverDamagedFile() throws IOException {
+		ArrayList<Issue> issues = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		IssueWriter.writeIssuesToFile(CHECKED_FILE, issues, false, true);
+		Path path = Paths.get(CHECKED_FILE);
+		String text = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+		// Damage the summary of issue 3 and cut off the trailer of issue 15
+		text = text.replaceFirst("\\*3,Confirmed,Bug,Issue description", "*3,Confirmed,Bug,Issue descriptioN");
+		text = text.substring(0, text.lastIndexOf('#'));
+		Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+
+		assertThrows(IllegalArgumentException.class, () -> IssueReader.readIssuesFromFile("test-files/nope.txt"));
+		IssueRecovery recovery = IssueReader.recoverIssuesFromFile(CHECKED_FILE);
+		assertEquals(3, recovery.getIssues().size());
+		assertEquals(Arrays.asList(3, 15), recovery.getDroppedIds());
+		assertEquals(2, recovery.getDroppedCount());
+		assertEquals(7, recovery.getIssues().get(1).getIssueId());
+	}
+
+	/**
+	 * Tests that a file without checksums keeps every record that parses
+	 * 
+	 * @throws IOException if the file cannot be written
+	 */
+	@Test
+	void testRecoverUncheckedFile() throws IOException {
+		String text = "*1,New,Bug,First,,false,\n-[New] Note 1\n"
+				+ "*2,New,Bug,Second,,maybe,\n-[New] Note 2\r\n"
+				+ "stray line\n"
+				+ "*3,New,Bug,Third,,false,\r\n-[New] Note 3\n";
+		Files.write(Paths.get(CHECKED_FILE), text.getBytes(StandardCharsets.UTF_8));
+		assertThrows(IllegalArgumentException.class, () -> IssueReader.readIssuesFromFile(CHECKED_FILE));
+
+		IssueRecovery recovery = IssueReader.recoverIssuesFromFile(CHECKED_FILE);
+		assertEquals(2, recovery.getIssues().size());
+		assertEquals("-[New] Note 3\n", recovery.getIssues().get(1).getNotesString());
+		assertEquals(Arrays.asList(2), recovery.getDroppedIds());
+	}
+
+	/**
+	 * Tests that a compressed file that was cut off keeps its whole records
+	 * 
+	 * @throws IOException if the file cannot be read or written
+	 */
+	@Test
+	void testRecoverTruncatedCompressedFile() throws IOException {
+		ArrayList<Issue> issues = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		IssueWriter.writeIssuesToFile(COMPRESSED_FILE, issues, false, true);
+		Path path = Paths.get(COMPRESSED_FILE);
+		byte[] bytes = Files.readAllBytes(path);
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - 20));
+
+		IssueRecovery recovery = IssueReader.recoverIssuesFromFile(COMPRESSED_FILE);
+		assertTrue(recovery.getIssues().size() > 0 && recovery.getIssues().size() < issues.size());
+		assertEquals(issues.size(), recovery.getIssues().size() + recovery.getDroppedCount());
+	}
+
+	/**
+	 * Checks that two lists hold the same Issues
+	 * 
+	 * @param expected list of the expected Issues
+	 * @param actual   list of the Issues that were read
+	 */
+	private static void assertSameIssues(ArrayList<Issue> expected, ArrayList<Issue> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).toString(), actual.get(i).toString());
+		}
+	}
+}
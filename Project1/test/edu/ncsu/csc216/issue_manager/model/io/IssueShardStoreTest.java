@@ -0,0 +1,134 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Tests the IssueShardStore class
+ * @author yash
+ *
+ */
+class IssueShardStoreTest {
+
+	/** Directory the shards are written to */
+	private File directory;
+
+	/**
+	 * Creates an empty shard directory that puts 5 IDs in each shard
+	 * 
+	 * @throws IOException if the directory cannot be created
+	 */
+	@BeforeEach
+	void setUp() throws IOException {
+		Path path = Files.createTempDirectory("shards");
+		directory = path.toFile();
+		Files.write(path.resolve(IssueShardStore.MANIFEST), "idsPerShard=5\n".getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Deletes the shard directory
+	 */
+	@AfterEach
+	void tearDown() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	/**
+	 * Tests that a list written as shards reads back the same
+	 */
+	@Test
+	void testWriteAndRead() {
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		IssueShardStore store = new IssueShardStore(directory.getPath());
+		store.markAllDirty();
+		store.writeIssues(issueList);
+
+		// IDs 1 and 3 fall in shard 0, 7 in shard 1, and 14 and 15 in shard 2
+		assertTrue(new File(directory, "shard-0.txt").exists());
+		assertTrue(new File(directory, "shard-1.txt").exists());
+		assertTrue(new File(directory, "shard-2.txt").exists());
+
+		ArrayList<Issue> readList = new IssueShardStore(directory.getPath()).readIssues();
+		assertEquals(issueList.size(), readList.size());
+		for (int i = 0; i < issueList.size(); i++) {
+			assertEquals(issueList.get(i).toString(), readList.get(i).toString());
+		}
+	}
+
+	/**
+	 * Tests that only changed shards are rewritten and emptied shards are deleted
+	 */
+	@Test
+	void testWriteChangedShards() {
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		IssueShardStore store = new IssueShardStore(directory.getPath());
+		store.markAllDirty();
+		store.writeIssues(issueList);
+
+		File shard2 = new File(directory, "shard-2.txt");
+		assertTrue(shard2.delete());
+		issueList.remove(2);
+		store.markDirty(7);
+		store.writeIssues(issueList);
+
+		assertTrue(new File(directory, "shard-0.txt").exists());
+		assertFalse(new File(directory, "shard-1.txt").exists());
+		assertFalse(shard2.exists());
+		assertEquals(2, store.readIssues().size());
+	}
+
+	/**
+	 * Tests that an Issue outside of its shard's range is rejected
+	 * 
+	 * @throws IOException if the shard cannot be written
+	 */
+	@Test
+	void testInvalidShard() throws IOException {
+		Files.write(new File(directory, "shard-1.txt").toPath(),
+				"*1,New,Bug,Summary,,false,\n-[New] Note\n".getBytes(StandardCharsets.UTF_8));
+		IssueShardStore store = new IssueShardStore(directory.getPath());
+		Exception e = assertThrows(IllegalArgumentException.class, () -> store.readIssues());
+		assertEquals("Unable to load file.", e.getMessage());
+
+		assertThrows(IllegalArgumentException.class, () -> new IssueShardStore("test-files/issue1.txt"));
+	}
+
+	/**
+	 * Tests that only a directory with a manifest is a shard directory, and that
+	 * a directory without one is only opened while it is empty
+	 * 
+	 * @throws IOException if the files cannot be written
+	 */
+	@Test
+	void testShardDirectory() throws IOException {
+		assertTrue(IssueShardStore.isShardDirectory(directory.getPath()));
+		assertFalse(IssueShardStore.isShardDirectory("test-files"));
+		assertFalse(IssueShardStore.isShardDirectory("test-files/issue1.txt"));
+
+		assertTrue(new File(directory, IssueShardStore.MANIFEST).delete());
+		assertFalse(IssueShardStore.isShardDirectory(directory.getPath()));
+		new IssueShardStore(directory.getPath());
+
+		Files.write(new File(directory, "notes.txt").toPath(), "Not a shard\n".getBytes(StandardCharsets.UTF_8));
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new IssueShardStore(directory.getPath()));
+		assertEquals("Unable to load file.", e.getMessage());
+	}
+}
@@ -2,7 +2,11 @@ package edu.ncsu.csc216.issue_manager.model.io;
 
 
 import static org.junit.Assert.fail;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
@@ -35,6 +39,41 @@ class IssueWriterTest {
 		
 	}
 
-	
+	/**
+	 * Test writeIssuesToFile() method writes issues that read back the same
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testWriteIssuesToFileRoundTrip() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		IssueWriter.writeIssuesToFile(file.getPath(), issueList);
+
+		ArrayList<Issue> readList = IssueReader.readIssuesFromFile(file.getPath());
+		assertEquals(issueList.size(), readList.size());
+		for (int i = 0; i < issueList.size(); i++) {
+			assertEquals(issueList.get(i).toString(), readList.get(i).toString());
+		}
+	}
+
+	/**
+	 * Test writeSnapshotToFile() method replaces the file and leaves no temporary
+	 * file behind
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testWriteSnapshotToFile() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		ArrayList<Issue> issueList = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		IssueWriter.writeSnapshotToFile(file.getPath(), issueList);
 
+		assertFalse(new File(file.getPath() + ".tmp").exists());
+		ArrayList<Issue> readList = IssueReader.readIssuesFromFile(file.getPath());
+		assertEquals(issueList.size(), readList.size());
+		assertEquals(issueList.get(4).toString(), readList.get(4).toString());
+	}
 }
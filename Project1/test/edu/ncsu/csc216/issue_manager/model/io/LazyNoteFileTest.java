@@ -0,0 +1,88 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Tests the LazyNoteFile class
+ * @author yash
+ *
+ */
+class LazyNoteFileTest {
+
+	/**
+	 * Tests that Issues read without their notes match the Issues read with them
+	 * 
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	void testReadIssues() throws IOException {
+		ArrayList<Issue> expected = IssueReader.readIssuesFromFile("test-files/issue1.txt");
+		try (LazyNoteFile notesFile = new LazyNoteFile("test-files/issue1.txt")) {
+			ArrayList<Issue> issues = notesFile.readIssues();
+			assertEquals(expected.size(), issues.size());
+			for (int i = issues.size() - 1; i >= 0; i--) {
+				assertEquals(expected.get(i).toString(), issues.get(i).toString());
+			}
+		}
+	}
+
+	/**
+	 * Tests line endings, blank lines, and multi-byte characters in note blocks
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testNoteBlocks() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		String text = "\r\n*1,New,Bug,Summary,,false,\r\n-[New] Caf\u00e9\r\n\r\nmore\r\n\r\n"
+				+ "*2,New,Bug,Summary,,false,\r-[New] Note\r*3,New,Bug,Summary,,false,\n-[New] Last";
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+
+		ArrayList<Issue> expected = IssueReader.readIssuesFromFile(file.getPath());
+		try (LazyNoteFile notesFile = new LazyNoteFile(file.getPath())) {
+			ArrayList<Issue> issues = notesFile.readIssues();
+			assertEquals(3, issues.size());
+			for (int i = 0; i < issues.size(); i++) {
+				assertEquals(expected.get(i).getNotes(), issues.get(i).getNotes());
+			}
+		}
+	}
+
+	/**
+	 * Tests that invalid records are rejected while scanning
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testInvalidRecords() throws IOException {
+		try (LazyNoteFile notesFile = new LazyNoteFile("test-files/issue3.txt")) {
+			Exception e = assertThrows(IllegalArgumentException.class, () -> notesFile.readIssues());
+			assertEquals("Invalid issue record: *3,,Bug,Issue description,owner,true,", e.getMessage());
+		}
+
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		Files.write(file.toPath(), "*1,New,Bug,Summary,,false,\ntext\n-[New] Note\n".getBytes(StandardCharsets.UTF_8));
+		try (LazyNoteFile notesFile = new LazyNoteFile(file.getPath())) {
+			Exception e = assertThrows(IllegalArgumentException.class, () -> notesFile.readIssues());
+			assertEquals("Invalid issue record: *1,New,Bug,Summary,,false,", e.getMessage());
+		}
+
+		Files.write(file.toPath(), "*1,New,Bug,Summary,,false,\n".getBytes(StandardCharsets.UTF_8));
+		try (LazyNoteFile notesFile = new LazyNoteFile(file.getPath())) {
+			assertThrows(IllegalArgumentException.class, () -> notesFile.readIssues());
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package edu.ncsu.csc216.issue_manager.model.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the MappedFileReader class
+ *
+ * @author yash
+ *
+ */
+class MappedFileReaderTest {
+
+	/**
+	 * Test the read() method decodes ASCII and multi-byte UTF-8 characters
+	 *
+	 * @throws IOException if the temporary file cannot be written or read
+	 */
+	@Test
+	void testRead() throws IOException {
+		String text = "*1,New,Bug,Caf\u00e9 \u20ac \ud83d\udc1b,,false,\n-[New] Note";
+		File file = File.createTempFile("mapped", ".txt");
+		file.deleteOnExit();
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+
+		StringBuilder read = new StringBuilder();
+		char[] buffer = new char[3];
+		try (MappedFileReader reader = new MappedFileReader(file.getPath())) {
+			int count = reader.read(buffer, 0, buffer.length);
+			while (count != -1) {
+				read.append(buffer, 0, count);
+				count = reader.read(buffer, 0, buffer.length);
+			}
+		}
+		assertEquals(text, read.toString());
+	}
+
+	/**
+	 * Test the read() method with an empty file
+	 *
+	 * @throws IOException if the temporary file cannot be written or read
+	 */
+	@Test
+	void testReadEmpty() throws IOException {
+		File file = File.createTempFile("mapped", ".txt");
+		file.deleteOnExit();
+
+		try (MappedFileReader reader = new MappedFileReader(file.getPath())) {
+			assertEquals(-1, reader.read(new char[4], 0, 4));
+		}
+	}
+}
@@ -2,6 +2,8 @@ package edu.ncsu.csc216.issue_manager.model.issue;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
@@ -79,6 +81,110 @@ class IssueTest {
 		System.out.println(i.getNotesString());
 	}
 	
+	/**
+	 * Test the writeTo() method writes the same text as toString() and
+	 * getNotesString()
+	 * 
+	 * @throws IOException if the issue cannot be written
+	 */
+	@Test
+	void testWriteTo() throws IOException {
+		ArrayList<String> tempNotes = new ArrayList<String>();
+		tempNotes.add("[New] Note 1  ");
+		tempNotes.add(" [Working] Note 2\nthat goes on a new line");
+		i = new Issue(123, "Working", IT_ENHANCEMENT, SUMMARY, OWNER, false, null, tempNotes);
+
+		StringWriter out = new StringWriter();
+		i.writeTo(out);
+		assertEquals("*123,Working,Enhancement,Test summary.,Yash,false,\n-[New] Note 1\n"
+				+ "-[Working] Note 2\nthat goes on a new line", out.toString());
+		assertEquals(out.toString(), i.toString());
+		assertEquals("-[New] Note 1\n-[Working] Note 2\nthat goes on a new line\n", i.getNotesString());
+	}
+
+	/**
+	 * Test the copy constructor
+	 */
+	@Test
+	void testCopyConstructor() {
+		i = new Issue(ID, IssueType.BUG, SUMMARY, "Note 1");
+		Issue copy = new Issue(i);
+		i.update(new Command(CommandValue.CONFIRM, null, null, "Note 2"));
+
+		assertEquals("Confirmed", i.getStateName());
+		assertEquals(2, i.getNotes().size());
+		assertEquals("New", copy.getStateName());
+		assertEquals(1, copy.getNotes().size());
+		assertEquals(ID, copy.getIssueId());
+		assertEquals(SUMMARY, copy.getSummary());
+	}
+
+	/**
+	 * Test the constructor that takes a state code and enum values
+	 */
+	@Test
+	void testCodeConstructor() {
+		notes.add("[Verifying] Note 1");
+		i = new Issue(ID, 3, IssueType.BUG, SUMMARY, OWNER, true, Resolution.DUPLICATE, notes);
+		Issue parsed = new Issue(ID, "Verifying", "Bug", SUMMARY, OWNER, true, Command.R_DUPLICATE, notes);
+		assertEquals(parsed.toString(), i.toString());
+		assertEquals("Verifying", i.getStateName());
+		assertEquals(Command.R_DUPLICATE, i.getResolution());
+
+		i.update(new Command(CommandValue.REOPEN, null, null, "Note 2"));
+		assertEquals("Working", i.getStateName());
+		assertNull(i.getResolution());
+
+		assertThrows(IllegalArgumentException.class,
+				() -> new Issue(ID, 5, IssueType.BUG, SUMMARY, OWNER, true, null, notes));
+		assertThrows(IllegalArgumentException.class,
+				() -> new Issue(0, 0, IssueType.BUG, SUMMARY, OWNER, false, null, notes));
+		assertThrows(IllegalArgumentException.class,
+				() -> new Issue(ID, 0, IssueType.BUG, "", OWNER, false, null, notes));
+		assertThrows(IllegalArgumentException.class,
+				() -> new Issue(ID, 0, IssueType.ENHANCEMENT, SUMMARY, OWNER, true, null, notes));
+		assertThrows(IllegalArgumentException.class,
+				() -> new Issue(ID, 0, null, SUMMARY, OWNER, false, null, notes));
+	}
+
+	/**
+	 * Test that every update changes the version, even one that fails
+	 */
+	@Test
+	void testGetVersion() {
+		i = new Issue(ID, IssueType.BUG, SUMMARY, "Note 1");
+		assertEquals(0, i.getVersion());
+		i.update(new Command(CommandValue.CONFIRM, null, null, "Note 2"));
+		assertEquals(1, i.getVersion());
+		assertThrows(UnsupportedOperationException.class,
+				() -> i.update(new Command(CommandValue.VERIFY, null, null, "Note 3")));
+		assertEquals(2, i.getVersion());
+		assertEquals(0, new Issue(i).getVersion());
+	}
+
+	/**
+	 * Test the constructor that loads notes on first access
+	 */
+	@Test
+	void testLazyNotes() {
+		int[] loads = new int[1];
+		i = new Issue(123, "Working", IT_ENHANCEMENT, SUMMARY, OWNER, false, null, () -> {
+			loads[0]++;
+			ArrayList<String> tempNotes = new ArrayList<String>();
+			tempNotes.add("[New] Note 1");
+			return tempNotes;
+		});
+		assertEquals(0, loads[0]);
+		assertEquals(SUMMARY, i.getSummary());
+		assertEquals(0, loads[0]);
+
+		assertEquals("-[New] Note 1\n", i.getNotesString());
+		assertEquals(1, i.getNotes().size());
+		i.update(new Command(CommandValue.RESOLVE, null, Resolution.FIXED, "Note 2"));
+		assertEquals(2, i.getNotes().size());
+		assertEquals(1, loads[0]);
+	}
+
 	/**
 	 * Tests an issue by changing its state from New to Working
 	 */
@@ -0,0 +1,101 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.issue_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Test the IssueBitmapIndex class
+ *
+ * @author yash
+ *
+ */
+class IssueBitmapIndexTest {
+
+	/**
+	 * Creates an Issue with one note
+	 *
+	 * @param id         id of the issue
+	 * @param state      name of the state
+	 * @param issueType  name of the type
+	 * @param owner      owner, or null
+	 * @param confirmed  true if confirmed
+	 * @param resolution name of the resolution, or null
+	 * @return issue the Issue
+	 */
+	private static Issue issue(int id, String state, String issueType, String owner, boolean confirmed,
+			String resolution) {
+		ArrayList<String> notes = new ArrayList<String>();
+		notes.add("[" + state + "] Note");
+		return new Issue(id, state, issueType, "Summary", owner, confirmed, resolution, notes);
+	}
+
+	/**
+	 * Test a compound Query of type, confirmed flag, states and resolution
+	 */
+	@Test
+	void testQuery() {
+		IssueBitmapIndex index = new IssueBitmapIndex();
+		index.add(issue(1, Issue.WORKING_NAME, Issue.I_BUG, "owner", true, null));
+		index.add(issue(2, Issue.VERIFYING_NAME, Issue.I_BUG, "owner", true, Command.R_FIXED));
+		index.add(issue(3, Issue.CLOSED_NAME, Issue.I_BUG, "owner", true, Command.R_WONTFIX));
+		index.add(issue(4, Issue.WORKING_NAME, Issue.I_ENHANCEMENT, "owner", false, null));
+		index.add(issue(5, Issue.NEW_NAME, Issue.I_BUG, null, false, null));
+
+		ArrayList<Issue> issues = index.query().type(IssueType.BUG).confirmed(true)
+				.states(Issue.WORKING_NAME, Issue.VERIFYING_NAME).notResolutions(Resolution.WONTFIX).issues();
+		assertEquals(2, issues.size());
+		assertEquals(1, issues.get(0).getIssueId());
+		assertEquals(2, issues.get(1).getIssueId());
+
+		assertEquals(5, index.query().count());
+		assertEquals(2, index.query().confirmed(false).count());
+		assertEquals(1, index.query().resolutions(Resolution.WONTFIX, Resolution.DUPLICATE).count());
+		assertEquals(0, index.query().states("Unknown").count());
+		assertEquals(0, index.query().resolutions(Resolution.WORKSFORME).count());
+	}
+
+	/**
+	 * Test the bitmaps follow state transitions, and that freed slots are reused
+	 * while results stay sorted by ID
+	 */
+	@Test
+	void testUpdateAndRemove() {
+		IssueBitmapIndex index = new IssueBitmapIndex();
+		Issue first = new Issue(1, IssueType.BUG, "Summary", "Note");
+		Issue second = new Issue(2, IssueType.BUG, "Summary", "Note");
+		index.add(first);
+		index.add(second);
+		assertEquals(0, index.query().confirmed(true).count());
+
+		first.update(new Command(CommandValue.CONFIRM, null, null, "Note"));
+		index.update(first);
+		assertSame(first, index.query().confirmed(true).states(Issue.CONFIRMED_NAME).issues().get(0));
+		assertEquals(1, index.query().states(Issue.NEW_NAME).count());
+
+		index.remove(first);
+		Issue third = new Issue(3, IssueType.ENHANCEMENT, "Summary", "Note");
+		index.add(third);
+		index.add(third);
+		ArrayList<Issue> issues = index.query().issues();
+		assertEquals(2, issues.size());
+		assertSame(second, issues.get(0));
+		assertSame(third, issues.get(1));
+		assertEquals(0, index.query().confirmed(true).count());
+
+		for (int id = 4; id < 40; id++) {
+			index.add(new Issue(id, IssueType.BUG, "Summary", "Note"));
+		}
+		assertEquals(37, index.query().type(IssueType.BUG).count());
+		index.clear();
+		assertEquals(0, index.query().count());
+	}
+}
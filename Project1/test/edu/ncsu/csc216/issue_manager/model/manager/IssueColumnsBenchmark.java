@@ -0,0 +1,103 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Benchmark comparing IssueColumns with a list of Issue objects. Prints the
+ * heap each one uses for the same issues and how long counting the issues by
+ * state takes in each. Run it as a Java application rather than as a JUnit
+ * test, with a heap large enough for both copies.
+ *
+ * @author yash
+ *
+ */
+public class IssueColumnsBenchmark {
+
+	/** Number of issues */
+	private static final int ISSUES = 200000;
+	/** Number of notes on each issue */
+	private static final int NOTES_PER_ISSUE = 3;
+	/** Number of times each scan is timed */
+	private static final int ROUNDS = 20;
+	/** Owners issues are assigned to */
+	private static final String[] OWNERS = { "yash", "sesmith5", "jdyoung2", "ahmed", "mchen" };
+
+	/**
+	 * Runs the benchmark
+	 *
+	 * @param args not used
+	 */
+	public static void main(String[] args) {
+		long base = usedMemory();
+		ArrayList<Issue> issues = createIssues();
+		long objects = usedMemory() - base;
+		IssueColumns columns = IssueColumns.of(issues);
+		issues.trimToSize();
+		long columnBytes = usedMemory() - base - objects;
+		System.out.printf("Issue objects: %,12d bytes%n", objects);
+		System.out.printf("IssueColumns:  %,12d bytes (%.1fx less)%n", columnBytes, (double) objects / columnBytes);
+
+		for (int warmup = 0; warmup < 2; warmup++) {
+			long start = System.nanoTime();
+			int count = 0;
+			for (int round = 0; round < ROUNDS; round++) {
+				count = 0;
+				for (int i = 0; i < issues.size(); i++) {
+					if (Issue.WORKING_NAME.equals(issues.get(i).getStateName())) {
+						count++;
+					}
+				}
+			}
+			double objectScan = (System.nanoTime() - start) / 1e6 / ROUNDS;
+			start = System.nanoTime();
+			Map<String, Integer> counts = null;
+			for (int round = 0; round < ROUNDS; round++) {
+				counts = columns.countByState();
+			}
+			double columnScan = (System.nanoTime() - start) / 1e6 / ROUNDS;
+			if (warmup == 1) {
+				System.out.printf("count Working: objects %.2f ms (%d), columns %.2f ms (%d)%n", objectScan, count,
+						columnScan, counts.get(Issue.WORKING_NAME));
+			}
+		}
+	}
+
+	/**
+	 * Creates Issues with a mix of states, owners and notes
+	 *
+	 * @return issues ArrayList of the Issues
+	 */
+	private static ArrayList<Issue> createIssues() {
+		Random random = new Random(216);
+		ArrayList<Issue> issues = new ArrayList<Issue>(ISSUES);
+		for (int id = 1; id <= ISSUES; id++) {
+			boolean working = random.nextBoolean();
+			String state = working ? Issue.WORKING_NAME : Issue.NEW_NAME;
+			ArrayList<String> notes = new ArrayList<String>();
+			for (int i = 0; i < NOTES_PER_ISSUE; i++) {
+				notes.add("[" + state + "] Note " + i + " about issue " + id);
+			}
+			issues.add(new Issue(id, state, working ? Issue.I_BUG : Issue.I_ENHANCEMENT,
+					"Summary of issue " + random.nextInt(ISSUES / 4), working ? OWNERS[random.nextInt(OWNERS.length)]
+							: null, working, null, notes));
+		}
+		return issues;
+	}
+
+	/**
+	 * Measures the heap in use after collecting garbage
+	 *
+	 * @return bytes bytes of heap in use
+	 */
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 4; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,96 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Test the IssueColumns class
+ *
+ * @author yash
+ *
+ */
+class IssueColumnsTest {
+
+	/**
+	 * Test that issues produced from the columns have the values of the issues
+	 * that were stored
+	 */
+	@Test
+	void testGetIssue() {
+		ArrayList<String> notes = new ArrayList<String>();
+		notes.add("[Verifying] Fixed in the parser \u00e9t\u00e9");
+		notes.add("Imported note without a state");
+		ArrayList<Issue> issues = new ArrayList<Issue>();
+		issues.add(new Issue(9, Issue.VERIFYING_NAME, Issue.I_BUG, "Parser crash", "owner", true, Command.R_FIXED,
+				notes));
+		issues.add(new Issue(3, IssueType.ENHANCEMENT, "Parser crash", "Note"));
+		issues.add(new Issue(9, IssueType.BUG, "Duplicate", "Note"));
+		IssueColumns columns = IssueColumns.of(issues);
+
+		assertEquals(2, columns.size());
+		assertEquals(3, columns.getIssueId(0));
+		assertEquals(Issue.VERIFYING_NAME, columns.getStateName(1));
+		assertEquals(issues.get(1).toString(), columns.getIssue(0).toString());
+		Issue issue = columns.getIssueById(9);
+		assertEquals(issues.get(0).toString(), issue.toString());
+		assertEquals(notes, issue.getNotes());
+		assertEquals("owner", issue.getOwner());
+		assertTrue(issue.isConfirmed());
+		assertEquals(Command.R_FIXED, issue.getResolution());
+		assertNull(columns.getIssueById(4));
+		assertEquals(2, columns.toIssues().size());
+		assertArrayEquals(new Object[] { 9, Issue.VERIFYING_NAME, Issue.I_BUG, "Parser crash" }, columns.getRow(1));
+		assertEquals(9, columns.getLastIssueId());
+		assertEquals(0, new IssueColumns().getLastIssueId());
+	}
+
+	/**
+	 * Test the update() and remove() methods, and the scans over the state column
+	 */
+	@Test
+	void testUpdateAndRemove() {
+		IssueColumns columns = new IssueColumns();
+		for (int id = 1; id <= 40; id++) {
+			columns.add(new Issue(id, IssueType.ENHANCEMENT, "Summary " + (id % 3), "Note " + id));
+		}
+		Issue issue = columns.getIssueById(5);
+		Issue before = columns.getIssueById(6);
+		issue.update(new Command(CommandValue.ASSIGN, "owner", null, "Started"));
+		assertTrue(columns.update(issue));
+		assertFalse(columns.update(new Issue(41, IssueType.BUG, "Summary", "Note")));
+
+		assertEquals(issue.toString(), columns.getIssueById(5).toString());
+		assertEquals(2, columns.getIssueById(5).getNotes().size());
+		Map<String, Integer> counts = columns.countByState();
+		assertEquals(39, counts.get(Issue.NEW_NAME));
+		assertEquals(1, counts.get(Issue.WORKING_NAME));
+		assertEquals(0, counts.get(Issue.CLOSED_NAME));
+		assertArrayEquals(new int[] { 5 }, columns.getIssueIdsByState(Issue.WORKING_NAME));
+		assertArrayEquals(new int[0], columns.getIssueIdsByState("Unknown"));
+
+		assertTrue(columns.remove(5));
+		assertFalse(columns.remove(5));
+		assertEquals(39, columns.size());
+		assertNull(columns.getIssueById(5));
+		assertEquals(0, columns.countByState().get(Issue.WORKING_NAME));
+		assertEquals("Summary 0", columns.getIssueById(6).getSummary());
+		assertEquals(before.getNotes(), columns.getIssueById(6).getNotes());
+
+		columns.add(new Issue(5, IssueType.BUG, "Summary", "Readded"));
+		assertEquals(5, columns.getIssueId(4));
+		assertEquals("[New] Readded", columns.getIssueById(5).getNotes().get(0));
+		for (int i = 0; i < 500; i++) {
+			columns.update(columns.getIssueById(7));
+		}
+		assertEquals("[New] Note 40", columns.getIssueById(40).getNotes().get(0));
+	}
+}
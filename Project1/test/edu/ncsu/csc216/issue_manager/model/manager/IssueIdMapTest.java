@@ -0,0 +1,67 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Test the IssueIdMap class
+ *
+ * @author yash
+ *
+ */
+class IssueIdMapTest {
+
+	/**
+	 * Test the put() and get() methods
+	 */
+	@Test
+	void testPutAndGet() {
+		IssueIdMap map = new IssueIdMap();
+		Issue issue = new Issue(3, IssueType.BUG, "Summary", "Note");
+
+		assertNull(map.put(issue));
+		assertEquals(issue, map.get(3));
+		assertNull(map.get(4));
+		assertNull(map.get(0));
+		assertEquals(1, map.size());
+
+		Issue replacement = new Issue(3, IssueType.ENHANCEMENT, "Summary", "Note");
+		assertEquals(issue, map.put(replacement));
+		assertEquals(replacement, map.get(3));
+		assertEquals(1, map.size());
+	}
+
+	/**
+	 * Test the remove() method keeps later entries reachable as the map grows
+	 */
+	@Test
+	void testRemove() {
+		IssueIdMap map = new IssueIdMap();
+		for (int i = 1; i <= 1000; i++) {
+			map.put(new Issue(i, IssueType.BUG, "Summary", "Note"));
+		}
+		assertEquals(1000, map.size());
+
+		for (int i = 1; i <= 1000; i += 2) {
+			assertEquals(i, map.remove(i).getIssueId());
+		}
+		assertNull(map.remove(1));
+		assertEquals(500, map.size());
+
+		for (int i = 1; i <= 1000; i++) {
+			if (i % 2 == 0) {
+				assertEquals(i, map.get(i).getIssueId());
+			} else {
+				assertFalse(map.containsId(i));
+			}
+		}
+
+		map.clear();
+		assertEquals(0, map.size());
+		assertNull(map.get(2));
+	}
+}
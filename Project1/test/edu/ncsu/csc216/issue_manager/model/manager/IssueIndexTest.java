@@ -0,0 +1,69 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Test the IssueIndex class
+ *
+ * @author yash
+ *
+ */
+class IssueIndexTest {
+
+	/**
+	 * Test the add(), get() and remove() methods keep the issues for a key sorted
+	 * by ID
+	 */
+	@Test
+	void testAddAndRemove() {
+		IssueIndex<String> index = new IssueIndex<String>(Issue::getIssueType);
+		Issue bug5 = new Issue(5, IssueType.BUG, "Summary", "Note");
+		Issue bug2 = new Issue(2, IssueType.BUG, "Summary", "Note");
+		Issue enhancement = new Issue(3, IssueType.ENHANCEMENT, "Summary", "Note");
+		index.add(bug5);
+		index.add(enhancement);
+		index.add(bug2);
+
+		ArrayList<Issue> bugs = index.get(Issue.I_BUG);
+		assertEquals(2, bugs.size());
+		assertSame(bug2, bugs.get(0));
+		assertSame(bug5, bugs.get(1));
+		assertTrue(index.get("Task").isEmpty());
+
+		index.remove(bug2, Issue.I_BUG);
+		assertEquals(1, index.get(Issue.I_BUG).size());
+		index.remove(new Issue(5, IssueType.BUG, "Summary", "Note"), Issue.I_BUG);
+		assertSame(bug5, index.get(Issue.I_BUG).get(0));
+
+		index.clear();
+		assertTrue(index.get(Issue.I_ENHANCEMENT).isEmpty());
+	}
+
+	/**
+	 * Test the update() method moves an issue whose key changed, and leaves out
+	 * issues without a key
+	 */
+	@Test
+	void testUpdate() {
+		IssueIndex<String> index = new IssueIndex<String>(Issue::getOwner);
+		Issue issue = new Issue(1, IssueType.ENHANCEMENT, "Summary", "Note");
+		index.add(issue);
+		assertNull(index.keyOf(issue));
+
+		issue.update(new Command(CommandValue.ASSIGN, "owner", null, "Note"));
+		index.update(issue, null);
+		assertSame(issue, index.get("owner").get(0));
+
+		index.update(issue, "owner");
+		assertEquals(1, index.get("owner").size());
+	}
+}
@@ -0,0 +1,131 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.issue_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Test the IssueJournal class
+ *
+ * @author yash
+ *
+ */
+class IssueJournalTest {
+
+	/**
+	 * Test replaying the logged changes rebuilds the list
+	 *
+	 * @throws IOException if the journal cannot be written or read
+	 */
+	@Test
+	void testReplay() throws IOException {
+		File snapshot = File.createTempFile("issues", ".txt");
+		snapshot.deleteOnExit();
+		IssueJournal.getJournalFile(snapshot.getPath()).deleteOnExit();
+
+		IssueList list = new IssueList();
+		try (IssueJournal journal = new IssueJournal(snapshot.getPath())) {
+			int id = list.addIssue(IssueType.BUG, "Summary1", "Note1");
+			journal.logAdd(list.getIssueById(id));
+			id = list.addIssue(IssueType.ENHANCEMENT, "Summary2", "Note2");
+			journal.logAdd(list.getIssueById(id));
+			Command c = new Command(CommandValue.RESOLVE, null, Resolution.WONTFIX, "Command note");
+			list.executeCommand(2, c);
+			journal.logCommand(list.getIssueById(2), c);
+			list.deleteIssueById(1);
+			journal.logDelete(1);
+			assertEquals(4, journal.getRecordCount());
+		}
+
+		IssueList replayed = new IssueList();
+		IssueJournal.replay(snapshot.getPath(), replayed);
+		assertEquals(1, replayed.getIssues().size());
+		assertEquals(list.getIssueById(2).toString(), replayed.getIssueById(2).toString());
+	}
+
+	/**
+	 * Test a record cut off at the end of the journal is ignored and dropped
+	 *
+	 * @throws IOException if the journal cannot be written or read
+	 */
+	@Test
+	void testPartialRecord() throws IOException {
+		File snapshot = File.createTempFile("issues", ".txt");
+		snapshot.deleteOnExit();
+		File journalFile = IssueJournal.getJournalFile(snapshot.getPath());
+		journalFile.deleteOnExit();
+
+		IssueList list = new IssueList();
+		try (IssueJournal journal = new IssueJournal(snapshot.getPath())) {
+			journal.logAdd(list.getIssueById(list.addIssue(IssueType.BUG, "Summary1", "Note1")));
+		}
+		long length = journalFile.length();
+		try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+			out.write(new byte[] { 'D', 0, 0 });
+		}
+
+		IssueList replayed = new IssueList();
+		IssueJournal.replay(snapshot.getPath(), replayed);
+		assertEquals(1, replayed.getIssues().size());
+
+		try (IssueJournal journal = new IssueJournal(snapshot.getPath())) {
+			assertEquals(1, journal.getRecordCount());
+			assertEquals(length, journalFile.length());
+			journal.logDelete(1);
+		}
+		replayed = new IssueList();
+		IssueJournal.replay(snapshot.getPath(), replayed);
+		assertEquals(0, replayed.getIssues().size());
+	}
+
+	/**
+	 * Test replaying a rotated journal over a snapshot that already holds its
+	 * changes leaves the snapshot unchanged
+	 *
+	 * @throws IOException if the journal cannot be written or read
+	 */
+	@Test
+	void testReplayAfterRotate() throws IOException {
+		File snapshot = File.createTempFile("issues", ".txt");
+		snapshot.deleteOnExit();
+		IssueJournal.getJournalFile(snapshot.getPath()).deleteOnExit();
+		IssueJournal.getOldJournalFile(snapshot.getPath()).deleteOnExit();
+
+		IssueList list = new IssueList();
+		try (IssueJournal journal = new IssueJournal(snapshot.getPath())) {
+			journal.logAdd(list.getIssueById(list.addIssue(IssueType.BUG, "Summary1", "Note1")));
+			Command c = new Command(CommandValue.CONFIRM, null, null, "Confirm note");
+			list.executeCommand(1, c);
+			journal.logCommand(list.getIssueById(1), c);
+			journal.rotate();
+			assertEquals(0, journal.getRecordCount());
+			assertEquals(0, journal.getSize());
+
+			c = new Command(CommandValue.ASSIGN, "owner", null, "Assign note");
+			list.executeCommand(1, c);
+			journal.logCommand(list.getIssueById(1), c);
+		}
+		assertTrue(IssueJournal.getOldJournalFile(snapshot.getPath()).exists());
+
+		// The snapshot was written after the command in the new journal ran
+		IssueList replayed = new IssueList();
+		replayed.addIssues(new ArrayList<Issue>(list.getIssues()));
+		IssueJournal.replay(snapshot.getPath(), replayed);
+		assertEquals(3, replayed.getIssueById(1).getNotes().size());
+		assertEquals("Working", replayed.getIssueById(1).getStateName());
+
+		IssueJournal.deleteOldJournal(snapshot.getPath());
+		assertFalse(IssueJournal.getOldJournalFile(snapshot.getPath()).exists());
+	}
+}
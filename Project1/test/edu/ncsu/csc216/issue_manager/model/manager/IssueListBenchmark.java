@@ -0,0 +1,53 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Microbenchmark for adding issues to an IssueList. Prints the add throughput
+ * for each block of issues so that a drop as the list grows is easy to spot.
+ * Run it as a Java application rather than as a JUnit test.
+ *
+ * @author yash
+ *
+ */
+public class IssueListBenchmark {
+
+	/** Number of issues added in each timed block */
+	private static final int BLOCK_SIZE = 50000;
+	/** Number of timed blocks */
+	private static final int BLOCKS = 8;
+	/** Number of untimed rounds run first so the JIT compiles the add path */
+	private static final int WARMUP_ROUNDS = 3;
+
+	/**
+	 * Runs the benchmark
+	 *
+	 * @param args not used
+	 */
+	public static void main(String[] args) {
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			run(false);
+		}
+		run(true);
+	}
+
+	/**
+	 * Adds BLOCKS * BLOCK_SIZE issues to a new IssueList
+	 *
+	 * @param print true if the throughput of each block should be printed
+	 */
+	private static void run(boolean print) {
+		IssueList list = new IssueList();
+		for (int block = 0; block < BLOCKS; block++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < BLOCK_SIZE; i++) {
+				list.addIssue(IssueType.BUG, "Summary", "Note");
+			}
+			long elapsed = System.nanoTime() - start;
+			if (print) {
+				System.out.printf("list size %8d: %,12.0f adds/s%n", list.getIssues().size(),
+						BLOCK_SIZE / (elapsed / 1e9));
+			}
+		}
+	}
+}
@@ -3,6 +3,7 @@ package edu.ncsu.csc216.issue_manager.model.manager;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -66,6 +67,37 @@ class IssueListTest {
 		assertEquals(1, list.getIssues().size());
 	}
 
+	/**
+	 * Test that deleted issues are dropped from the list in ID order, and that an
+	 * issue added with the ID of a deleted issue takes its place
+	 */
+	@Test
+	void testDeleteIssuesInPlace() {
+		IssueList list = new IssueList();
+		for (int i = 1; i <= 6; i++) {
+			list.addIssue(new Issue(i, IssueType.BUG, "Summary" + i, "Note" + i));
+		}
+
+		list.deleteIssueById(2);
+		assertNull(list.getIssueById(2));
+		Issue replacement = new Issue(2, IssueType.ENHANCEMENT, "Replacement", "Note");
+		list.addIssue(replacement);
+		assertEquals(replacement, list.getIssueById(2));
+
+		list.deleteIssueById(1);
+		list.deleteIssueById(3);
+		list.deleteIssueById(5);
+		list.deleteIssueById(5);
+		list.deleteIssueById(4);
+		list.addIssue(new Issue(3, IssueType.BUG, "Summary3", "Note3"));
+
+		assertEquals(3, list.getIssues().size());
+		assertEquals(replacement, list.getIssues().get(0));
+		assertEquals(3, list.getIssues().get(1).getIssueId());
+		assertEquals(6, list.getIssues().get(2).getIssueId());
+		assertEquals(2, list.searchSummaryPrefix("Summary", 10).length);
+	}
+
 	/**
 	 * Test the getIssuesByType() method
 	 */
@@ -94,6 +126,99 @@ class IssueListTest {
 		assertEquals(list1.get(0), list2.getIssueById(1));
 
 	}
+
+	/**
+	 * Test the addIssues() method sorts the issues and keeps the first issue for a
+	 * duplicate ID
+	 */
+	@Test
+	void testAddIssuesUnsortedDuplicates() {
+		ArrayList<Issue> list1 = new ArrayList<Issue>();
+		Issue first = new Issue(5, IssueType.BUG, "Summary1", "Note1");
+		list1.add(first);
+		list1.add(new Issue(2, IssueType.ENHANCEMENT, "Summary2", "Note2"));
+		list1.add(new Issue(5, IssueType.ENHANCEMENT, "Summary3", "Note3"));
+		list1.add(new Issue(3, IssueType.BUG, "Summary4", "Note4"));
+
+		IssueList list2 = new IssueList();
+		list2.addIssues(list1);
+
+		assertEquals(3, list2.getIssues().size());
+		assertEquals(2, list2.getIssues().get(0).getIssueId());
+		assertEquals(3, list2.getIssues().get(1).getIssueId());
+		assertEquals(first, list2.getIssues().get(2));
+		assertEquals(first, list2.getIssueById(5));
+	}
+
+	/**
+	 * Test the addIssue() method places a new issue in ID order when its ID is not
+	 * the largest in the list
+	 */
+	@Test
+	void testAddIssueInsertsInOrder() {
+		ArrayList<Issue> list1 = new ArrayList<Issue>();
+		list1.add(new Issue(1, IssueType.BUG, "Summary1", "Note1"));
+		list1.add(new Issue(3, IssueType.BUG, "Summary2", "Note2"));
+		list1.add(new Issue(7, IssueType.BUG, "Summary3", "Note3"));
+
+		IssueList list2 = new IssueList();
+		list2.addIssues(list1);
+
+		assertEquals(4, list2.addIssue(IssueType.ENHANCEMENT, "Summary4", "Note4"));
+		assertEquals(5, list2.addIssue(IssueType.ENHANCEMENT, "Summary5", "Note5"));
+		assertEquals(5, list2.getIssues().size());
+		assertEquals(4, list2.getIssues().get(2).getIssueId());
+		assertEquals(5, list2.getIssues().get(3).getIssueId());
+		assertEquals(7, list2.getIssues().get(4).getIssueId());
+	}
+	
+	/**
+	 * Test the mergeIssues() method replaces issues by ID and adds the rest in
+	 * ID order, keeping issues that were updated in the list
+	 */
+	@Test
+	void testMergeIssues() {
+		ArrayList<Issue> list1 = new ArrayList<Issue>();
+		list1.add(new Issue(1, IssueType.BUG, "Summary1", "Note1"));
+		list1.add(new Issue(7, IssueType.BUG, "Summary2", "Note2"));
+		IssueList list2 = new IssueList();
+		list2.addIssues(list1);
+
+		ArrayList<Issue> merged = new ArrayList<Issue>();
+		Issue replacement = new Issue(7, IssueType.ENHANCEMENT, "Summary3", "Note3");
+		merged.add(replacement);
+		merged.add(new Issue(4, IssueType.BUG, "Summary4", "Note4"));
+		assertTrue(list2.mergeIssues(merged).isEmpty());
+
+		assertEquals(3, list2.getIssues().size());
+		assertEquals(4, list2.getIssues().get(1).getIssueId());
+		assertSame(replacement, list2.getIssues().get(2));
+		assertSame(replacement, list2.getIssueById(7));
+
+		list2.executeCommand(1, new Command(CommandValue.CONFIRM, null, null, "Note"));
+		Issue updated = list2.getIssueById(1);
+		merged.clear();
+		merged.add(new Issue(1, IssueType.BUG, "Summary5", "Note5"));
+		merged.add(new Issue(4, IssueType.BUG, "Summary6", "Note6"));
+		assertEquals(Arrays.asList(1), list2.mergeIssues(merged));
+		assertSame(updated, list2.getIssueById(1));
+		assertEquals("Summary6", list2.getIssueById(4).getSummary());
+
+		// Issues added or deleted since the last save are left as they are too
+		list2.addIssue(new Issue(8, IssueType.BUG, "Local", "Note"));
+		list2.deleteIssueById(4);
+		merged.clear();
+		merged.add(new Issue(8, IssueType.BUG, "Appended", "Note"));
+		merged.add(new Issue(4, IssueType.BUG, "Appended", "Note"));
+		assertEquals(Arrays.asList(8, 4), list2.mergeIssues(merged));
+		assertEquals("Local", list2.getIssueById(8).getSummary());
+		assertNull(list2.getIssueById(4));
+
+		list2.markSaved();
+		assertTrue(list2.mergeIssues(merged).isEmpty());
+		assertEquals("Appended", list2.getIssueById(8).getSummary());
+		assertEquals("Appended", list2.getIssueById(4).getSummary());
+	}
 	
 	/**
 	 * Test the getExecuteCommand() method
@@ -108,4 +233,153 @@ class IssueListTest {
 		list.executeCommand(1, c);
 		assertEquals("Working", list.getIssueById(1).getStateName());
 	}
+
+	/**
+	 * Test the getIssuesByState() and getIssuesByOwner() methods follow commands,
+	 * merges and deletes
+	 */
+	@Test
+	void testSecondaryIndexes() {
+		ArrayList<Issue> list1 = new ArrayList<Issue>();
+		list1.add(new Issue(1, IssueType.BUG, "Summary1", "Note1"));
+		list1.add(new Issue(2, IssueType.ENHANCEMENT, "Summary2", "Note2"));
+		list1.add(new Issue(3, IssueType.BUG, "Summary3", "Note3"));
+		IssueList list = new IssueList();
+		list.addIssues(list1);
+
+		assertEquals(3, list.getIssuesByState(Issue.NEW_NAME).size());
+		assertTrue(list.getIssuesByState(Issue.WORKING_NAME).isEmpty());
+		assertTrue(list.getIssuesByType("Task").isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> list.getIssuesByState(null));
+		assertThrows(IllegalArgumentException.class, () -> list.getIssuesByOwner(null));
+
+		list.executeCommand(2, new Command(CommandValue.ASSIGN, "owner", null, "Note"));
+		assertEquals(2, list.getIssuesByState(Issue.NEW_NAME).size());
+		assertEquals(2, list.getIssuesByState(Issue.WORKING_NAME).get(0).getIssueId());
+		assertEquals(2, list.getIssuesByOwner("owner").get(0).getIssueId());
+
+		// A command that is not valid for the state leaves the issue where it was
+		assertThrows(UnsupportedOperationException.class,
+				() -> list.executeCommand(2, new Command(CommandValue.REOPEN, null, null, "Note")));
+		assertEquals(1, list.getIssuesByState(Issue.WORKING_NAME).size());
+
+		// Issue 2 was updated, so only issue 1 is replaced
+		ArrayList<Issue> merged = new ArrayList<Issue>();
+		merged.add(new Issue(2, IssueType.ENHANCEMENT, "Summary2", "Note2"));
+		merged.add(new Issue(1, IssueType.ENHANCEMENT, "Summary1", "Note1"));
+		merged.add(new Issue(4, IssueType.BUG, "Summary4", "Note4"));
+		list.mergeIssues(merged);
+		assertEquals(2, list.getIssuesByOwner("owner").get(0).getIssueId());
+		assertEquals(3, list.getIssuesByState(Issue.NEW_NAME).size());
+		assertEquals(2, list.getIssuesByType(Issue.I_BUG).size());
+		assertEquals(2, list.getIssuesByType(Issue.I_ENHANCEMENT).size());
+
+		list.deleteIssueById(3);
+		ArrayList<Issue> bugs = list.getIssuesByType(Issue.I_BUG);
+		assertEquals(1, bugs.size());
+		assertEquals(4, bugs.get(0).getIssueId());
+		assertEquals(2, list.getIssuesByState(Issue.NEW_NAME).size());
+	}
+
+	/**
+	 * Test the queryIssues() method follows commands and deletes
+	 */
+	@Test
+	void testQueryIssues() {
+		IssueList list = new IssueList();
+		list.addIssue(IssueType.BUG, "Summary1", "Note1");
+		list.addIssue(IssueType.BUG, "Summary2", "Note2");
+		list.addIssue(IssueType.ENHANCEMENT, "Summary3", "Note3");
+
+		list.executeCommand(2, new Command(CommandValue.CONFIRM, null, null, "Note"));
+		list.executeCommand(2, new Command(CommandValue.ASSIGN, "owner", null, "Note"));
+		ArrayList<Issue> issues = list.queryIssues().type(IssueType.BUG).confirmed(true)
+				.states(Issue.WORKING_NAME, Issue.VERIFYING_NAME).notResolutions(Resolution.WONTFIX).issues();
+		assertEquals(1, issues.size());
+		assertEquals(2, issues.get(0).getIssueId());
+
+		list.deleteIssueById(2);
+		assertEquals(0, list.queryIssues().confirmed(true).count());
+		assertEquals(2, list.queryIssues().states(Issue.NEW_NAME).count());
+	}
+
+	/**
+	 * Test the searchIssues() method follows commands, merges and deletes after
+	 * the first search
+	 */
+	@Test
+	void testSearchIssues() {
+		IssueList list = new IssueList();
+		list.addIssue(IssueType.ENHANCEMENT, "Export to CSV", "Customers asked for it");
+		list.addIssue(IssueType.BUG, "Crash on export", "Stack trace attached");
+
+		assertThrows(IllegalArgumentException.class, () -> list.searchIssues(null));
+		assertEquals(2, list.searchIssues("export").size());
+
+		list.executeCommand(1, new Command(CommandValue.ASSIGN, "owner", null, "Writing the CSV encoder"));
+		assertEquals(1, list.searchIssues("\"csv encoder\"").get(0).getIssueId());
+
+		list.addIssue(IssueType.BUG, "Export drops rows", "Seen twice");
+		assertEquals(3, list.searchIssues("export").size());
+		list.deleteIssueById(2);
+		assertEquals(2, list.searchIssues("export").size());
+
+		ArrayList<Issue> merged = new ArrayList<Issue>();
+		merged.add(new Issue(3, IssueType.ENHANCEMENT, "Import from CSV", "Note"));
+		list.markSaved();
+		list.mergeIssues(merged);
+		assertEquals(1, list.searchIssues("export").size());
+		assertEquals(3, list.searchIssues("import").get(0).getIssueId());
+	}
+
+	/**
+	 * Test the searchSummaryPrefix() method follows adds and deletes after the
+	 * first search
+	 */
+	@Test
+	void testSearchSummaryPrefix() {
+		IssueList list = new IssueList();
+		list.addIssue(IssueType.ENHANCEMENT, "Export to CSV", "Note");
+		list.addIssue(IssueType.BUG, "Crash on export", "Note");
+
+		assertThrows(IllegalArgumentException.class, () -> list.searchSummaryPrefix(null, 10));
+		assertArrayEquals(new int[] { 1, 2 }, list.searchSummaryPrefix("exp", 10));
+
+		list.addIssue(IssueType.BUG, "Expired session", "Note");
+		list.deleteIssueById(1);
+		assertArrayEquals(new int[] { 2, 3 }, list.searchSummaryPrefix("exp", 10));
+	}
+
+	/**
+	 * Test that a list backed by columns is changed and queried like a list of
+	 * Issue objects, and rejects the queries that need the secondary indexes
+	 */
+	@Test
+	void testColumnBackend() {
+		ArrayList<Issue> list1 = new ArrayList<Issue>();
+		list1.add(new Issue(1, IssueType.BUG, "Summary1", "Note1"));
+		list1.add(new Issue(2, IssueType.ENHANCEMENT, "Summary2", "Note2"));
+		IssueList list = new IssueList(IssueColumns.of(list1));
+		assertTrue(list.isColumnar());
+		assertEquals(3, list.addIssue(IssueType.BUG, "Summary3", "Note3"));
+
+		list.executeCommand(1, new Command(CommandValue.CONFIRM, null, null, "Confirmed"));
+		list.executeCommand(2, new Command(CommandValue.ASSIGN, "owner", null, "Assigned"));
+		assertEquals(Issue.CONFIRMED_NAME, list.getIssueById(1).getStateName());
+		assertEquals(2, list.getIssueById(1).getNotes().size());
+		assertEquals(1, list.getIssuesByState(Issue.CONFIRMED_NAME).size());
+		assertEquals(2, list.getIssuesByOwner("owner").get(0).getIssueId());
+		assertEquals(2, list.getIssuesByType(Issue.I_BUG).size());
+		assertEquals(1, list.countIssuesByState().get(Issue.NEW_NAME));
+
+		list.deleteIssueById(3);
+		list.mergeIssues(Arrays.asList(new Issue(4, IssueType.BUG, "Summary4", "Note4")));
+		assertEquals(3, list.getIssues().size());
+		assertEquals(4, list.getIssues().get(2).getIssueId());
+
+		assertThrows(UnsupportedOperationException.class, () -> list.queryIssues());
+		assertThrows(UnsupportedOperationException.class, () -> list.searchIssues("Summary1"));
+		assertThrows(UnsupportedOperationException.class, () -> list.searchSummaryPrefix("Sum", 10));
+		assertFalse(new IssueList().isColumnar());
+	}
 }
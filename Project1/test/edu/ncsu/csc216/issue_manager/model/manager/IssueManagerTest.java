@@ -2,12 +2,32 @@ package edu.ncsu.csc216.issue_manager.model.manager;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import org.junit.jupiter.api.Test;
 
 import edu.ncsu.csc216.issue_manager.model.command.Command;
 import edu.ncsu.csc216.issue_manager.model.command.Command.CommandValue;
 import edu.ncsu.csc216.issue_manager.model.command.Command.Resolution;
+import edu.ncsu.csc216.issue_manager.model.io.IssueBinaryFormat;
+import edu.ncsu.csc216.issue_manager.model.io.IssueMerger.DuplicatePolicy;
+import edu.ncsu.csc216.issue_manager.model.io.IssueReader;
+import edu.ncsu.csc216.issue_manager.model.io.IssueRecovery;
+import edu.ncsu.csc216.issue_manager.model.io.IssueShardStore;
+import edu.ncsu.csc216.issue_manager.model.io.IssueWriter;
 import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
 
 /**
  * Test the IssueManager class
@@ -45,5 +65,488 @@ class IssueManagerTest {
 		issueManager.executeCommand(2, c);
 				
 	}
-	
+
+	/**
+	 * Test journaling keeps changes made after a load without saving the file
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testJournaling() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		File journalFile = IssueJournal.getJournalFile(file.getPath());
+		journalFile.deleteOnExit();
+		Files.copy(Paths.get("test-files/issue1.txt"), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		IssueManager issueManager = IssueManager.getInstance();
+		issueManager.setJournaling(true);
+		try {
+			issueManager.loadIssuesFromFile(file.getPath());
+			issueManager.addIssueToList(Issue.IssueType.BUG, "Summary", "Note");
+			issueManager.executeCommand(1, new Command(CommandValue.ASSIGN, "Yash", null, "Command note"));
+			issueManager.deleteIssueById(3);
+
+			issueManager.loadIssuesFromFile(file.getPath());
+			assertEquals(5, issueManager.getIssueListAsArray().length);
+			assertEquals("Working", issueManager.getIssueById(1).getStateName());
+			assertNull(issueManager.getIssueById(3));
+			assertEquals("Summary", issueManager.getIssueById(6).getSummary());
+
+			issueManager.saveIssuesToFile(file.getPath());
+			assertEquals(0, journalFile.length());
+			issueManager.loadIssuesFromFile(file.getPath());
+			assertEquals(5, issueManager.getIssueListAsArray().length);
+		} finally {
+			issueManager.setJournaling(false);
+			issueManager.createNewIssueList();
+		}
+	}
+
+	/**
+	 * Test a checkpoint writes the file and empties the journal once it passes the
+	 * record threshold
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testCheckpoint() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		File journalFile = IssueJournal.getJournalFile(file.getPath());
+		journalFile.deleteOnExit();
+		Files.copy(Paths.get("test-files/issue1.txt"), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		IssueManager issueManager = IssueManager.getInstance();
+		issueManager.setJournaling(true);
+		issueManager.setCheckpointThresholds(2, IssueManager.CHECKPOINT_BYTES);
+		try {
+			issueManager.loadIssuesFromFile(file.getPath());
+			issueManager.addIssueToList(Issue.IssueType.BUG, "Summary", "Note");
+			issueManager.executeCommand(1, new Command(CommandValue.ASSIGN, "Yash", null, "Command note"));
+			issueManager.deleteIssueById(3);
+			issueManager.awaitCheckpoint();
+
+			assertFalse(IssueJournal.getOldJournalFile(file.getPath()).exists());
+			assertEquals(6, IssueReader.readIssuesFromFile(file.getPath()).size());
+
+			issueManager.loadIssuesFromFile(file.getPath());
+			assertEquals(5, issueManager.getIssueListAsArray().length);
+			assertEquals("Working", issueManager.getIssueById(1).getStateName());
+			assertEquals(2, issueManager.getIssueById(1).getNotes().size());
+			assertNull(issueManager.getIssueById(3));
+		} finally {
+			issueManager.setCheckpointThresholds(IssueManager.CHECKPOINT_RECORDS, IssueManager.CHECKPOINT_BYTES);
+			issueManager.setJournaling(false);
+			issueManager.createNewIssueList();
+		}
+	}
+
+	/**
+	 * Test loading a file with lazy notes and saving over the same file before
+	 * every note has been read
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testLazyNotes() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		new File(file.getPath() + ".tmp").deleteOnExit();
+		Files.copy(Paths.get("test-files/issue1.txt"), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		IssueManager issueManager = IssueManager.getInstance();
+		issueManager.setLazyNotes(true);
+		try {
+			issueManager.loadIssuesFromFile(file.getPath());
+			assertEquals(5, issueManager.getIssueListAsArray().length);
+			issueManager.executeCommand(1, new Command(CommandValue.ASSIGN, "Yash", null, "Command note"));
+			issueManager.saveIssuesToFile(file.getPath());
+
+			issueManager.setLazyNotes(false);
+			issueManager.loadIssuesFromFile(file.getPath());
+			assertEquals(2, issueManager.getIssueById(1).getNotes().size());
+			assertEquals("-[New] Note 1\n-[Confirmed] Note 2\nthat goes on a new line\n",
+					issueManager.getIssueById(3).getNotesString());
+		} finally {
+			issueManager.setLazyNotes(false);
+			issueManager.createNewIssueList();
+		}
+	}
+
+	/**
+	 * Test saving a list with lazy notes, in the text and binary formats and in
+	 * the background, writes every note but leaves the notes unloaded
+	 * 
+	 * @throws IOException if the temporary files cannot be created
+	 */
+	@Test
+	void testSaveKeepsLazyNotesUnloaded() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		Files.copy(Paths.get("test-files/issue1.txt"), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		File textCopy = File.createTempFile("issues", ".txt");
+		textCopy.deleteOnExit();
+		File binaryCopy = File.createTempFile("issues", IssueBinaryFormat.EXTENSION);
+		binaryCopy.deleteOnExit();
+		File asyncCopy = File.createTempFile("issues", ".txt");
+		asyncCopy.deleteOnExit();
+
+		IssueManager issueManager = IssueManager.getInstance();
+		issueManager.setLazyNotes(true);
+		try {
+			issueManager.loadIssuesFromFile(file.getPath());
+			issueManager.saveIssuesToFile(textCopy.getPath());
+			issueManager.saveIssuesToFile(binaryCopy.getPath());
+			issueManager.saveIssuesToFileAsync(asyncCopy.getPath()).join();
+			for (int id : new int[] {1, 3, 7, 14, 15}) {
+				assertFalse(issueManager.getIssueById(id).isNotesLoaded());
+			}
+			String notes = issueManager.getIssueById(3).getNotesString();
+			assertTrue(issueManager.getIssueById(3).isNotesLoaded());
+
+			issueManager.setLazyNotes(false);
+			for (File copy : Arrays.asList(textCopy, binaryCopy, asyncCopy)) {
+				issueManager.loadIssuesFromFile(copy.getPath());
+				assertEquals(notes, issueManager.getIssueById(3).getNotesString());
+			}
+		} finally {
+			issueManager.setLazyNotes(false);
+			issueManager.createNewIssueList();
+		}
+	}
+
+	/**
+	 * Test a background save writes the list as it was when the save started
+	 * while the list keeps changing, and reports failures through its future
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testSaveIssuesToFileAsync() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+
+		IssueManager issueManager = IssueManager.getInstance();
+		try {
+			issueManager.loadIssuesFromFile("test-files/issue1.txt");
+			Issue issue1 = issueManager.getIssueById(1);
+			CompletableFuture<Void> save;
+			// Holding the lock of the first Issue keeps the save from finishing
+			synchronized (issue1) {
+				save = issueManager.saveIssuesToFileAsync(file.getPath());
+				issueManager.executeCommand(1, new Command(CommandValue.ASSIGN, "Yash", null, "Command note"));
+				issueManager.addIssueToList(Issue.IssueType.BUG, "Summary", "Note");
+				issueManager.deleteIssueById(3);
+			}
+			save.join();
+
+			ArrayList<Issue> saved = IssueReader.readIssuesFromFile(file.getPath());
+			assertEquals(5, saved.size());
+			assertEquals("New", saved.get(0).getStateName());
+			assertEquals(1, saved.get(0).getNotes().size());
+			assertEquals(3, saved.get(1).getIssueId());
+			assertEquals("Working", issueManager.getIssueById(1).getStateName());
+			assertEquals(2, issueManager.getIssueById(1).getNotes().size());
+
+			CompletableFuture<Void> failed = issueManager.saveIssuesToFileAsync("test-files/missing/issues.txt");
+			CompletionException e = assertThrows(CompletionException.class, () -> failed.join());
+			assertEquals("File cannot be saved.", e.getCause().getMessage());
+		} finally {
+			issueManager.createNewIssueList();
+		}
+	}
+
+	/**
+	 * Test saving to and loading from a shard directory
+	 * 
+	 * @throws IOException if the temporary directory cannot be created
+	 */
+	@Test
+	void testShards() throws IOException {
+		File directory = Files.createTempDirectory("shards").toFile();
+
+		IssueManager issueManager = IssueManager.getInstance();
+		try {
+			issueManager.loadIssuesFromFile("test-files/issue1.txt");
+			issueManager.saveIssuesToFile(directory.getPath());
+			assertTrue(new File(directory, IssueShardStore.MANIFEST).exists());
+
+			issueManager.loadIssuesFromFile(directory.getPath());
+			assertEquals(5, issueManager.getIssueListAsArray().length);
+			issueManager.executeCommand(1, new Command(CommandValue.ASSIGN, "Yash", null, "Command note"));
+			issueManager.deleteIssueById(3);
+			issueManager.saveIssuesToFile(directory.getPath());
+
+			issueManager.loadIssuesFromFile(directory.getPath());
+			assertEquals(4, issueManager.getIssueListAsArray().length);
+			assertEquals("Working", issueManager.getIssueById(1).getStateName());
+			assertNull(issueManager.getIssueById(3));
+		} finally {
+			issueManager.createNewIssueList();
+			for (File file : directory.listFiles()) {
+				file.delete();
+			}
+			directory.delete();
+		}
+	}
+
+	/**
+	 * Test that a directory without a shard manifest is neither loaded nor
+	 * written to
+	 * 
+	 * @throws IOException if the temporary directory cannot be created
+	 */
+	@Test
+	void testOrdinaryDirectory() throws IOException {
+		File directory = Files.createTempDirectory("ordinary").toFile();
+		File other = new File(directory, "other.txt");
+		Files.write(other.toPath(), "Not an issue file\n".getBytes(StandardCharsets.UTF_8));
+
+		IssueManager issueManager = IssueManager.getInstance();
+		try {
+			Exception e = assertThrows(IllegalArgumentException.class,
+					() -> issueManager.loadIssuesFromFile(directory.getPath()));
+			assertEquals("File not able to load issues.", e.getMessage());
+			assertThrows(IllegalArgumentException.class,
+					() -> issueManager.loadIssueColumnsFromFile(directory.getPath()));
+			assertThrows(IllegalArgumentException.class,
+					() -> issueManager.loadIssuesFromFiles(Arrays.asList(directory.getPath()), DuplicatePolicy.REJECT));
+
+			issueManager.loadIssuesFromFile("test-files/issue1.txt");
+			assertThrows(IllegalArgumentException.class, () -> issueManager.saveIssuesToFile(directory.getPath()));
+			assertEquals(1, directory.list().length);
+			assertFalse(new File(directory, IssueShardStore.MANIFEST).exists());
+		} finally {
+			issueManager.createNewIssueList();
+			other.delete();
+			directory.delete();
+		}
+	}
+
+	/**
+	 * Test that changes to a list loaded into columns are written to the shards
+	 * they belong to and logged to the journal
+	 * 
+	 * @throws IOException if the temporary files cannot be created
+	 */
+	@Test
+	void testIssueColumnsShardsAndJournal() throws IOException {
+		File directory = Files.createTempDirectory("shards").toFile();
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		IssueJournal.getJournalFile(file.getPath()).deleteOnExit();
+		Files.copy(Paths.get("test-files/issue1.txt"), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		IssueManager issueManager = IssueManager.getInstance();
+		try {
+			issueManager.loadIssueColumnsFromFile("test-files/issue1.txt");
+			issueManager.saveIssuesToFile(directory.getPath());
+			issueManager.executeCommand(1, new Command(CommandValue.ASSIGN, "Yash", null, "Command note"));
+			issueManager.deleteIssueById(3);
+			issueManager.saveIssuesToFile(directory.getPath());
+
+			issueManager.loadIssuesFromFile(directory.getPath());
+			assertEquals(4, issueManager.getIssueListAsArray().length);
+			assertEquals("Working", issueManager.getIssueById(1).getStateName());
+			assertNull(issueManager.getIssueById(3));
+
+			issueManager.setJournaling(true);
+			issueManager.loadIssueColumnsFromFile(file.getPath());
+			issueManager.addIssueToList(IssueType.BUG, "Summary", "Note");
+			issueManager.executeCommand(1, new Command(CommandValue.ASSIGN, "Yash", null, "Command note"));
+			issueManager.deleteIssueById(3);
+
+			issueManager.loadIssueColumnsFromFile(file.getPath());
+			assertEquals(5, issueManager.getIssueListAsArray().length);
+			assertEquals("Working", issueManager.getIssueById(1).getStateName());
+			assertEquals(2, issueManager.getIssueById(1).getNotes().size());
+			assertNull(issueManager.getIssueById(3));
+			assertEquals("Summary", issueManager.getIssueById(6).getSummary());
+		} finally {
+			issueManager.setJournaling(false);
+			issueManager.createNewIssueList();
+			for (File shard : directory.listFiles()) {
+				shard.delete();
+			}
+			directory.delete();
+		}
+	}
+
+	/**
+	 * Test that records appended to the loaded file are merged into the list
+	 * without loading the file again, and that a file replaced by another save
+	 * is loaded again
+	 * @throws IOException if the test file cannot be copied
+	 */
+	@Test
+	void testReloadAppendedIssues() throws IOException {
+		File file = new File("test-files/actual_reload.txt");
+		Files.copy(Paths.get("test-files/issue1.txt"), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		IssueManager issueManager = IssueManager.getInstance();
+		try {
+			issueManager.loadIssuesFromFile(file.getPath());
+			Issue unchanged = issueManager.getIssueById(14);
+			issueManager.executeCommand(1, new Command(CommandValue.ASSIGN, "Yash", null, "Command note"));
+			assertEquals(0, issueManager.reloadAppendedIssues());
+
+			Files.write(file.toPath(), "\n-[Closed] Appended note\n*20,New,Bug,Appended,,false,\n-[New] Note\n*21,New,Bug,Partial,,false,\n"
+					.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+			assertEquals(2, issueManager.reloadAppendedIssues());
+			assertEquals(6, issueManager.getIssueListAsArray().length);
+			assertEquals(6, issueManager.getIssueById(15).getNotes().size());
+			assertEquals("Appended", issueManager.getIssueById(20).getSummary());
+			assertNull(issueManager.getIssueById(21));
+			// Issues that were not appended to are left as they are
+			assertSame(unchanged, issueManager.getIssueById(14));
+			assertEquals("Working", issueManager.getIssueById(1).getStateName());
+
+			Files.write(file.toPath(), "-[New] Note\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+			assertEquals(1, issueManager.reloadAppendedIssues());
+			assertEquals("Partial", issueManager.getIssueById(21).getSummary());
+			assertTrue(issueManager.getReloadConflicts().isEmpty());
+
+			// Issue 1 has a command that was not saved, so it is kept
+			Files.write(file.toPath(), "*1,New,Enhancement,Appended,,false,\n-[New] Note\n*7,New,Bug,Appended,,false,\n-[New] Note\n"
+					.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+			assertEquals(1, issueManager.reloadAppendedIssues());
+			assertEquals(Arrays.asList(1), issueManager.getReloadConflicts());
+			assertEquals("Working", issueManager.getIssueById(1).getStateName());
+			assertEquals("Appended", issueManager.getIssueById(7).getSummary());
+
+			// An Issue added in the list and not saved is kept over another program's record with its ID
+			issueManager.addIssueToList(IssueType.BUG, "My local unsaved issue", "Note");
+			Files.write(file.toPath(), "*8,New,Bug,Other tool,,false,\n-[New] Note\n"
+					.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+			assertEquals(0, issueManager.reloadAppendedIssues());
+			assertEquals(Arrays.asList(8), issueManager.getReloadConflicts());
+			assertEquals("My local unsaved issue", issueManager.getIssueById(8).getSummary());
+
+			Files.copy(Paths.get("test-files/issue1.txt"), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			assertEquals(5, issueManager.reloadAppendedIssues());
+			assertNull(issueManager.getIssueById(20));
+		} finally {
+			issueManager.createNewIssueList();
+			Files.deleteIfExists(file.toPath());
+		}
+	}
+
+	/**
+	 * Test loading several sorted files into one list
+	 * @throws IOException if a test file cannot be written
+	 */
+	@Test
+	void testLoadIssuesFromFiles() throws IOException {
+		File extra = new File("test-files/actual_merge.bin");
+		ArrayList<Issue> issues = new ArrayList<Issue>();
+		issues.add(new Issue(2, IssueType.BUG, "Second", "Note"));
+		issues.add(new Issue(7, IssueType.BUG, "Duplicate", "Note"));
+		issues.add(new Issue(30, IssueType.BUG, "Last", "Note"));
+		IssueWriter.writeIssuesToFile(extra.getPath(), issues);
+
+		IssueManager issueManager = IssueManager.getInstance();
+		try {
+			issueManager.loadIssuesFromFiles(Arrays.asList("test-files/issue1.txt", extra.getPath()),
+					DuplicatePolicy.KEEP_FIRST);
+			assertEquals(7, issueManager.getIssueListAsArray().length);
+			assertEquals(2, issueManager.getIssueListAsArray()[1][0]);
+			assertEquals(30, issueManager.getIssueListAsArray()[6][0]);
+			assertEquals("Issue description", issueManager.getIssueById(7).getSummary());
+
+			issueManager.loadIssuesFromFiles(Arrays.asList("test-files/issue1.txt", extra.getPath()),
+					DuplicatePolicy.KEEP_LAST);
+			assertEquals("Duplicate", issueManager.getIssueById(7).getSummary());
+
+			assertThrows(IllegalArgumentException.class, () -> issueManager.loadIssuesFromFiles(
+					Arrays.asList("test-files/issue1.txt", extra.getPath()), DuplicatePolicy.REJECT));
+			assertEquals(0, issueManager.getIssueListAsArray().length);
+		} finally {
+			issueManager.createNewIssueList();
+			Files.deleteIfExists(extra.toPath());
+		}
+	}
+
+	/**
+	 * Test saving with checksums and recovering a file whose last record was cut off
+	 * @throws IOException if the test file cannot be changed
+	 */
+	@Test
+	void testRecoverIssuesFromFile() throws IOException {
+		File file = new File("test-files/actual_recover.txt");
+		IssueManager issueManager = IssueManager.getInstance();
+		try {
+			issueManager.loadIssuesFromFile("test-files/issue1.txt");
+			issueManager.setChecksums(true);
+			issueManager.saveIssuesToFile(file.getPath());
+			byte[] bytes = Files.readAllBytes(file.toPath());
+			Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 12));
+
+			IssueRecovery recovery = issueManager.recoverIssuesFromFile(file.getPath());
+			assertEquals(Arrays.asList(15), recovery.getDroppedIds());
+			assertEquals(4, issueManager.getIssueListAsArray().length);
+			assertNull(issueManager.getIssueById(15));
+		} finally {
+			issueManager.setChecksums(false);
+			issueManager.createNewIssueList();
+			Files.deleteIfExists(file.toPath());
+		}
+	}
+
+	/**
+	 * Test loading a file into columns answers the table queries the same as
+	 * loading it as Issues, and that changes are written back to the columns
+	 * and saved
+	 * 
+	 * @throws IOException if the temporary file cannot be created
+	 */
+	@Test
+	void testLoadIssueColumnsFromFile() throws IOException {
+		File file = File.createTempFile("issues", ".txt");
+		file.deleteOnExit();
+		IssueManager issueManager = IssueManager.getInstance();
+		try {
+			issueManager.loadIssuesFromFile("test-files/issue1.txt");
+			Object[][] expected = issueManager.getIssueListAsArray();
+			Object[][] expectedWorking = issueManager.getIssueListAsArrayByState(Issue.WORKING_NAME);
+			Map<String, Integer> expectedCounts = issueManager.countIssuesByState();
+			String expectedIssue = issueManager.getIssueById(3).toString();
+
+			issueManager.loadIssueColumnsFromFile("test-files/issue1.txt");
+			assertArrayEquals(expected, issueManager.getIssueListAsArray());
+			assertArrayEquals(expectedWorking, issueManager.getIssueListAsArrayByState(Issue.WORKING_NAME));
+			assertEquals(expectedCounts, issueManager.countIssuesByState());
+			assertEquals(1, issueManager.countIssuesByState().get(Issue.NEW_NAME));
+			assertEquals(expectedIssue, issueManager.getIssueById(3).toString());
+			assertNull(issueManager.getIssueById(2));
+
+			issueManager.executeCommand(1, new Command(CommandValue.ASSIGN, "yash", null, "Assigned"));
+			assertEquals(Issue.WORKING_NAME, issueManager.getIssueById(1).getStateName());
+			assertEquals(2, issueManager.countIssuesByState().get(Issue.WORKING_NAME));
+			issueManager.deleteIssueById(14);
+			issueManager.addIssueToList(IssueType.BUG, "Added summary", "Added note");
+			assertEquals(6, issueManager.getIssueListAsArray()[2][0]);
+			assertEquals(3, issueManager.getIssueListAsArrayByIssueType(Issue.I_BUG).length);
+			assertEquals(2, issueManager.getIssueListAsArrayByOwner("owner").length);
+			issueManager.saveIssuesToFile(file.getPath());
+
+			issueManager.loadIssuesFromFile(file.getPath());
+			assertEquals(5, issueManager.getIssueListAsArray().length);
+			assertEquals("yash", issueManager.getIssueById(1).getOwner());
+			assertEquals(2, issueManager.getIssueById(1).getNotes().size());
+			assertNull(issueManager.getIssueById(14));
+			assertEquals("Added summary", issueManager.getIssueById(6).getSummary());
+
+			issueManager.loadIssueColumnsFromFile(file.getPath());
+			assertThrows(UnsupportedOperationException.class, () -> issueManager.queryIssues());
+			assertThrows(UnsupportedOperationException.class, () -> issueManager.searchIssues("Note"));
+			assertThrows(UnsupportedOperationException.class,
+					() -> issueManager.getIssueListAsArrayByPrefix("Issue", 10));
+
+			assertThrows(IllegalArgumentException.class,
+					() -> issueManager.loadIssueColumnsFromFile("test-files/no_such_file.txt"));
+		} finally {
+			issueManager.createNewIssueList();
+		}
+	}
 }
@@ -0,0 +1,83 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Test the IssuePrefixIndex class
+ *
+ * @author yash
+ *
+ */
+class IssuePrefixIndexTest {
+
+	/**
+	 * Test the search() method returns the lowest matching IDs in order
+	 */
+	@Test
+	void testSearch() {
+		IssuePrefixIndex index = new IssuePrefixIndex();
+		index.add(new Issue(7, IssueType.BUG, "Export fails for exported files", "Note"));
+		index.add(new Issue(2, IssueType.ENHANCEMENT, "Export to CSV", "Note"));
+		index.add(new Issue(5, IssueType.BUG, "Crash when sorting", "Note"));
+		index.add(new Issue(9, IssueType.ENHANCEMENT, "Expand the table", "Note"));
+
+		assertArrayEquals(new int[] { 2, 7, 9 }, index.search("ex", 10));
+		assertArrayEquals(new int[] { 2, 7 }, index.search("EXPORT", 10));
+		assertArrayEquals(new int[] { 2 }, index.search("ex", 1));
+		assertArrayEquals(new int[] { 2 }, index.search("exp cs", 10));
+		assertArrayEquals(new int[] { 7 }, index.search("f export", 10));
+		assertArrayEquals(new int[0], index.search("missing", 10));
+		assertArrayEquals(new int[0], index.search(" ", 10));
+		assertArrayEquals(new int[0], index.search("ex", 0));
+	}
+
+	/**
+	 * Test the remove() method and replacing an issue with the same ID
+	 */
+	@Test
+	void testRemove() {
+		IssuePrefixIndex index = new IssuePrefixIndex();
+		Issue issue = new Issue(1, IssueType.BUG, "Slow load", "Note");
+		index.add(issue);
+		index.add(new Issue(2, IssueType.BUG, "Slow save", "Note"));
+
+		index.remove(new Issue(1, IssueType.BUG, "Slow load", "Note"));
+		assertArrayEquals(new int[] { 1, 2 }, index.search("slow", 10));
+		assertArrayEquals(new int[] { 1, 2 }, index.search("s", 10));
+		index.remove(issue);
+		assertArrayEquals(new int[] { 2 }, index.search("slow", 10));
+		assertArrayEquals(new int[] { 2 }, index.search("s", 10));
+		assertArrayEquals(new int[0], index.search("load", 10));
+		assertArrayEquals(new int[0], index.search("lo", 10));
+
+		index.add(new Issue(2, IssueType.BUG, "Fast save", "Note"));
+		assertArrayEquals(new int[0], index.search("slow", 10));
+		assertArrayEquals(new int[] { 2 }, index.search("fa", 10));
+	}
+
+	/**
+	 * Test the lowest IDs kept for a short prefix follow adds, and that a larger
+	 * limit than they hold walks the trie
+	 */
+	@Test
+	void testShortPrefix() {
+		IssuePrefixIndex index = new IssuePrefixIndex();
+		for (int id = 300; id > 0; id--) {
+			index.add(new Issue(id, IssueType.BUG, "Table " + id, "Note"));
+		}
+		int[] ids = index.search("t", 3);
+		assertArrayEquals(new int[] { 1, 2, 3 }, ids);
+
+		index.add(new Issue(400, IssueType.BUG, "Thread pool", "Note"));
+		assertEquals(IssuePrefixIndex.TOP_SIZE, index.search("t", IssuePrefixIndex.TOP_SIZE).length);
+		assertEquals(301, index.search("t", 1000).length);
+		assertEquals(400, index.search("th", 10)[0]);
+		assertEquals(11, index.search("25", 20).length);
+		assertArrayEquals(new int[] { 300 }, index.search("300", 10));
+	}
+}
@@ -0,0 +1,130 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+
+/**
+ * Microbenchmark for searching an IssueList. Builds a list with NOTES notes in
+ * total, then prints how long the first search takes to index it and how long
+ * term and phrase searches take after that. Then builds a list of
+ * PREFIX_ISSUES summaries and does the same for typeahead prefix searches. Run
+ * it as a Java application rather than as a JUnit test.
+ *
+ * @author yash
+ *
+ */
+public class IssueSearchBenchmark {
+
+	/** Number of issues in the list */
+	private static final int ISSUES = 100000;
+	/** Number of notes on each issue */
+	private static final int NOTES_PER_ISSUE = 10;
+	/** Number of times each query is timed */
+	private static final int ROUNDS = 20;
+	/** Number of issues in the list for prefix searches */
+	private static final int PREFIX_ISSUES = 500000;
+	/** Number of distinct ticket tokens in the summaries for prefix searches */
+	private static final int TICKETS = 100000;
+	/** Number of times each prefix query is timed */
+	private static final int PREFIX_ROUNDS = 1000;
+	/** Most IDs a prefix search returns, as many as the typeahead shows */
+	private static final int PREFIX_LIMIT = 100;
+	/** Words notes are made of */
+	private static final String[] WORDS = { "crash", "save", "owner", "null", "export", "parser", "window", "file",
+			"slow", "button", "table", "filter", "load", "sort", "error", "thread" };
+
+	/**
+	 * Runs the benchmark
+	 *
+	 * @param args not used
+	 */
+	public static void main(String[] args) {
+		Random random = new Random(216);
+		ArrayList<Issue> issues = new ArrayList<Issue>(ISSUES);
+		for (int id = 1; id <= ISSUES; id++) {
+			ArrayList<String> notes = new ArrayList<String>(NOTES_PER_ISSUE);
+			for (int i = 0; i < NOTES_PER_ISSUE; i++) {
+				notes.add("[New] " + sentence(random, 8) + " ticket" + random.nextInt(ISSUES));
+			}
+			issues.add(new Issue(id, Issue.NEW_NAME, Issue.I_BUG, sentence(random, 5), null, false, null, notes));
+		}
+		IssueList list = new IssueList();
+		list.addIssues(issues);
+
+		long start = System.nanoTime();
+		list.searchIssues("crash");
+		System.out.printf("index %,d notes: %8.1f ms%n", ISSUES * NOTES_PER_ISSUE, (System.nanoTime() - start) / 1e6);
+
+		String[] queries = { "ticket42", "crash", "crash save", "\"null owner\"", "\"export parser window\"",
+				"\"slow button\" ticket7" };
+		for (String query : queries) {
+			int count = 0;
+			start = System.nanoTime();
+			for (int i = 0; i < ROUNDS; i++) {
+				count = list.searchIssues(query).size();
+			}
+			System.out.printf("%-28s %8d issues %8.2f ms%n", query, count, (System.nanoTime() - start) / 1e6 / ROUNDS);
+		}
+		issues = null;
+		list = null;
+
+		prefixBenchmark(random);
+	}
+
+	/**
+	 * Times prefix searches over the summaries of PREFIX_ISSUES issues, each of
+	 * which has a ticket token, so the index holds about TICKETS distinct tokens
+	 *
+	 * @param random Random to make the summaries with
+	 */
+	private static void prefixBenchmark(Random random) {
+		ArrayList<Issue> issues = new ArrayList<Issue>(PREFIX_ISSUES);
+		for (int id = 1; id <= PREFIX_ISSUES; id++) {
+			ArrayList<String> notes = new ArrayList<String>(1);
+			notes.add("[New] Note");
+			issues.add(new Issue(id, Issue.NEW_NAME, Issue.I_BUG,
+					sentence(random, 4) + " ticket" + random.nextInt(TICKETS), null, false, null, notes));
+		}
+		IssueList list = new IssueList();
+		list.addIssues(issues);
+
+		long start = System.nanoTime();
+		list.searchSummaryPrefix("e", PREFIX_LIMIT);
+		System.out.printf("index %,d summaries: %8.1f ms%n", PREFIX_ISSUES, (System.nanoTime() - start) / 1e6);
+
+		String[] queries = { "e", "ex", "exp", "t", "ticket", "ticket4", "ticket4242", "ex cr", "sl bu",
+				"ticket1 th" };
+		for (String query : queries) {
+			for (int i = 0; i < PREFIX_ROUNDS; i++) {
+				list.searchSummaryPrefix(query, PREFIX_LIMIT);
+			}
+			int count = 0;
+			start = System.nanoTime();
+			for (int i = 0; i < PREFIX_ROUNDS; i++) {
+				count = list.searchSummaryPrefix(query, PREFIX_LIMIT).length;
+			}
+			System.out.printf("prefix %-21s %8d issues %8.2f us%n", query, count,
+					(System.nanoTime() - start) / 1e3 / PREFIX_ROUNDS);
+		}
+	}
+
+	/**
+	 * Makes a sentence of random words
+	 *
+	 * @param random Random to pick the words with
+	 * @param length number of words
+	 * @return sentence the words separated by spaces
+	 */
+	private static String sentence(Random random, int length) {
+		StringBuilder sentence = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			if (i > 0) {
+				sentence.append(' ');
+			}
+			sentence.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return sentence.toString();
+	}
+}
@@ -0,0 +1,82 @@
+package edu.ncsu.csc216.issue_manager.model.manager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.issue_manager.model.command.Command;
+import edu.ncsu.csc216.issue_manager.model.command.Command.CommandValue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue;
+import edu.ncsu.csc216.issue_manager.model.issue.Issue.IssueType;
+
+/**
+ * Test the IssueTextIndex class
+ *
+ * @author yash
+ *
+ */
+class IssueTextIndexTest {
+
+	/**
+	 * Test the tokenize() method
+	 */
+	@Test
+	void testTokenize() {
+		assertEquals(Arrays.asList("null", "owner", "crash", "2"), IssueTextIndex.tokenize(" Null-owner CRASH (#2)."));
+		assertTrue(IssueTextIndex.tokenize("--").isEmpty());
+	}
+
+	/**
+	 * Test the search() method with terms and phrases in summaries and notes
+	 */
+	@Test
+	void testSearch() {
+		IssueTextIndex index = new IssueTextIndex();
+		Issue first = new Issue(1, IssueType.BUG, "Crash on save", "Owner is null when saving");
+		Issue second = new Issue(2, IssueType.ENHANCEMENT, "Save on exit", "Null checks for owner");
+		index.add(first);
+		index.add(second);
+
+		assertEquals(Arrays.asList(first, second), index.search("save"));
+		assertEquals(Arrays.asList(first, second), index.search("NULL owner"));
+		assertEquals(Arrays.asList(first), index.search("\"owner is null\""));
+		assertEquals(Arrays.asList(second), index.search("\"save on\" exit"));
+		assertTrue(index.search("\"null owner\"").isEmpty());
+		assertTrue(index.search("missing").isEmpty());
+		assertTrue(index.search("").isEmpty());
+		// A phrase does not run from the summary into a note
+		assertTrue(index.search("\"save owner\"").isEmpty());
+		// The state a note was added in is not part of its text
+		assertTrue(index.search("new").isEmpty());
+	}
+
+	/**
+	 * Test the addNotes() and remove() methods keep searches up to date
+	 */
+	@Test
+	void testAddNotesAndRemove() {
+		IssueTextIndex index = new IssueTextIndex();
+		Issue issue = new Issue(1, IssueType.ENHANCEMENT, "Summary", "Note");
+		index.add(issue);
+		Issue other = new Issue(2, IssueType.ENHANCEMENT, "Summary", "Note");
+		index.add(other);
+		int noteCount = issue.getNotes().size();
+		issue.update(new Command(CommandValue.ASSIGN, "owner", null, "Started the parser rewrite"));
+		index.addNotes(issue, noteCount);
+
+		assertEquals(Arrays.asList(issue), index.search("\"parser rewrite\""));
+		assertEquals(2, index.search("summary").size());
+
+		index.remove(other);
+		ArrayList<Issue> issues = index.search("summary");
+		assertEquals(1, issues.size());
+		assertSame(issue, issues.get(0));
+		index.remove(issue);
+		assertTrue(index.search("summary").isEmpty());
+		index.add(other);
+		assertSame(other, index.search("note").get(0));
+	}
+}